@@ -0,0 +1,97 @@
+package com.blog.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 경로 비교
+ *
+ * - legacyParsePerCall: 호출마다 키/파서를 새로 만들고 검증/사용자명/만료 시간을 위해 3번 파싱 (변경 전 경로)
+ * - parseOnce: 미리 만든 키/파서로 한 번만 파싱
+ * - cachedClaims: 최근 검증한 토큰의 클레임 캐시 사용
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtTokenProviderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class JwtTokenProviderBenchmark {
+
+	private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256-signing";
+	private static final int TOKEN_COUNT = 1024;
+
+	private JwtTokenProvider provider;
+	private String[] tokens;
+
+	@Setup
+	public void setUp() {
+		provider = new JwtTokenProvider(null);
+		ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+		ReflectionTestUtils.setField(provider, "expiration", TimeUnit.HOURS.toMillis(1));
+		ReflectionTestUtils.setField(provider, "refreshExpiration", TimeUnit.DAYS.toMillis(7));
+		ReflectionTestUtils.setField(provider, "claimsCacheMaxSize", 10_000L);
+		provider.init();
+
+		tokens = new String[TOKEN_COUNT];
+		for (int i = 0; i < TOKEN_COUNT; i++) {
+			tokens[i] = provider.generateAccessToken("user" + i);
+		}
+	}
+
+	@Benchmark
+	public void legacyParsePerCall(Blackhole blackhole) {
+		String token = nextToken();
+		blackhole.consume(legacyParse(token));
+		blackhole.consume(legacyParse(token).getSubject());
+		blackhole.consume(legacyParse(token).getExpiration().getTime());
+	}
+
+	@Benchmark
+	public void parseOnce(Blackhole blackhole) {
+		VerifiedClaims claims = provider.parseClaims(nextToken());
+		blackhole.consume(claims.getSubject());
+		blackhole.consume(claims.getExpirationMillis());
+	}
+
+	@Benchmark
+	public void cachedClaims(Blackhole blackhole) {
+		VerifiedClaims claims = provider.getClaims(nextToken());
+		blackhole.consume(claims.getSubject());
+		blackhole.consume(claims.getExpirationMillis());
+	}
+
+	private String nextToken() {
+		return tokens[ThreadLocalRandom.current().nextInt(TOKEN_COUNT)];
+	}
+
+	private Claims legacyParse(String token) {
+		SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes());
+		return Jwts.parser()
+			.verifyWith(key)
+			.build()
+			.parseSignedClaims(token)
+			.getPayload();
+	}
+}
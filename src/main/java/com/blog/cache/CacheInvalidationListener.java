@@ -0,0 +1,38 @@
+package com.blog.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드가 발행한 캐시 무효화 메시지를 받아 이 노드의 L1 캐시를 비움
+ */
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+	private final TwoLevelCacheManager cacheManager;
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separator = body.indexOf(':');
+		if (separator < 0) {
+			return;
+		}
+
+		String cacheName = body.substring(0, separator);
+		String key = body.substring(separator + 1);
+		TwoLevelCache cache = cacheManager.getTwoLevelCache(cacheName);
+		if (cache == null) {
+			return;
+		}
+
+		if (CacheInvalidationPublisher.CLEAR_ALL.equals(key)) {
+			cache.clearLocal();
+		} else {
+			cache.evictLocal(key);
+		}
+	}
+}
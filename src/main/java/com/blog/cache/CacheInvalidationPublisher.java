@@ -0,0 +1,36 @@
+package com.blog.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 캐시 무효화 메시지 발행 (Redis pub/sub)
+ *
+ * 메시지 형식: "{캐시명}:{키}", 전체 비우기는 "{캐시명}:*"
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationPublisher {
+
+	public static final String CHANNEL = "cache:invalidate";
+	static final String CLEAR_ALL = "*";
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	public void publish(String cacheName, Object key) {
+		send(cacheName + ":" + key);
+	}
+
+	public void publishClear(String cacheName) {
+		send(cacheName + ":" + CLEAR_ALL);
+	}
+
+	private void send(String message) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, message);
+		} catch (Exception e) {
+			log.warn("캐시 무효화 메시지 발행 실패 - 메시지: {}, 오류: {}", message, e.getMessage());
+		}
+	}
+}
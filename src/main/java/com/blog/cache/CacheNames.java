@@ -0,0 +1,16 @@
+package com.blog.cache;
+
+/**
+ * 캐시 이름 상수
+ */
+public final class CacheNames {
+
+	public static final String POST_DETAIL = "postDetail";
+	public static final String TAG_DETAIL = "tagDetail";
+	public static final String CATEGORY_DETAIL = "categoryDetail";
+	// 조건부 조회 검증자 (TwoLevelCache가 아닌 ResourceVersionService 로컬 캐시, 무효화 채널만 공유)
+	public static final String RESOURCE_VERSION = "resourceVersion";
+
+	private CacheNames() {
+	}
+}
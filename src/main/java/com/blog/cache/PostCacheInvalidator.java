@@ -0,0 +1,87 @@
+package com.blog.cache;
+
+import com.blog.entity.OutboxEvent;
+import com.blog.outbox.OutboxEventHandler;
+import com.blog.outbox.OutboxEventRecordedEvent;
+import com.blog.outbox.OutboxEventType;
+import com.blog.outbox.OutboxPayload;
+import com.blog.service.ResourceVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 게시물/댓글/태그 변경 시 게시물 상세 캐시 무효화
+ *
+ * 댓글 변경도 상세 응답의 댓글 수를 바꾸므로 함께 처리하고,
+ * 태그 수정/삭제는 응답에 포함된 태그 정보가 바뀌므로 태그가 달린 게시물(postIds)을 모두 무효화합니다.
+ * 조건부 조회 검증자(버전, 댓글 수, 태그 버전)도 같은 시점에 제거합니다.
+ *
+ * 변경한 노드에서는 커밋 직후 바로 무효화해 작성자의 다음 조회가 이전 본문을 받지 않게 하고,
+ * 릴레이 전달 시 한 번 더 무효화합니다. 두 번째 무효화는 커밋 전에 읽은 값을 커밋 후에 채운
+ * 동시 조회와 커밋 직후 무효화가 실패한 경우를 정리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCacheInvalidator implements OutboxEventHandler {
+
+	private final CacheManager cacheManager;
+	private final ResourceVersionService resourceVersionService;
+
+	@Override
+	public boolean supports(String eventType) {
+		return OutboxEventType.isPostEvent(eventType)
+			|| OutboxEventType.isCommentEvent(eventType)
+			|| OutboxEventType.isTagEvent(eventType);
+	}
+
+	@Override
+	public void handle(OutboxEvent event, OutboxPayload payload) {
+		if (OutboxEventType.isTagEvent(event.getEventType())) {
+			// 게시물 검증자에 태그 버전이 포함되므로 검증자도 함께 제거
+			List<Long> postIds = payload.getLongList("postIds");
+			evictPostDetails(postIds);
+			postIds.forEach(resourceVersionService::evictPost);
+			return;
+		}
+
+		Long postId = OutboxEventType.isPostEvent(event.getEventType())
+			? event.getAggregateId()
+			: payload.getLong("postId");
+		if (postId == null) {
+			return;
+		}
+		evictPostDetails(List.of(postId));
+		resourceVersionService.evictPost(postId);
+	}
+
+	/**
+	 * 커밋 직후 같은 노드에서 바로 무효화 (실패해도 릴레이 전달 시 다시 무효화)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onOutboxEventRecorded(OutboxEventRecordedEvent recorded) {
+		OutboxEvent event = recorded.getEvent();
+		if (!supports(event.getEventType())) {
+			return;
+		}
+		try {
+			handle(event, recorded.getPayload());
+		} catch (RuntimeException e) {
+			log.warn("커밋 후 게시물 상세 캐시 무효화 실패 - 이벤트: {}, 오류: {}", event.getEventType(), e.getMessage());
+		}
+	}
+
+	private void evictPostDetails(List<Long> postIds) {
+		Cache postDetailCache = cacheManager.getCache(CacheNames.POST_DETAIL);
+		if (postDetailCache != null) {
+			postIds.forEach(postDetailCache::evict);
+		}
+	}
+}
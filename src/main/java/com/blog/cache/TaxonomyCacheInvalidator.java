@@ -0,0 +1,58 @@
+package com.blog.cache;
+
+import com.blog.entity.OutboxEvent;
+import com.blog.outbox.OutboxEventHandler;
+import com.blog.outbox.OutboxEventType;
+import com.blog.outbox.OutboxPayload;
+import com.blog.service.ResourceVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 게시물 변경 시 관련 태그/카테고리 상세 캐시 무효화
+ *
+ * 수정 이벤트는 변경 전 카테고리/태그(previousCategoryId, previousTagIds)도 함께 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaxonomyCacheInvalidator implements OutboxEventHandler {
+
+	private final CacheManager cacheManager;
+	private final ResourceVersionService resourceVersionService;
+
+	@Override
+	public boolean supports(String eventType) {
+		return OutboxEventType.isPostEvent(eventType);
+	}
+
+	@Override
+	public void handle(OutboxEvent event, OutboxPayload payload) {
+		Set<Long> categoryIds = new HashSet<>();
+		addIfPresent(categoryIds, payload.getLong("categoryId"));
+		addIfPresent(categoryIds, payload.getLong("previousCategoryId"));
+		Cache categoryDetailCache = cacheManager.getCache(CacheNames.CATEGORY_DETAIL);
+		if (categoryDetailCache != null) {
+			categoryIds.forEach(categoryDetailCache::evict);
+		}
+		categoryIds.forEach(resourceVersionService::evictCategory);
+
+		Set<Long> tagIds = new HashSet<>(payload.getLongList("tagIds"));
+		tagIds.addAll(payload.getLongList("previousTagIds"));
+		Cache tagDetailCache = cacheManager.getCache(CacheNames.TAG_DETAIL);
+		if (tagDetailCache != null) {
+			tagIds.forEach(tagDetailCache::evict);
+		}
+		tagIds.forEach(resourceVersionService::evictTag);
+	}
+
+	private void addIfPresent(Set<Long> ids, Long id) {
+		if (id != null) {
+			ids.add(id);
+		}
+	}
+}
@@ -0,0 +1,223 @@
+package com.blog.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 2단계 캐시 (L1: 프로세스 내 Caffeine, L2: Redis)
+ *
+ * 조회는 L1 → L2 → 로더 순으로 진행하고, L2에서 찾은 값은 L1에 채웁니다.
+ * 키는 노드 간 무효화 메시지와 맞추기 위해 문자열로 정규화해 저장합니다.
+ * 무효화(제거, 전체 비우기) 시 L1/L2를 모두 지우고 Redis pub/sub으로 다른 노드의 L1도 비우도록 알립니다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+	private static final int CLEAR_BATCH_SIZE = 500;
+
+	private final String name;
+	private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final JavaType valueType;
+	private final Duration ttl;
+	private final CacheInvalidationPublisher invalidationPublisher;
+
+	private final LongAdder remoteHits = new LongAdder();
+	private final LongAdder remoteMisses = new LongAdder();
+	private final LongAdder loadCount = new LongAdder();
+	private final LongAdder loadTimeNanos = new LongAdder();
+
+	public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+		RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, Class<?> valueType, Duration ttl,
+		CacheInvalidationPublisher invalidationPublisher) {
+		this(name, localCache, redisTemplate, objectMapper, objectMapper.constructType(valueType), ttl,
+			invalidationPublisher);
+	}
+
+	// 제네릭 값 타입(VersionedResponse<PostResponse> 등)용
+	public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+		RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, JavaType valueType, Duration ttl,
+		CacheInvalidationPublisher invalidationPublisher) {
+		super(false);
+		this.name = name;
+		this.localCache = localCache;
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.valueType = valueType;
+		this.ttl = ttl;
+		this.invalidationPublisher = invalidationPublisher;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return localCache;
+	}
+
+	@Override
+	protected Object lookup(Object key) {
+		String cacheKey = String.valueOf(key);
+		Object value = localCache.getIfPresent(cacheKey);
+		if (value != null) {
+			return value;
+		}
+
+		value = readRemote(cacheKey);
+		if (value != null) {
+			localCache.put(cacheKey, value);
+		}
+		return value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		Object value = lookup(key);
+		if (value != null) {
+			return (T) fromStoreValue(value);
+		}
+
+		long start = System.nanoTime();
+		T loaded;
+		try {
+			loaded = valueLoader.call();
+		} catch (RuntimeException e) {
+			// 로더의 비즈니스 예외(IllegalArgumentException 등)는 감싸지 않고 그대로 전달
+			throw e;
+		} catch (Exception e) {
+			throw new ValueRetrievalException(key, valueLoader, e);
+		} finally {
+			loadCount.increment();
+			loadTimeNanos.add(System.nanoTime() - start);
+		}
+
+		if (loaded != null) {
+			put(key, loaded);
+		}
+		return loaded;
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		if (value == null) {
+			return;
+		}
+		String cacheKey = String.valueOf(key);
+		localCache.put(cacheKey, value);
+		try {
+			redisTemplate.opsForValue().set(remoteKey(cacheKey), objectMapper.writeValueAsString(value), ttl);
+		} catch (Exception e) {
+			log.warn("L2 캐시 저장 실패 - 캐시: {}, 키: {}, 오류: {}", name, key, e.getMessage());
+		}
+	}
+
+	@Override
+	public void evict(Object key) {
+		String cacheKey = String.valueOf(key);
+		localCache.invalidate(cacheKey);
+		try {
+			redisTemplate.delete(remoteKey(cacheKey));
+		} catch (Exception e) {
+			log.warn("L2 캐시 삭제 실패 - 캐시: {}, 키: {}, 오류: {}", name, key, e.getMessage());
+		}
+		invalidationPublisher.publish(name, cacheKey);
+	}
+
+	/**
+	 * L1/L2를 모두 비우고 다른 노드의 L1도 비우도록 알림
+	 * L2는 이 캐시의 키 접두사("cache:{캐시명}:")를 SCAN해 배치마다 UNLINK로 지웁니다.
+	 */
+	@Override
+	public void clear() {
+		localCache.invalidateAll();
+		try {
+			clearRemote();
+		} catch (Exception e) {
+			log.warn("L2 캐시 비우기 실패 - 캐시: {}, 오류: {}", name, e.getMessage());
+		}
+		invalidationPublisher.publishClear(name);
+	}
+
+	/**
+	 * 다른 노드에서 전달된 무효화 메시지 반영 (L1만 비움)
+	 */
+	void evictLocal(String key) {
+		localCache.invalidate(key);
+	}
+
+	void clearLocal() {
+		localCache.invalidateAll();
+	}
+
+	public com.github.benmanes.caffeine.cache.Cache<Object, Object> getLocalCache() {
+		return localCache;
+	}
+
+	public long getRemoteHits() {
+		return remoteHits.sum();
+	}
+
+	public long getRemoteMisses() {
+		return remoteMisses.sum();
+	}
+
+	public long getLoadCount() {
+		return loadCount.sum();
+	}
+
+	public double getLoadTimeNanos() {
+		return loadTimeNanos.sum();
+	}
+
+	private Object readRemote(String key) {
+		try {
+			String json = redisTemplate.opsForValue().get(remoteKey(key));
+			if (json == null) {
+				remoteMisses.increment();
+				return null;
+			}
+			remoteHits.increment();
+			return objectMapper.readValue(json, valueType);
+		} catch (Exception e) {
+			log.warn("L2 캐시 조회 실패 - 캐시: {}, 키: {}, 오류: {}", name, key, e.getMessage());
+			return null;
+		}
+	}
+
+	private void clearRemote() {
+		ScanOptions options = ScanOptions.scanOptions().match(remoteKey("*")).count(CLEAR_BATCH_SIZE).build();
+		List<String> batch = new ArrayList<>(CLEAR_BATCH_SIZE);
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				batch.add(cursor.next());
+				if (batch.size() == CLEAR_BATCH_SIZE) {
+					redisTemplate.unlink(batch);
+					batch.clear();
+				}
+			}
+		}
+		if (!batch.isEmpty()) {
+			redisTemplate.unlink(batch);
+		}
+	}
+
+	private String remoteKey(String key) {
+		return "cache:" + name + ":" + key;
+	}
+}
@@ -0,0 +1,34 @@
+package com.blog.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 미리 정의된 {@link TwoLevelCache}만 제공하는 캐시 매니저
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+	private final Map<String, TwoLevelCache> caches;
+
+	public TwoLevelCacheManager(Map<String, TwoLevelCache> caches) {
+		this.caches = Collections.unmodifiableMap(caches);
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		return caches.get(name);
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return caches.keySet();
+	}
+
+	public TwoLevelCache getTwoLevelCache(String name) {
+		return caches.get(name);
+	}
+}
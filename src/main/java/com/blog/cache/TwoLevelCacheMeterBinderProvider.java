@@ -0,0 +1,42 @@
+package com.blog.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TwoLevelCache} Actuator 메트릭 등록
+ *
+ * L1은 Caffeine 표준 메트릭(cache.gets, cache.evictions, cache.size 등)으로,
+ * L2 적중/미스와 로더 수행 시간은 cache.l2.gets, cache.load 메트릭으로 노출합니다.
+ */
+public class TwoLevelCacheMeterBinderProvider implements CacheMeterBinderProvider<TwoLevelCache> {
+
+	@Override
+	public MeterBinder getMeterBinder(TwoLevelCache cache, Iterable<Tag> tags) {
+		return registry -> {
+			new CaffeineCacheMetrics<>(cache.getLocalCache(), cache.getName(), tags).bindTo(registry);
+
+			Tags cacheTags = Tags.concat(tags, "cache", cache.getName());
+			FunctionCounter.builder("cache.l2.gets", cache, TwoLevelCache::getRemoteHits)
+				.tags(cacheTags).tag("result", "hit")
+				.description("L2(Redis) 캐시 적중 수")
+				.register(registry);
+			FunctionCounter.builder("cache.l2.gets", cache, TwoLevelCache::getRemoteMisses)
+				.tags(cacheTags).tag("result", "miss")
+				.description("L2(Redis) 캐시 미스 수")
+				.register(registry);
+			FunctionTimer.builder("cache.load", cache, TwoLevelCache::getLoadCount,
+					TwoLevelCache::getLoadTimeNanos, TimeUnit.NANOSECONDS)
+				.tags(cacheTags)
+				.description("캐시 미스 시 원본 로딩 시간")
+				.register(registry);
+		};
+	}
+}
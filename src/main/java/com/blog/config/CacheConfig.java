@@ -0,0 +1,107 @@
+package com.blog.config;
+
+import com.blog.cache.CacheInvalidationListener;
+import com.blog.cache.CacheInvalidationPublisher;
+import com.blog.cache.CacheNames;
+import com.blog.cache.TwoLevelCache;
+import com.blog.cache.TwoLevelCacheManager;
+import com.blog.cache.TwoLevelCacheMeterBinderProvider;
+import com.blog.dto.response.CategoryDetailResponse;
+import com.blog.dto.response.PostResponse;
+import com.blog.dto.response.TagDetailResponse;
+import com.blog.dto.response.VersionedResponse;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	@Value("${blog.cache.post-detail.local-max-size:10000}")
+	private long postDetailLocalMaxSize;
+
+	@Value("${blog.cache.post-detail.local-ttl:PT5M}")
+	private Duration postDetailLocalTtl;
+
+	@Value("${blog.cache.post-detail.remote-ttl:PT30M}")
+	private Duration postDetailRemoteTtl;
+
+	@Value("${blog.cache.taxonomy-detail.local-max-size:2000}")
+	private long taxonomyDetailLocalMaxSize;
+
+	@Value("${blog.cache.taxonomy-detail.local-ttl:PT1M}")
+	private Duration taxonomyDetailLocalTtl;
+
+	@Value("${blog.cache.taxonomy-detail.remote-ttl:PT10M}")
+	private Duration taxonomyDetailRemoteTtl;
+
+	@Bean
+	public CacheInvalidationPublisher cacheInvalidationPublisher(RedisTemplate<String, String> redisTemplate) {
+		return new CacheInvalidationPublisher(redisTemplate);
+	}
+
+	@Bean
+	public TwoLevelCacheManager cacheManager(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+		CacheInvalidationPublisher cacheInvalidationPublisher) {
+		Map<String, TwoLevelCache> caches = new HashMap<>();
+		caches.put(CacheNames.POST_DETAIL, new TwoLevelCache(
+			CacheNames.POST_DETAIL,
+			Caffeine.newBuilder()
+				.maximumSize(postDetailLocalMaxSize)
+				.expireAfterWrite(postDetailLocalTtl)
+				.recordStats()
+				.build(),
+			redisTemplate, objectMapper, versioned(objectMapper, PostResponse.class), postDetailRemoteTtl,
+			cacheInvalidationPublisher));
+		// 태그/카테고리 상세 (최근 게시물의 조회수/좋아요는 TTL 동안 지연될 수 있음)
+		caches.put(CacheNames.TAG_DETAIL, new TwoLevelCache(
+			CacheNames.TAG_DETAIL,
+			Caffeine.newBuilder()
+				.maximumSize(taxonomyDetailLocalMaxSize)
+				.expireAfterWrite(taxonomyDetailLocalTtl)
+				.recordStats()
+				.build(),
+			redisTemplate, objectMapper, versioned(objectMapper, TagDetailResponse.class), taxonomyDetailRemoteTtl,
+			cacheInvalidationPublisher));
+		caches.put(CacheNames.CATEGORY_DETAIL, new TwoLevelCache(
+			CacheNames.CATEGORY_DETAIL,
+			Caffeine.newBuilder()
+				.maximumSize(taxonomyDetailLocalMaxSize)
+				.expireAfterWrite(taxonomyDetailLocalTtl)
+				.recordStats()
+				.build(),
+			redisTemplate, objectMapper, versioned(objectMapper, CategoryDetailResponse.class), taxonomyDetailRemoteTtl,
+			cacheInvalidationPublisher));
+		return new TwoLevelCacheManager(caches);
+	}
+
+	// 상세 캐시 값은 응답 본문 + 조건부 조회 검증자
+	private JavaType versioned(ObjectMapper objectMapper, Class<?> bodyType) {
+		return objectMapper.getTypeFactory().constructParametricType(VersionedResponse.class, bodyType);
+	}
+
+	@Bean
+	public TwoLevelCacheMeterBinderProvider twoLevelCacheMeterBinderProvider() {
+		return new TwoLevelCacheMeterBinderProvider();
+	}
+
+	@Bean
+	public CacheInvalidationListener cacheInvalidationListener(TwoLevelCacheManager cacheManager,
+		RedisMessageListenerContainer listenerContainer) {
+		CacheInvalidationListener listener = new CacheInvalidationListener(cacheManager);
+		listenerContainer.addMessageListener(listener, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+		return listener;
+	}
+}
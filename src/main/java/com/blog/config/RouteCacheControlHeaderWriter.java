@@ -0,0 +1,71 @@
+package com.blog.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.web.header.HeaderWriter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 경로별 Cache-Control 헤더 작성기
+ *
+ * GET/HEAD 요청이 등록된 경로 패턴과 일치하면 해당 값을, 아니면 기본값(저장 금지)을 씁니다.
+ * 기본값을 쓸 때만 HTTP/1.0 캐시용 Pragma/Expires를 함께 씁니다.
+ * 컨트롤러가 이미 Cache-Control을 지정했다면 덮어쓰지 않습니다.
+ */
+public class RouteCacheControlHeaderWriter implements HeaderWriter {
+
+	private final String defaultValue;
+	private final Map<PathPattern, String> routes = new LinkedHashMap<>();
+
+	public RouteCacheControlHeaderWriter(String defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
+	/**
+	 * @param pattern 경로 패턴 (예: /api/posts/{postId:\d+})
+	 * @param value Cache-Control 값
+	 */
+	public RouteCacheControlHeaderWriter route(String pattern, String value) {
+		routes.put(PathPatternParser.defaultInstance.parse(pattern), value);
+		return this;
+	}
+
+	@Override
+	public void writeHeaders(HttpServletRequest request, HttpServletResponse response) {
+		if (response.containsHeader(HttpHeaders.CACHE_CONTROL)) {
+			return;
+		}
+
+		String value = resolve(request);
+		if (value != null) {
+			response.setHeader(HttpHeaders.CACHE_CONTROL, value);
+			return;
+		}
+		response.setHeader(HttpHeaders.CACHE_CONTROL, defaultValue);
+		response.setHeader(HttpHeaders.PRAGMA, "no-cache");
+		response.setHeader(HttpHeaders.EXPIRES, "0");
+	}
+
+	private String resolve(HttpServletRequest request) {
+		String method = request.getMethod();
+		if (!HttpMethod.GET.matches(method) && !HttpMethod.HEAD.matches(method)) {
+			return null;
+		}
+
+		PathContainer path = PathContainer.parsePath(
+			request.getRequestURI().substring(request.getContextPath().length()));
+		for (Map.Entry<PathPattern, String> route : routes.entrySet()) {
+			if (route.getKey().matches(path)) {
+				return route.getValue();
+			}
+		}
+		return null;
+	}
+}
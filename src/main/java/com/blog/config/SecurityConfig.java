@@ -46,6 +46,8 @@ public class SecurityConfig {
 			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 			.headers(headers -> headers
 				.contentTypeOptions(contentType -> {})
+				// 기본 Cache-Control/Pragma/Expires는 경로별 작성기(cacheControlWriter)로 대체
+				.cacheControl(cache -> cache.disable())
 				.frameOptions(frame -> frame.deny())
 				.referrerPolicy(referrer -> referrer.policy(ReferrerPolicyHeaderWriter.ReferrerPolicy.STRICT_ORIGIN_WHEN_CROSS_ORIGIN))
 				.addHeaderWriter(securityHeadersConfig.xssProtectionWriter())
@@ -53,8 +55,6 @@ public class SecurityConfig {
 				.addHeaderWriter(securityHeadersConfig.contentSecurityPolicyWriter())
 				.addHeaderWriter(securityHeadersConfig.strictTransportSecurityWriter())
 				.addHeaderWriter(securityHeadersConfig.cacheControlWriter())
-				.addHeaderWriter(securityHeadersConfig.pragmaWriter())
-				.addHeaderWriter(securityHeadersConfig.expiresWriter())
 				.addHeaderWriter(securityHeadersConfig.apiVersionWriter())
 			)
 			.authorizeHttpRequests(authz -> authz
@@ -1,5 +1,6 @@
 package com.blog.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.web.header.HeaderWriter;
@@ -8,6 +9,16 @@ import org.springframework.security.web.header.writers.StaticHeadersWriter;
 @Configuration
 public class SecurityHeadersConfig {
 
+	@Value("${blog.http.cache-control.default:no-cache, no-store, max-age=0, must-revalidate}")
+	private String defaultCacheControl;
+
+	// ETag/Last-Modified로 재검증하는 상세 조회 (공유 캐시를 쓰려면 public, max-age 등으로 변경)
+	@Value("${blog.http.cache-control.post-detail:private, no-cache}")
+	private String postDetailCacheControl;
+
+	@Value("${blog.http.cache-control.taxonomy-detail:private, no-cache}")
+	private String taxonomyDetailCacheControl;
+
 	@Bean
 	public HeaderWriter securityHeadersWriter() {
 		return new StaticHeadersWriter("X-Content-Type-Options", "nosniff");
@@ -56,18 +67,10 @@ public class SecurityHeadersConfig {
 
 	@Bean
 	public HeaderWriter cacheControlWriter() {
-		return new StaticHeadersWriter("Cache-Control",
-			"no-cache, no-store, max-age=0, must-revalidate");
-	}
-
-	@Bean
-	public HeaderWriter pragmaWriter() {
-		return new StaticHeadersWriter("Pragma", "no-cache");
-	}
-
-	@Bean
-	public HeaderWriter expiresWriter() {
-		return new StaticHeadersWriter("Expires", "0");
+		return new RouteCacheControlHeaderWriter(defaultCacheControl)
+			.route("/api/posts/{postId:\\d+}", postDetailCacheControl)
+			.route("/api/tags/{tagId:\\d+}", taxonomyDetailCacheControl)
+			.route("/api/categories/{categoryId:\\d+}", taxonomyDetailCacheControl);
 	}
 
 	@Bean
@@ -5,7 +5,10 @@ import com.blog.dto.request.CategoryUpdateRequest;
 import com.blog.dto.response.CategoryDetailResponse;
 import com.blog.dto.response.CategoryListResponse;
 import com.blog.dto.response.CategoryResponse;
+import com.blog.dto.response.ResourceVersion;
+import com.blog.dto.response.VersionedResponse;
 import com.blog.service.CategoryService;
+import com.blog.service.ResourceVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,6 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.security.Principal;
 import java.util.List;
@@ -32,6 +36,7 @@ import java.util.List;
 public class CategoryController {
 
 	private final CategoryService categoryService;
+	private final ResourceVersionService resourceVersionService;
 
 	/**
 	 * 카테고리 생성 (관리자 전용)
@@ -145,16 +150,30 @@ public class CategoryController {
 	 * 카테고리 상세 정보 조회
 	 *
 	 * @param categoryId 카테고리 ID
-	 * @return 카테고리 상세 정보 (포스트 수, 최근 포스트 포함)
+	 * @param webRequest If-None-Match/If-Modified-Since 검사용
+	 * @return 카테고리 상세 정보 (포스트 수, 최근 포스트 포함), 변경이 없으면 304
 	 */
 	@GetMapping("/{categoryId}")
-	public ResponseEntity<CategoryDetailResponse> getCategoryDetail(@PathVariable Long categoryId) {
+	public ResponseEntity<CategoryDetailResponse> getCategoryDetail(@PathVariable Long categoryId,
+		WebRequest webRequest) {
 
 		log.info("카테고리 상세 조회 - 카테고리 ID: {}", categoryId);
 
 		try {
-			CategoryDetailResponse category = categoryService.getCategoryDetail(categoryId);
-			return ResponseEntity.ok(category);
+			ResourceVersion version = resourceVersionService.getCategoryVersion(categoryId);
+			if (webRequest.checkNotModified(version.getETag(), version.getLastModifiedMillis())) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+					.eTag(version.getETag())
+					.lastModified(version.getLastModifiedMillis())
+					.build();
+			}
+			// 검증자 캐시와 상세 캐시의 갱신 시점이 다를 수 있으므로 200 응답의 검증자는 본문 기준으로 계산
+			VersionedResponse<CategoryDetailResponse> category = categoryService.getCategoryDetail(categoryId);
+			ResourceVersion bodyVersion = category.getVersion();
+			return ResponseEntity.ok()
+				.eTag(bodyVersion.getETag())
+				.lastModified(bodyVersion.getLastModifiedMillis())
+				.body(category.getBody());
 		} catch (IllegalArgumentException e) {
 			log.error("카테고리 상세 조회 실패 - 카테고리를 찾을 수 없음: {}", e.getMessage());
 			return ResponseEntity.notFound().build();
@@ -3,6 +3,7 @@ package com.blog.controller;
 import com.blog.dto.request.CommentCreateRequest;
 import com.blog.dto.request.CommentUpdateRequest;
 import com.blog.dto.response.CommentResponse;
+import com.blog.dto.response.CursorPageResponse;
 import com.blog.service.CommentService;
 import io.jsonwebtoken.security.SecurityException;
 import io.swagger.v3.oas.annotations.Operation;
@@ -166,6 +167,92 @@ public class CommentController {
 		}
 	}
 
+	/**
+	 * 게시글 댓글 트리 조회
+	 *
+	 * @param postId 게시글 ID
+	 * @param page 최상위 댓글 페이지 번호 (기본값: 0)
+	 * @param size 최상위 댓글 페이지 크기 (기본값: 10, 최대 100)
+	 * @param depth 포함할 답글 깊이 (기본값: 5, 최대 10)
+	 * @return 답글 트리를 포함한 최상위 댓글 페이지
+	 */
+	@Operation(summary = "게시물 댓글 트리 조회", description = "게시물의 댓글을 답글 트리 형태로 조회합니다 (삭제된 댓글 제외).")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "댓글 트리 조회 성공",
+		content = @Content(schema = @Schema(implementation = Page.class)))
+	})
+	@GetMapping("/posts/{postId}/tree")
+	public ResponseEntity<Page<CommentResponse>> getCommentTree(
+		@Parameter(description = "게시물 ID", required = true) @PathVariable Long postId,
+		@Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
+		@Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size,
+		@Parameter(description = "답글 깊이", example = "5") @RequestParam(defaultValue = "5") int depth) {
+
+		log.info("게시글 댓글 트리 조회 - 게시글 ID: {}, 페이지: {}, 크기: {}, 깊이: {}", postId, page, size, depth);
+		return ResponseEntity.ok(commentService.getCommentTree(postId, page, size, depth));
+	}
+
+	/**
+	 * 게시글별 댓글 목록 커서 조회 (무한 스크롤용)
+	 *
+	 * @param postId 게시글 ID
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+	 * @param size 페이지 크기 (기본값: 10, 최대 100)
+	 * @return 댓글 목록과 다음 커서
+	 */
+	@Operation(summary = "게시물별 댓글 목록 커서 조회", description = "게시물의 댓글 목록을 커서 기반으로 조회합니다 (전체 개수 미포함).")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공",
+		content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+		@ApiResponse(responseCode = "400", description = "잘못된 커서")
+	})
+	@GetMapping("/posts/{postId}/scroll")
+	public ResponseEntity<CursorPageResponse<CommentResponse>> scrollCommentsByPost(
+		@Parameter(description = "게시물 ID", required = true) @PathVariable Long postId,
+		@Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+		@Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size) {
+
+		log.info("게시글 댓글 커서 조회 - 게시글 ID: {}, 크기: {}", postId, size);
+
+		try {
+			return ResponseEntity.ok(commentService.scrollCommentsByPost(postId, cursor, size));
+		} catch (IllegalArgumentException e) {
+			log.error("게시글 댓글 커서 조회 실패 - 잘못된 커서: {}", e.getMessage());
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
+	/**
+	 * 댓글 스레드 조회 (하위 댓글 전체, 스레드 순)
+	 *
+	 * @param commentId 기준 댓글 ID
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+	 * @param size 페이지 크기 (기본값: 20, 최대 100)
+	 * @return 하위 댓글 목록과 다음 커서
+	 */
+	@Operation(summary = "댓글 스레드 조회", description = "댓글의 모든 하위 댓글을 스레드 순(깊이 우선, 작성순)으로 커서 기반 조회합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "스레드 조회 성공",
+		content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+		@ApiResponse(responseCode = "400", description = "잘못된 커서"),
+		@ApiResponse(responseCode = "404", description = "댓글을 찾을 수 없음")
+	})
+	@GetMapping("/{commentId}/thread")
+	public ResponseEntity<CursorPageResponse<CommentResponse>> getThread(
+		@Parameter(description = "댓글 ID", required = true) @PathVariable Long commentId,
+		@Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+		@Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") int size) {
+
+		log.info("댓글 스레드 조회 - 댓글 ID: {}, 크기: {}", commentId, size);
+
+		try {
+			return ResponseEntity.ok(commentService.getThread(commentId, cursor, size));
+		} catch (IllegalArgumentException e) {
+			log.error("댓글 스레드 조회 실패: {}", e.getMessage());
+			return cursor == null ? ResponseEntity.notFound().build() : ResponseEntity.badRequest().build();
+		}
+	}
+
 	/**
 	 * 댓글 상세 조회
 	 *
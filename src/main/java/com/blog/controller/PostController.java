@@ -3,9 +3,13 @@ package com.blog.controller;
 import com.blog.dto.request.PostCreateRequest;
 import com.blog.dto.request.PostSearchRequest;
 import com.blog.dto.request.PostUpdateRequest;
+import com.blog.dto.response.CursorPageResponse;
 import com.blog.dto.response.PostListResponse;
 import com.blog.dto.response.PostResponse;
+import com.blog.dto.response.ResourceVersion;
+import com.blog.dto.response.VersionedResponse;
 import com.blog.service.PostService;
+import com.blog.service.ResourceVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,8 +24,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.security.Principal;
+import java.util.List;
 
 
 @Tag(name = "Post", description = "게시물 관련 API")
@@ -31,6 +37,7 @@ import java.security.Principal;
 public class PostController {
 
 	private final PostService postService;
+	private final ResourceVersionService resourceVersionService;
 
 	@Operation(summary = "게시물 생성", description = "새로운 게시물을 생성합니다.")
 	@ApiResponses(value = {
@@ -86,16 +93,32 @@ public class PostController {
 		return ResponseEntity.noContent().build();
 	}
 
-	@Operation(summary = "게시물 단건 조회", description = "게시물을 조회합니다. 조회수가 증가합니다.")
+	@Operation(summary = "게시물 단건 조회", description = "게시물을 조회합니다. 조회수가 증가합니다. If-None-Match/If-Modified-Since가 일치하면 304를 반환하며, 이때는 조회수가 증가하지 않습니다.")
 	@ApiResponses(value = {
 		@ApiResponse(responseCode = "200", description = "게시물 조회 성공",
 			content = @Content(schema = @Schema(implementation = PostResponse.class))),
+		@ApiResponse(responseCode = "304", description = "변경 없음"),
 		@ApiResponse(responseCode = "404", description = "게시물을 찾을 수 없음")
 	})
 	@GetMapping("/{postId}")
 	public ResponseEntity<PostResponse> getPost(
-		@Parameter(description = "게시물 ID", required = true) @PathVariable Long postId) {
-		return ResponseEntity.ok(postService.getPost(postId, true));
+		@Parameter(description = "게시물 ID", required = true) @PathVariable Long postId,
+		WebRequest webRequest) {
+		ResourceVersion version = resourceVersionService.getPostVersion(postId);
+		// 재검증은 같은 클라이언트가 이미 받은 본문을 다시 확인하는 것이므로 조회수에 포함하지 않음
+		if (webRequest.checkNotModified(version.getETag(), version.getLastModifiedMillis())) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(version.getETag())
+				.lastModified(version.getLastModifiedMillis())
+				.build();
+		}
+		// 검증자 캐시와 상세 캐시의 갱신 시점이 다를 수 있으므로 200 응답의 검증자는 본문 기준으로 계산
+		VersionedResponse<PostResponse> response = postService.getPost(postId, true);
+		ResourceVersion bodyVersion = response.getVersion();
+		return ResponseEntity.ok()
+			.eTag(bodyVersion.getETag())
+			.lastModified(bodyVersion.getLastModifiedMillis())
+			.body(response.getBody());
 	}
 
 	@Operation(summary = "게시물 목록 조회", description = "페이징을 지원하는 게시물 목록을 조회합니다.")
@@ -111,6 +134,33 @@ public class PostController {
 		return ResponseEntity.ok(postService.getPosts(page, size));
 	}
 
+	@Operation(summary = "게시물 목록 커서 조회", description = "커서 기반으로 게시물 목록을 조회합니다 (무한 스크롤용, 전체 개수 미포함).")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "게시물 목록 조회 성공",
+			content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+		@ApiResponse(responseCode = "400", description = "잘못된 커서")
+	})
+	@GetMapping("/scroll")
+	public ResponseEntity<CursorPageResponse<PostListResponse>> scrollPosts(
+		@Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+		@Parameter(description = "페이지 크기 (최대 100)", example = "10") @RequestParam(defaultValue = "10") int size
+	) {
+		return ResponseEntity.ok(postService.scrollPosts(cursor, size));
+	}
+
+	@Operation(summary = "인기 게시물 조회", description = "기간별 조회수 상위 게시물을 조회합니다.")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "인기 게시물 조회 성공"),
+		@ApiResponse(responseCode = "400", description = "지원하지 않는 집계 기간")
+	})
+	@GetMapping("/popular")
+	public ResponseEntity<List<PostListResponse>> getPopularPosts(
+		@Parameter(description = "집계 기간 (24h, 7d, all)", example = "24h") @RequestParam(defaultValue = "24h") String window,
+		@Parameter(description = "조회 개수 (최대 100)", example = "10") @RequestParam(defaultValue = "10") int limit
+	) {
+		return ResponseEntity.ok(postService.getPopularPosts(window, limit));
+	}
+
 	@Operation(summary = "게시물 검색", description = "조건에 맞는 게시물을 검색합니다.")
 	@ApiResponses(value = {
 		@ApiResponse(responseCode = "200", description = "게시물 검색 성공",
@@ -2,9 +2,14 @@ package com.blog.controller;
 
 import com.blog.dto.request.TagCreateRequest;
 import com.blog.dto.request.TagUpdateRequest;
+import com.blog.dto.response.CursorPageResponse;
+import com.blog.dto.response.PostListResponse;
+import com.blog.dto.response.ResourceVersion;
 import com.blog.dto.response.TagDetailResponse;
 import com.blog.dto.response.TagListResponse;
 import com.blog.dto.response.TagResponse;
+import com.blog.dto.response.VersionedResponse;
+import com.blog.service.ResourceVersionService;
 import com.blog.service.TagService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -22,6 +27,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.security.Principal;
 import java.util.List;
@@ -34,6 +40,7 @@ import java.util.List;
 public class TagController {
 
 	private final TagService tagService;
+	private final ResourceVersionService resourceVersionService;
 
 	/**
 	 * 태그 생성 (관리자 전용)
@@ -147,16 +154,29 @@ public class TagController {
 	 * 태그 상세 정보 조회
 	 *
 	 * @param tagId 태그 ID
-	 * @return 태그 상세 정보 (포스트 수, 최근 포스트 포함)
+	 * @param webRequest If-None-Match/If-Modified-Since 검사용
+	 * @return 태그 상세 정보 (포스트 수, 최근 포스트 포함), 변경이 없으면 304
 	 */
 	@GetMapping("/{tagId}")
-	public ResponseEntity<TagDetailResponse> getTagDetail(@PathVariable Long tagId) {
+	public ResponseEntity<TagDetailResponse> getTagDetail(@PathVariable Long tagId, WebRequest webRequest) {
 
 		log.info("태그 상세 조회 - 태그 ID: {}", tagId);
 
 		try {
-			TagDetailResponse tag = tagService.getTagDetail(tagId);
-			return ResponseEntity.ok(tag);
+			ResourceVersion version = resourceVersionService.getTagVersion(tagId);
+			if (webRequest.checkNotModified(version.getETag(), version.getLastModifiedMillis())) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+					.eTag(version.getETag())
+					.lastModified(version.getLastModifiedMillis())
+					.build();
+			}
+			// 검증자 캐시와 상세 캐시의 갱신 시점이 다를 수 있으므로 200 응답의 검증자는 본문 기준으로 계산
+			VersionedResponse<TagDetailResponse> tag = tagService.getTagDetail(tagId);
+			ResourceVersion bodyVersion = tag.getVersion();
+			return ResponseEntity.ok()
+				.eTag(bodyVersion.getETag())
+				.lastModified(bodyVersion.getLastModifiedMillis())
+				.body(tag.getBody());
 		} catch (IllegalArgumentException e) {
 			log.error("태그 상세 조회 실패 - 태그를 찾을 수 없음: {}", e.getMessage());
 			return ResponseEntity.notFound().build();
@@ -166,6 +186,36 @@ public class TagController {
 		}
 	}
 
+	/**
+	 * 태그별 게시물 목록 커서 조회 (무한 스크롤용)
+	 *
+	 * @param tagId 태그 ID
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+	 * @param size 페이지 크기 (기본값: 10, 최대 100)
+	 * @return 게시물 목록과 다음 커서
+	 */
+	@Operation(summary = "태그별 게시물 커서 조회", description = "태그가 달린 발행된 게시물을 최신순으로 커서 기반 조회합니다 (무한 스크롤용).")
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "게시물 목록 조회 성공",
+		content = @Content(schema = @Schema(implementation = CursorPageResponse.class))),
+		@ApiResponse(responseCode = "400", description = "잘못된 커서")
+	})
+	@GetMapping("/{tagId}/posts")
+	public ResponseEntity<CursorPageResponse<PostListResponse>> scrollPostsByTag(
+		@Parameter(description = "태그 ID", required = true) @PathVariable Long tagId,
+		@Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+		@Parameter(description = "페이지 크기", example = "10") @RequestParam(defaultValue = "10") int size) {
+
+		log.info("태그별 게시물 커서 조회 - 태그 ID: {}, 크기: {}", tagId, size);
+
+		try {
+			return ResponseEntity.ok(tagService.scrollPostsByTag(tagId, cursor, size));
+		} catch (IllegalArgumentException e) {
+			log.error("태그별 게시물 커서 조회 실패 - 잘못된 커서: {}", e.getMessage());
+			return ResponseEntity.badRequest().build();
+		}
+	}
+
 	    /**
      * 태그 검색 (페이징)
      * 
@@ -6,6 +6,7 @@ import com.blog.dto.request.UserSignUpRequest;
 import com.blog.dto.request.UserUpdateRequest;
 import com.blog.dto.response.UserLoginResponse;
 import com.blog.dto.response.UserResponse;
+import com.blog.security.AuthenticatedPrincipalCache;
 import com.blog.security.JwtTokenProvider;
 import com.blog.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -31,6 +32,7 @@ public class UserController {
 
 	private final UserService userService;
 	private final JwtTokenProvider jwtTokenProvider;
+	private final AuthenticatedPrincipalCache principalCache;
 
 	@Operation(summary = "회원가입", description = "새로운 사용자를 등록합니다.")
 	@ApiResponses(value = {
@@ -156,6 +158,7 @@ public class UserController {
 		if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
 			String token = authorizationHeader.substring(7);
 			jwtTokenProvider.invalidateToken(token);
+			principalCache.evictToken(token);
 		}
 		return ResponseEntity.ok().build();
 	}
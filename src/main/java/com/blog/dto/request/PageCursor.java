@@ -0,0 +1,53 @@
+package com.blog.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(seek) 페이지네이션 커서
+ *
+ * 마지막으로 받은 행의 (createdAt, id)를 담으며, 클라이언트에는 Base64(URL-safe) 문자열로 전달합니다.
+ * 다음 페이지는 (created_at, id) &lt; (커서 값) 조건으로 조회하므로 OFFSET/COUNT 없이 일정한 비용으로 가져옵니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+
+	private static final String SEPARATOR = "|";
+
+	private final LocalDateTime createdAt;
+	private final Long id;
+
+	public String encode() {
+		String raw = createdAt + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 커서 문자열 복원
+	 * @param cursor 커서 문자열 (없으면 첫 페이지)
+	 * @return 커서, 첫 페이지면 null
+	 */
+	public static PageCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int index = raw.lastIndexOf(SEPARATOR);
+			if (index < 0) {
+				throw new IllegalArgumentException("잘못된 커서입니다.");
+			}
+			return new PageCursor(LocalDateTime.parse(raw.substring(0, index)), Long.valueOf(raw.substring(index + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			// Base64 / 숫자 형식 오류도 IllegalArgumentException 계열
+			throw new IllegalArgumentException("잘못된 커서입니다.");
+		}
+	}
+}
@@ -16,6 +16,10 @@ public class CommentResponse {
 	private UserResponse author;
 	private Long parentId;
 	private List<CommentResponse> replies;
+	// 스레드 조회 시 최상위 댓글 기준 깊이
+	private Integer depth;
+	// 상세 조회 시 삭제되지 않은 하위 댓글 수
+	private Long replyCount;
 	private int likeCount;
 	private boolean isDeleted;
 	private LocalDateTime createdAt;
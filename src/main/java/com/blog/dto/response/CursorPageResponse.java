@@ -0,0 +1,47 @@
+package com.blog.dto.response;
+
+import com.blog.dto.request.PageCursor;
+import lombok.*;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답 (전체 개수 없이 다음 커서만 제공)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+
+	private static final int MAX_SIZE = 100;
+
+	private List<T> content;
+	private String nextCursor;
+	private boolean hasNext;
+	private int size;
+
+	/**
+	 * 요청 페이지 크기를 1 ~ 100 범위로 보정
+	 */
+	public static int normalizeSize(int size) {
+		return Math.min(Math.max(size, 1), MAX_SIZE);
+	}
+
+	/**
+	 * size + 1건 조회 결과로 응답 생성
+	 * @param rows 조회 결과 (최대 size + 1건)
+	 * @param size 페이지 크기
+	 * @param cursorOf 행의 커서 추출 함수
+	 * @param mapper 응답 변환 함수
+	 */
+	public static <E, T> CursorPageResponse<T> of(List<E> rows, int size,
+		Function<E, PageCursor> cursorOf, Function<List<E>, List<T>> mapper) {
+		boolean hasNext = rows.size() > size;
+		List<E> page = hasNext ? rows.subList(0, size) : rows;
+		String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+		return new CursorPageResponse<>(mapper.apply(page), nextCursor, hasNext, page.size());
+	}
+}
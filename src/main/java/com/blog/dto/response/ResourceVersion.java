@@ -0,0 +1,73 @@
+package com.blog.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 조회 검증자 - 상세 응답을 만들지 않고 ETag/Last-Modified를 계산하기 위한 값
+ *
+ * version은 엔티티 @Version, derivedCount는 응답에 포함되지만 버전을 올리지 않는
+ * 파생 값(댓글 수, 게시물 수)입니다. relatedVersion/relatedUpdatedAt은 응답에 함께 포함되는 다른 엔티티의
+ * 변경을 나타냅니다 (태그/카테고리 상세: 소속 게시물 변경 카운터 posts_version과 그 시각,
+ * 게시물 상세: 카테고리/태그 버전 합과 작성자/카테고리/태그 중 가장 늦은 수정 시각).
+ * 작성자처럼 버전이 없는 엔티티도 반영되도록 relatedUpdatedAt은 ETag에도 포함합니다.
+ * 조회수/좋아요처럼 매 요청 바뀌는 카운터는 포함하지 않으므로 ETag는 약한 검증자(W/)입니다.
+ */
+@Getter
+public class ResourceVersion {
+
+	private final long version;
+	private final long derivedCount;
+	private final long relatedVersion;
+	private final LocalDateTime updatedAt;
+	private final LocalDateTime relatedUpdatedAt;
+
+	public ResourceVersion(Long version, LocalDateTime updatedAt, Long derivedCount) {
+		this(version, updatedAt, derivedCount, null, null);
+	}
+
+	// 상세 캐시(L2)에 본문과 함께 저장되므로 JSON으로도 복원
+	@JsonCreator
+	public ResourceVersion(@JsonProperty("version") Long version, @JsonProperty("updatedAt") LocalDateTime updatedAt,
+		@JsonProperty("derivedCount") Long derivedCount, @JsonProperty("relatedVersion") Long relatedVersion,
+		@JsonProperty("relatedUpdatedAt") LocalDateTime relatedUpdatedAt) {
+		this.version = version != null ? version : 0L;
+		this.updatedAt = updatedAt;
+		this.derivedCount = derivedCount != null ? derivedCount : 0L;
+		this.relatedVersion = relatedVersion != null ? relatedVersion : 0L;
+		this.relatedUpdatedAt = relatedUpdatedAt;
+	}
+
+	/**
+	 * 가장 늦은 시각 (모두 null이면 null)
+	 */
+	public static LocalDateTime latest(LocalDateTime... times) {
+		LocalDateTime latest = null;
+		for (LocalDateTime time : times) {
+			if (time != null && (latest == null || time.isAfter(latest))) {
+				latest = time;
+			}
+		}
+		return latest;
+	}
+
+	@JsonIgnore
+	public String getETag() {
+		return "W/\"" + version + "-" + derivedCount + "-" + relatedVersion + "-" + toMillis(relatedUpdatedAt) + "\"";
+	}
+
+	// 엔티티와 관련 엔티티 중 늦은 수정 시각, updatedAt이 없는 기존 행은 -1 (Last-Modified 미사용)
+	@JsonIgnore
+	public long getLastModifiedMillis() {
+		return toMillis(latest(updatedAt, relatedUpdatedAt));
+	}
+
+	private static long toMillis(LocalDateTime time) {
+		return time != null ? time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+	}
+}
@@ -0,0 +1,30 @@
+package com.blog.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+/**
+ * 상세 캐시 값 - 응답 본문과 본문을 만들 때 함께 읽은 조건부 조회 검증자
+ *
+ * 검증자는 ETag/Last-Modified 계산용 내부 값이므로 응답 DTO 필드로 노출하지 않고 본문과 나란히 보관합니다.
+ * 두 값 모두 필수이므로 형식이 다른 이전 L2 항목은 역직렬화에 실패해 캐시 미스로 처리됩니다.
+ */
+@Getter
+public class VersionedResponse<T> {
+
+	private final T body;
+	private final ResourceVersion version;
+
+	@JsonCreator
+	public VersionedResponse(@JsonProperty(value = "body", required = true) T body,
+		@JsonProperty(value = "version", required = true) ResourceVersion version) {
+		this.body = body;
+		this.version = version;
+	}
+
+	// 캐시된 본문은 공유 객체이므로 최신 카운터를 덮어쓴 복사본과 같은 검증자로 새 값을 만듦
+	public VersionedResponse<T> withBody(T body) {
+		return new VersionedResponse<>(body, version);
+	}
+}
@@ -31,6 +31,19 @@ public class Category {
 	@OneToMany(mappedBy = "category", fetch = FetchType.LAZY)
 	private List<Post> posts = new ArrayList<>();
 
+	// 소속 게시물이 생성/수정/삭제될 때마다 일괄 UPDATE로 증가 (상세 응답의 최근 게시물 검증자용)
+	@Builder.Default
+	@Column(name = "posts_version", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+	private long postsVersion = 0;
+
+	@Column(name = "posts_updated_at", updatable = false)
+	private LocalDateTime postsUpdatedAt;
+
+	// ETag 버전
+	@Version
+	@Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+	private long version;
+
 	@Column(name = "created_at")
 	private LocalDateTime createdAt;
 
@@ -8,7 +8,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+	@Index(name = "idx_comments_post_created", columnList = "post_id, created_at, id"),
+	@Index(name = "idx_comments_post_path", columnList = "post_id, path")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,6 +20,10 @@ import java.util.List;
 @ToString(exclude = {"post", "author", "parent", "replies"})
 public class Comment {
 
+	// 경로 세그먼트 = 10자리 0 채움 ID + 구분자
+	public static final int PATH_SEGMENT_LENGTH = 11;
+	public static final int MAX_DEPTH = 40;
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -40,6 +47,13 @@ public class Comment {
 	@OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
 	private List<Comment> replies = new ArrayList<>();
 
+	/**
+	 * 구체화 경로 - 최상위 댓글부터 자신까지의 ID를 10자리로 0 채움해 이은 값 (예: 0000000001.0000000007.)
+	 * 사전순 정렬이 곧 스레드 순서이고, 하위 댓글은 같은 접두사 범위에 모입니다.
+	 */
+	@Column(name = "path", length = 512)
+	private String path;
+
 	@Builder.Default
 	@Column(name = "like_count")
 	private int likeCount = 0;
@@ -78,4 +92,41 @@ public class Comment {
 	public void softDelete() {
 		this.isDeleted = true;
 	}
+
+	/**
+	 * ID가 발급된 뒤 부모 경로에 자신의 세그먼트를 붙여 경로를 지정합니다.
+	 * 부모 경로가 아직 백필되지 않았다면 부모부터 (재귀적으로) 채웁니다.
+	 */
+	public void assignPath() {
+		if (parent == null) {
+			this.path = toPathSegment(id);
+		} else {
+			parent.ensurePath();
+			this.path = parent.getPath() + toPathSegment(id);
+		}
+	}
+
+	// 백필 전에 만들어진 댓글이면 경로를 채움
+	public void ensurePath() {
+		if (path == null) {
+			assignPath();
+		}
+	}
+
+	// 최상위 댓글 = 0
+	public int getDepth() {
+		return path != null ? path.length() / PATH_SEGMENT_LENGTH - 1 : 0;
+	}
+
+	public static String toPathSegment(Long id) {
+		return String.format("%010d.", id);
+	}
+
+	/**
+	 * 경로 접두사 범위의 배타적 상한 - 마지막 구분자('.')를 바로 다음 문자('/')로 바꾼 값
+	 * 하위 댓글은 모두 prefix < path < 상한 범위에 있으므로 LIKE 없이 인덱스 범위 조회가 됩니다.
+	 */
+	public static String pathUpperBound(String prefix) {
+		return prefix.substring(0, prefix.length() - 1) + '/';
+	}
 }
@@ -0,0 +1,61 @@
+package com.blog.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_events", indexes = {
+	@Index(name = "idx_outbox_events_pending", columnList = "processed_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "aggregate_type", nullable = false, length = 50)
+	private String aggregateType;
+
+	@Column(name = "aggregate_id", nullable = false)
+	private Long aggregateId;
+
+	@Column(name = "event_type", nullable = false, length = 50)
+	private String eventType;
+
+	@Column(columnDefinition = "TEXT")
+	private String payload;
+
+	@Builder.Default
+	@Column(nullable = false)
+	private int attempts = 0;
+
+	@Column(name = "last_error", length = 500)
+	private String lastError;
+
+	@Column(name = "created_at")
+	private LocalDateTime createdAt;
+
+	@Column(name = "processed_at")
+	private LocalDateTime processedAt;
+
+	@PrePersist
+	protected void onCreate() {
+		createdAt = LocalDateTime.now();
+	}
+
+	public void markProcessed() {
+		this.processedAt = LocalDateTime.now();
+	}
+
+	public void markFailed(String error) {
+		this.attempts++;
+		this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+	}
+}
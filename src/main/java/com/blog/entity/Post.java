@@ -6,10 +6,17 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+	@Index(name = "idx_posts_published_created", columnList = "is_published, created_at, id"),
+	@Index(name = "idx_posts_category_created", columnList = "category_id, created_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -36,14 +43,24 @@ public class Post {
 	@JoinColumn(name = "category_id")
 	private Category category;
 
+	// 카운터는 일괄 UPDATE로만 증감 (게시물 수정 시 불러온 시점의 값으로 덮어쓰지 않도록 updatable = false)
 	@Builder.Default
-	@Column(name = "view_count")
+	@Column(name = "view_count", updatable = false)
 	private int viewCount = 0;
 
 	@Builder.Default
-	@Column(name = "like_count")
+	@Column(name = "like_count", updatable = false)
 	private int likeCount = 0;
 
+	@Builder.Default
+	@Column(name = "comment_count", nullable = false, updatable = false)
+	private int commentCount = 0;
+
+	// 조건부 조회(ETag) 검증자용 버전 - 엔티티 수정 시 JPA가 증가 (카운터 일괄 UPDATE는 제외)
+	@Version
+	@Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+	private long version;
+
 	@Column(name = "created_at")
 	private LocalDateTime createdAt;
 
@@ -55,9 +72,11 @@ public class Post {
 	@JoinTable(
 		name = "post_tags",
 		joinColumns = @JoinColumn(name = "post_id"),
-		inverseJoinColumns = @JoinColumn(name = "tag_id")
+		inverseJoinColumns = @JoinColumn(name = "tag_id"),
+		indexes = @Index(name = "idx_post_tags_tag_post", columnList = "tag_id, post_id")
 	)
-	private List<Tag> tags = new ArrayList<>();
+	// Set으로 매핑해야 변경된 행만 INSERT/DELETE (List(bag)는 전체 삭제 후 재삽입)
+	private Set<Tag> tags = new LinkedHashSet<>();
 
 	@Builder.Default
 	@OneToMany(mappedBy = "post", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
@@ -94,11 +113,30 @@ public class Post {
 
 	public void addTag(Tag tag) {
 		if (this.tags == null) {
-			this.tags = new ArrayList<>();
+			this.tags = new LinkedHashSet<>();
 		}
 		this.tags.add(tag);
 	}
 
+	/**
+	 * 태그 목록을 교체하되 현재 태그와의 차이만 반영
+	 * @param newTags 새 태그 목록
+	 */
+	public void replaceTags(Collection<Tag> newTags) {
+		if (this.tags == null) {
+			this.tags = new LinkedHashSet<>();
+		}
+		Set<Long> newTagIds = newTags.stream().map(Tag::getId).collect(Collectors.toSet());
+		this.tags.removeIf(tag -> !newTagIds.contains(tag.getId()));
+
+		Set<Long> currentTagIds = this.tags.stream().map(Tag::getId).collect(Collectors.toSet());
+		for (Tag tag : newTags) {
+			if (currentTagIds.add(tag.getId())) {
+				this.tags.add(tag);
+			}
+		}
+	}
+
 	public void removeTag(Tag tag) {
 		if (this.tags != null) {
 			this.tags.remove(tag);
@@ -2,19 +2,24 @@ package com.blog.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "tags")
+@Table(name = "tags", indexes = {
+	@Index(name = "idx_tags_post_count", columnList = "post_count")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @ToString(exclude = {"posts"})
+// TagResolver가 캐시로 만든 참조(프록시)를 응답 변환 시 IN 쿼리 1회로 함께 초기화
+@BatchSize(size = 50)
 public class Tag {
 
 	@Id
@@ -31,6 +36,25 @@ public class Tag {
 	@ManyToMany(mappedBy = "tags", fetch = FetchType.LAZY)
 	private List<Post> posts = new ArrayList<>();
 
+	// 태그가 달린 게시물 수 (게시물 변경 시 일괄 UPDATE로 증감, TagPostCountRebuildJob이 주기적으로 보정)
+	// 태그 수정 시 불러온 시점의 값으로 덮어쓰지 않도록 updatable = false
+	@Builder.Default
+	@Column(name = "post_count", nullable = false, updatable = false)
+	private int postCount = 0;
+
+	// 소속 게시물이 생성/수정/삭제될 때마다 일괄 UPDATE로 증가 (상세 응답의 최근 게시물 검증자용)
+	@Builder.Default
+	@Column(name = "posts_version", nullable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+	private long postsVersion = 0;
+
+	@Column(name = "posts_updated_at", updatable = false)
+	private LocalDateTime postsUpdatedAt;
+
+	// 이름/설명 수정 시 증가 (post_count 증감은 일괄 UPDATE라 버전을 올리지 않음)
+	@Version
+	@Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+	private long version;
+
 	@Column(name = "created_at")
 	private LocalDateTime createdAt;
 
@@ -6,6 +6,7 @@ import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -250,6 +251,24 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.badRequest().body(errorResponse);
 	}
 
+	/**
+	 * 낙관적 잠금 충돌 예외 처리 (동시에 같은 리소스를 수정)
+	 */
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+		OptimisticLockingFailureException e, HttpServletRequest request) {
+
+		log.warn("Optimistic Locking Failure: {}", e.getMessage());
+
+		ErrorResponse errorResponse = ErrorResponse.of(
+			"CONCURRENT_MODIFICATION",
+			"다른 요청이 먼저 수정했습니다. 다시 조회한 뒤 시도해 주세요.",
+			request.getRequestURI()
+		);
+
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+	}
+
 	/**
 	 * HTTP 메시지 읽기 실패 예외 처리
 	 */
@@ -0,0 +1,16 @@
+package com.blog.outbox;
+
+import com.blog.entity.OutboxEvent;
+
+/**
+ * 아웃박스 이벤트 소비자
+ *
+ * 릴레이는 최소 1회(at-least-once) 전달을 보장하므로 같은 이벤트가 여러 번 전달되어도
+ * 결과가 같도록(멱등) 구현해야 합니다.
+ */
+public interface OutboxEventHandler {
+
+	boolean supports(String eventType);
+
+	void handle(OutboxEvent event, OutboxPayload payload) throws Exception;
+}
@@ -0,0 +1,45 @@
+package com.blog.outbox;
+
+import com.blog.entity.OutboxEvent;
+import com.blog.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+/**
+ * 아웃박스 이벤트 기록
+ *
+ * 호출한 서비스의 트랜잭션 안에서 outbox_events에 행을 추가하므로,
+ * 도메인 변경과 이벤트 기록이 함께 커밋되거나 함께 롤백됩니다.
+ * 기록한 이벤트는 {@link OutboxEventRecordedEvent}로도 발행해 커밋 직후 같은 노드에서 처리할 수 있게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final ObjectMapper objectMapper;
+	private final ApplicationEventPublisher applicationEventPublisher;
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void publish(String aggregateType, Long aggregateId, String eventType, Map<String, Object> payload) {
+		OutboxEvent event;
+		try {
+			event = outboxEventRepository.save(OutboxEvent.builder()
+				.aggregateType(aggregateType)
+				.aggregateId(aggregateId)
+				.eventType(eventType)
+				.payload(objectMapper.writeValueAsString(payload))
+				.build());
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("아웃박스 이벤트 직렬화에 실패했습니다.", e);
+		}
+		applicationEventPublisher.publishEvent(new OutboxEventRecordedEvent(event, new OutboxPayload(payload)));
+	}
+}
@@ -0,0 +1,19 @@
+package com.blog.outbox;
+
+import com.blog.entity.OutboxEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스 이벤트가 기록되었을 때 같은 노드 안에서 발행되는 애플리케이션 이벤트
+ *
+ * 커밋 직후 바로 반영해야 하는 소비자는 {@code @TransactionalEventListener(phase = AFTER_COMMIT)}로 받고,
+ * 릴레이 전달은 실패/다른 노드 대비 백업으로 둡니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class OutboxEventRecordedEvent {
+
+	private final OutboxEvent event;
+	private final OutboxPayload payload;
+}
@@ -0,0 +1,37 @@
+package com.blog.outbox;
+
+/**
+ * 아웃박스 이벤트 종류
+ */
+public final class OutboxEventType {
+
+	public static final String AGGREGATE_POST = "POST";
+	public static final String AGGREGATE_COMMENT = "COMMENT";
+	public static final String AGGREGATE_TAG = "TAG";
+
+	public static final String POST_CREATED = "POST_CREATED";
+	public static final String POST_UPDATED = "POST_UPDATED";
+	public static final String POST_DELETED = "POST_DELETED";
+
+	public static final String COMMENT_CREATED = "COMMENT_CREATED";
+	public static final String COMMENT_UPDATED = "COMMENT_UPDATED";
+	public static final String COMMENT_DELETED = "COMMENT_DELETED";
+
+	public static final String TAG_UPDATED = "TAG_UPDATED";
+	public static final String TAG_DELETED = "TAG_DELETED";
+
+	private OutboxEventType() {
+	}
+
+	public static boolean isPostEvent(String eventType) {
+		return eventType.startsWith(AGGREGATE_POST + "_");
+	}
+
+	public static boolean isCommentEvent(String eventType) {
+		return eventType.startsWith(AGGREGATE_COMMENT + "_");
+	}
+
+	public static boolean isTagEvent(String eventType) {
+		return eventType.startsWith(AGGREGATE_TAG + "_");
+	}
+}
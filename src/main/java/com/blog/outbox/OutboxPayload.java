@@ -0,0 +1,39 @@
+package com.blog.outbox;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아웃박스 이벤트 본문 (JSON 객체) 조회 도우미
+ */
+public class OutboxPayload {
+
+	private final Map<String, Object> values;
+
+	public OutboxPayload(Map<String, Object> values) {
+		this.values = values != null ? values : Collections.emptyMap();
+	}
+
+	public Long getLong(String name) {
+		Object value = values.get(name);
+		return value instanceof Number number ? number.longValue() : null;
+	}
+
+	public List<Long> getLongList(String name) {
+		List<Long> result = new ArrayList<>();
+		if (values.get(name) instanceof List<?> list) {
+			for (Object value : list) {
+				if (value instanceof Number number) {
+					result.add(number.longValue());
+				}
+			}
+		}
+		return result;
+	}
+
+	public Map<String, Object> asMap() {
+		return values;
+	}
+}
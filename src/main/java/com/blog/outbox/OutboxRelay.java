@@ -0,0 +1,121 @@
+package com.blog.outbox;
+
+import com.blog.entity.OutboxEvent;
+import com.blog.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아웃박스 릴레이
+ *
+ * 미처리 이벤트를 배치로 가져와 등록된 {@link OutboxEventHandler}에 전달합니다.
+ * 이벤트마다 별도 트랜잭션에서 행을 잠그고 핸들러를 실행하므로, 한 이벤트의 실패가
+ * 같은 배치의 다른 이벤트를 롤백시키지 않습니다. 실패한 이벤트는 새 트랜잭션에서 시도 횟수를
+ * 기록하고 다음 주기에 다시 전달합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final List<OutboxEventHandler> handlers;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectMapper objectMapper;
+
+	private static final int BATCH_SIZE = 100;
+	private static final int MAX_ATTEMPTS = 10;
+	private static final int RETENTION_DAYS = 7;
+
+	@Scheduled(fixedDelayString = "${blog.outbox.relay-interval-ms:1000}")
+	public void relay() {
+		while (relayBatch()) {
+			// 배치가 가득 찼고 실패가 없으면 바로 다음 배치 처리
+		}
+	}
+
+	/**
+	 * @return 바로 다음 배치를 처리해야 하면 true (실패가 있으면 같은 이벤트를 곧바로 재시도하지 않도록 다음 주기로 미룸)
+	 */
+	boolean relayBatch() {
+		List<Long> ids = outboxEventRepository.findPendingIds(MAX_ATTEMPTS, PageRequest.of(0, BATCH_SIZE));
+		boolean failed = false;
+		for (Long id : ids) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> outboxEventRepository
+					.findPendingByIdForUpdate(id, MAX_ATTEMPTS)
+					.ifPresent(this::dispatch));
+			} catch (RuntimeException e) {
+				failed = true;
+				recordFailure(id, e);
+			}
+		}
+		return !failed && ids.size() == BATCH_SIZE;
+	}
+
+	private void dispatch(OutboxEvent event) {
+		try {
+			OutboxPayload payload = parsePayload(event);
+			for (OutboxEventHandler handler : handlers) {
+				if (handler.supports(event.getEventType())) {
+					handler.handle(event, payload);
+				}
+			}
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new HandlerException(e);
+		}
+		event.markProcessed();
+	}
+
+	private void recordFailure(Long id, RuntimeException e) {
+		Throwable cause = e instanceof HandlerException ? e.getCause() : e;
+		try {
+			transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(id).ifPresent(event -> {
+				event.markFailed(cause.getMessage());
+				log.error("아웃박스 이벤트 처리 실패 - ID: {}, 종류: {}, 시도: {}",
+					event.getId(), event.getEventType(), event.getAttempts(), cause);
+			}));
+		} catch (RuntimeException recordError) {
+			log.error("아웃박스 이벤트 실패 기록 실패 - ID: {}", id, recordError);
+		}
+	}
+
+	/**
+	 * 처리 완료 후 보관 기간이 지난 이벤트 정리
+	 */
+	@Scheduled(cron = "${blog.outbox.cleanup-cron:0 30 4 * * *}")
+	public void cleanup() {
+		int deleted = outboxEventRepository.deleteProcessedBefore(LocalDateTime.now().minusDays(RETENTION_DAYS));
+		log.info("처리 완료된 아웃박스 이벤트 정리 - 삭제 수: {}", deleted);
+	}
+
+	private OutboxPayload parsePayload(OutboxEvent event) throws Exception {
+		if (event.getPayload() == null) {
+			return new OutboxPayload(null);
+		}
+		Map<String, Object> values = objectMapper.readValue(event.getPayload(), new TypeReference<>() {});
+		return new OutboxPayload(values);
+	}
+
+	/**
+	 * 핸들러의 검사 예외를 트랜잭션 콜백 밖으로 전달하기 위한 래퍼
+	 */
+	private static class HandlerException extends RuntimeException {
+
+		HandlerException(Exception cause) {
+			super(cause.getMessage(), cause);
+		}
+	}
+}
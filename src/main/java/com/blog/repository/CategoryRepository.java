@@ -1,11 +1,16 @@
 package com.blog.repository;
 
+import com.blog.dto.response.ResourceVersion;
 import com.blog.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,8 +19,22 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
 	Optional<Category> findByName(String name);
 
+	// 게시물 수는 idx_posts_category_created 범위 카운트, 소속 게시물 변경은 posts_version/posts_updated_at으로 반영
+	@Query("SELECT new com.blog.dto.response.ResourceVersion(c.version, c.updatedAt, " +
+		"(SELECT COUNT(p) FROM Post p WHERE p.category.id = c.id), c.postsVersion, c.postsUpdatedAt) " +
+		"FROM Category c WHERE c.id = :id")
+	Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
 	boolean existsByName(String name);
 
+	/**
+	 * 소속 게시물 변경 표시 (게시물 생성/수정/삭제와 같은 트랜잭션에서 호출)
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE Category c SET c.postsVersion = c.postsVersion + 1, c.postsUpdatedAt = :now WHERE c.id IN :categoryIds")
+	int touchPosts(@Param("categoryIds") Collection<Long> categoryIds, @Param("now") LocalDateTime now);
+
 	@Query("SELECT c FROM Category c ORDER BY c.name ASC")
 	List<Category> findAllOrderByName();
 
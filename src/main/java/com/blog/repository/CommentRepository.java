@@ -3,18 +3,72 @@ package com.blog.repository;
 import org.springframework.data.domain.Page;
 import com.blog.entity.Comment;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
 	Page<Comment> findByPostIdAndParentIsNullAndIsDeletedFalseOrderByCreatedAtDesc(Long postId, Pageable pageable);
 
+	@EntityGraph(attributePaths = {"author"})
+	@Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.parent IS NULL AND c.isDeleted = false " +
+		"ORDER BY c.createdAt DESC, c.id DESC")
+	List<Comment> findRootCommentsFirst(@Param("postId") Long postId, Pageable pageable);
+
+	/**
+	 * 키셋 페이지네이션 - 커서 (createdAt, id) 이후의 최상위 댓글
+	 */
+	@EntityGraph(attributePaths = {"author"})
+	@Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.parent IS NULL AND c.isDeleted = false " +
+		"AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+		"ORDER BY c.createdAt DESC, c.id DESC")
+	List<Comment> findRootCommentsBefore(@Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt,
+		@Param("id") Long id, Pageable pageable);
+
+	@Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId AND c.parent IS NULL AND c.isDeleted = false")
+	long countRootComments(@Param("postId") Long postId);
+
+	/**
+	 * 댓글 트리 조립용 - 경로 범위 안의 답글을 작성자와 함께 경로 순(부모가 자식보다 먼저)으로 한 번에 조회
+	 * fromPath는 범위 첫 최상위 댓글의 경로, prefixUpper는 마지막 최상위 댓글 경로의 {@link Comment#pathUpperBound(String)},
+	 * maxPathLength로 깊이를 제한합니다.
+	 */
+	@EntityGraph(attributePaths = {"author"})
+	@Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.path > :fromPath AND c.path < :prefixUpper " +
+		"AND LENGTH(c.path) <= :maxPathLength AND c.parent IS NOT NULL AND c.isDeleted = false ORDER BY c.path ASC")
+	List<Comment> findRepliesInPathRange(@Param("postId") Long postId, @Param("fromPath") String fromPath,
+		@Param("prefixUpper") String prefixUpper, @Param("maxPathLength") int maxPathLength);
+
+	// 댓글 트리 조립용 - 경로 백필 전 댓글이 있을 때 게시물의 모든 댓글을 작성자와 함께 작성순으로 조회
+	@EntityGraph(attributePaths = {"author"})
 	List<Comment> findByPostIdAndIsDeletedFalseOrderByCreatedAtAsc(Long postId);
 
+	/**
+	 * 스레드 조회 - 경로 접두사 범위를 경로 순으로 훑는 키셋 페이지네이션
+	 * 첫 페이지는 afterPath에 기준 댓글의 경로를 넘기면 기준 댓글 자신은 제외됩니다.
+	 * prefixUpper는 {@link Comment#pathUpperBound(String)}로 구한 범위 상한입니다.
+	 */
+	@EntityGraph(attributePaths = {"author"})
+	@Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.path > :afterPath AND c.path < :prefixUpper " +
+		"AND c.isDeleted = false ORDER BY c.path ASC")
+	List<Comment> findThreadAfter(@Param("postId") Long postId, @Param("afterPath") String afterPath,
+		@Param("prefixUpper") String prefixUpper, Pageable pageable);
+
+	// 하위 댓글 수 - 경로 접두사 범위 카운트 (자신 제외)
+	@Query("SELECT COUNT(c) FROM Comment c WHERE c.post.id = :postId AND c.path > :prefix AND c.path < :prefixUpper " +
+		"AND c.isDeleted = false")
+	long countDescendants(@Param("postId") Long postId, @Param("prefix") String prefix,
+		@Param("prefixUpper") String prefixUpper);
+
+	// 경로 백필용 - ID 순이므로 부모가 항상 먼저 처리됨
+	@Query("SELECT c FROM Comment c LEFT JOIN FETCH c.parent WHERE c.path IS NULL AND c.id > :lastId ORDER BY c.id ASC")
+	List<Comment> findWithoutPathAfter(@Param("lastId") Long lastId, Pageable pageable);
+
 	List<Comment> findByParentIdAndIsDeletedFalseOrderByCreatedAtAsc(Long parentId);
 
 	Page<Comment> findByParentIdAndIsDeletedFalse(Long parentId, Pageable pageable);
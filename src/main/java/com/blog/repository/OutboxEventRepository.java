@@ -0,0 +1,41 @@
+package com.blog.repository;
+
+import com.blog.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/**
+	 * 미처리 이벤트 ID 조회 (잠금 없음)
+	 */
+	@Query("SELECT e.id FROM OutboxEvent e WHERE e.processedAt IS NULL AND e.attempts < :maxAttempts ORDER BY e.id ASC")
+	List<Long> findPendingIds(@Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+	/**
+	 * 미처리 이벤트 하나를 잠금과 함께 조회 (다른 노드가 잠근 행이거나 이미 처리되었으면 빈 값)
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("SELECT e FROM OutboxEvent e WHERE e.id = :id AND e.processedAt IS NULL AND e.attempts < :maxAttempts")
+	Optional<OutboxEvent> findPendingByIdForUpdate(@Param("id") Long id, @Param("maxAttempts") int maxAttempts);
+
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM OutboxEvent e WHERE e.processedAt < :before")
+	int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,45 +1,143 @@
 package com.blog.repository;
 
+import com.blog.dto.response.ResourceVersion;
 import com.blog.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+	@EntityGraph(attributePaths = {"author", "category", "tags"})
+	Optional<Post> findWithTagsById(Long id);
+
+	/**
+	 * 조건부 조회 검증자 - 상세 응답 없이 버전/수정 시각/댓글 수와, 응답에 이름이 포함되는
+	 * 카테고리/태그의 버전 및 작성자/카테고리/태그의 수정 시각만 조회 (게시물당 태그 몇 개만 읽음)
+	 */
+	default Optional<ResourceVersion> findVersionById(Long id) {
+		return findVersionRowById(id).stream().findFirst().map(row -> new ResourceVersion(
+			((Number) row[0]).longValue(),
+			(LocalDateTime) row[1],
+			((Number) row[2]).longValue(),
+			(row[3] != null ? ((Number) row[3]).longValue() : 0L) + (row[4] != null ? ((Number) row[4]).longValue() : 0L),
+			ResourceVersion.latest((LocalDateTime) row[5], (LocalDateTime) row[6], (LocalDateTime) row[7])));
+	}
+
+	// [게시물 버전, 수정 시각, 댓글 수, 카테고리 버전, 태그 버전 합, 작성자/카테고리 수정 시각, 태그 최종 수정 시각]
+	@Query("SELECT p.version, p.updatedAt, p.commentCount, c.version, " +
+		"(SELECT SUM(t.version) FROM Post tp JOIN tp.tags t WHERE tp.id = p.id), a.updatedAt, c.updatedAt, " +
+		"(SELECT MAX(t.updatedAt) FROM Post tp JOIN tp.tags t WHERE tp.id = p.id) " +
+		"FROM Post p JOIN p.author a LEFT JOIN p.category c WHERE p.id = :id")
+	List<Object[]> findVersionRowById(@Param("id") Long id);
+
+	@EntityGraph(attributePaths = {"author", "category"})
+	List<Post> findByIdIn(Collection<Long> ids);
+
+	@EntityGraph(attributePaths = {"author", "category", "tags"})
+	List<Post> findWithTagsByIdIn(Collection<Long> ids);
+
+	@EntityGraph(attributePaths = {"author", "category"})
 	Page<Post> findByIsPublishedTrue(Pageable pageable);
 
+	@EntityGraph(attributePaths = {"author", "category"})
+	@Query("SELECT p FROM Post p WHERE p.isPublished = true ORDER BY p.createdAt DESC, p.id DESC")
+	List<Post> findPublishedFirst(Pageable pageable);
+
+	/**
+	 * 키셋 페이지네이션 - 커서 (createdAt, id) 이후의 공개 게시물
+	 */
+	@EntityGraph(attributePaths = {"author", "category"})
+	@Query("SELECT p FROM Post p WHERE p.isPublished = true " +
+		"AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+		"ORDER BY p.createdAt DESC, p.id DESC")
+	List<Post> findPublishedBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+	@EntityGraph(attributePaths = {"author", "category"})
+	@Query("SELECT p FROM Post p JOIN p.tags t WHERE t.id = :tagId AND p.isPublished = true " +
+		"ORDER BY p.createdAt DESC, p.id DESC")
+	List<Post> findPublishedByTagFirst(@Param("tagId") Long tagId, Pageable pageable);
+
+	@EntityGraph(attributePaths = {"author", "category"})
+	@Query("SELECT p FROM Post p JOIN p.tags t WHERE t.id = :tagId AND p.isPublished = true " +
+		"AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+		"ORDER BY p.createdAt DESC, p.id DESC")
+	List<Post> findPublishedByTagBefore(@Param("tagId") Long tagId, @Param("createdAt") LocalDateTime createdAt,
+		@Param("id") Long id, Pageable pageable);
+
 	Page<Post> findByAuthorIdAndIsPublishedTrue(Long authorId, Pageable pageable);
 
+	@EntityGraph(attributePaths = {"author", "category"})
 	Page<Post> findByCategoryIdAndIsPublishedTrue(Long categoryId, Pageable pageable);
 
-	@Query("SELECT p FROM Post p WHERE p.isPublished = true AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)")
-	Page<Post> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
-
+	@EntityGraph(attributePaths = {"author", "category"})
 	@Query("SELECT p FROM Post p JOIN p.tags t WHERE p.isPublished = true AND t.name IN :tagNames")
 	Page<Post> findByTagNames(@Param("tagNames") List<String> tagNames, Pageable pageable);
 
-	@Query("SELECT p FROM Post p WHERE p.isPublished = true ORDER BY p.viewCount DESC")
-	Page<Post> findPopularPosts(Pageable pageable);
+	// 리더보드 초기화용 (ID 순 배치)
+	@Query("SELECT p.id, p.viewCount, p.likeCount FROM Post p WHERE p.id > :lastId AND p.isPublished = true ORDER BY p.id ASC")
+	List<Object[]> findPublishedCountersAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+	// 카운터 반영 직후의 DB 값 (조회 측 DB 값 사본 갱신용)
+	@Query("SELECT p.id, p.viewCount, p.likeCount FROM Post p WHERE p.id IN :ids")
+	List<Object[]> findCountersByIdIn(@Param("ids") Collection<Long> ids);
+
+	// 카테고리 최근 게시물 (idx_posts_category_created 사용)
+	@EntityGraph(attributePaths = {"author", "category"})
+	@Query("SELECT p FROM Post p WHERE p.category.id = :categoryId AND p.isPublished = true " +
+		"ORDER BY p.createdAt DESC, p.id DESC")
+	List<Post> findRecentByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
 
-	@Query("SELECT p FROM Post p WHERE p.isPublished = true ORDER BY p.likeCount DESC")
-	Page<Post> findMostLikedPosts(Pageable pageable);
+	// 태그 최근 게시물 ID (post_tags의 (tag_id, post_id) 인덱스를 역순으로 읽음, ID 순서 = 작성 순서)
+	@Query(value = "SELECT pt.post_id FROM post_tags pt JOIN posts p ON p.id = pt.post_id " +
+		"WHERE pt.tag_id = :tagId AND p.is_published = true ORDER BY pt.post_id DESC", nativeQuery = true)
+	List<Long> findRecentIdsByTagId(@Param("tagId") Long tagId, Pageable pageable);
 
-	@Query("SELECT p FROM Post p WHERE p.isPublished = true AND p.category.id = :categoryId AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)")
-	Page<Post> searchByCategoryAndKeyword(@Param("categoryId") Long categoryId, @Param("keyword") String keyword, Pageable pageable);
+	// 태그 수정/삭제 시 상세 캐시를 무효화할 게시물 (공개 여부와 무관)
+	@Query(value = "SELECT pt.post_id FROM post_tags pt WHERE pt.tag_id = :tagId", nativeQuery = true)
+	List<Long> findIdsByTagId(@Param("tagId") Long tagId);
 
-	@Query("SELECT p FROM Post p JOIN p.tags t WHERE p.isPublished = true AND t.name IN :tagNames AND (p.title LIKE %:keyword% OR p.content LIKE %:keyword%)")
-	Page<Post> searchByTagsAndKeyword(@Param("tagNames") List<String> tagNames, @Param("keyword") String keyword, Pageable pageable);
+	long countByCategoryId(Long categoryId);
 
 	@Query("SELECT COUNT(p) FROM Post p WHERE p.author.id = :authorId")
 	Long countByAuthorId(@Param("authorId") Long authorId);
 
-	@Query("SELECT p FROM Post p WHERE p.isPublished = true ORDER BY p.createdAt DESC")
-	List<Post> findRecentPosts(Pageable pageable);
+	@Transactional
+	@Modifying
+	@Query("UPDATE Post p SET p.viewCount = p.viewCount + :delta WHERE p.id = :postId")
+	int incrementViewCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE Post p SET p.likeCount = CASE WHEN p.likeCount + :delta < 0 THEN 0 ELSE p.likeCount + :delta END WHERE p.id = :postId")
+	int incrementLikeCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE Post p SET p.commentCount = CASE WHEN p.commentCount + :delta < 0 THEN 0 ELSE p.commentCount + :delta END WHERE p.id = :postId")
+	int incrementCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+	/**
+	 * 삭제되지 않은 댓글 기준으로 comment_count 재계산 (세기와 쓰기를 한 문장으로 처리해 그 사이의 증감을 덮어쓰지 않음)
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE posts SET comment_count = (SELECT COUNT(*) FROM comments c " +
+		"WHERE c.post_id = posts.id AND c.is_deleted = false) WHERE id IN :postIds", nativeQuery = true)
+	int rebuildCommentCount(@Param("postIds") Collection<Long> postIds);
+
+	@Query("SELECT p.id FROM Post p WHERE p.id > :lastId ORDER BY p.id ASC")
+	List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -1,29 +1,48 @@
 package com.blog.repository;
 
+import com.blog.dto.response.ResourceVersion;
 import com.blog.entity.Tag;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TagRepository extends JpaRepository<Tag, Long> {
+public interface TagRepository extends JpaRepository<Tag, Long>, TagRepositoryCustom {
 
 	Optional<Tag> findByName(String name);
 
+	// 소속 게시물 변경은 posts_version/posts_updated_at으로 반영 (게시물을 집계하지 않고 태그 행만 읽음)
+	@Query("SELECT new com.blog.dto.response.ResourceVersion(t.version, t.updatedAt, CAST(t.postCount AS Long), " +
+		"t.postsVersion, t.postsUpdatedAt) FROM Tag t WHERE t.id = :id")
+	Optional<ResourceVersion> findVersionById(@Param("id") Long id);
+
 	boolean existsByName(String name);
 
-	List<Tag> findByNameIn(List<String> names);
+	List<Tag> findByNameIn(Collection<String> names);
+
+	/**
+	 * 태그명 IN 공유 잠금 조회 (트랜잭션 스냅샷이 아닌 최신 커밋 값을 읽음)
+	 */
+	@Lock(LockModeType.PESSIMISTIC_READ)
+	@Query("SELECT t FROM Tag t WHERE t.name IN :names")
+	List<Tag> findLockedByNameIn(@Param("names") Collection<String> names);
 
 	@Query("SELECT t FROM Tag t ORDER BY t.name ASC")
 	List<Tag> findAllOrderByName();
 
-	@Query("SELECT t FROM Tag t LEFT JOIN t.posts p GROUP BY t ORDER BY COUNT(p) DESC")
+	@Query("SELECT t FROM Tag t ORDER BY t.postCount DESC, t.name ASC")
 	List<Tag> findPopularTags(Pageable pageable);
 
 	@Query("SELECT t FROM Tag t WHERE LOWER(t.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY t.name ASC")
@@ -34,4 +53,36 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
 
 	@Query("SELECT t FROM Tag t JOIN t.posts p WHERE p.id = :postId")
 	List<Tag> findByPostId(@Param("postId") Long postId);
+
+	/**
+	 * 여러 게시물의 태그를 한 번에 조회
+	 * @return [게시물 ID, 태그] 쌍 목록
+	 */
+	@Query("SELECT p.id, t FROM Tag t JOIN t.posts p WHERE p.id IN :postIds")
+	List<Object[]> findWithPostIdByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+	@Transactional
+	@Modifying
+	@Query("UPDATE Tag t SET t.postCount = CASE WHEN t.postCount + :delta < 0 THEN 0 ELSE t.postCount + :delta END WHERE t.id IN :tagIds")
+	int incrementPostCount(@Param("tagIds") Collection<Long> tagIds, @Param("delta") int delta);
+
+	/**
+	 * 소속 게시물 변경 표시 (게시물 생성/수정/삭제와 같은 트랜잭션에서 호출)
+	 */
+	@Transactional
+	@Modifying
+	@Query("UPDATE Tag t SET t.postsVersion = t.postsVersion + 1, t.postsUpdatedAt = :now WHERE t.id IN :tagIds")
+	int touchPosts(@Param("tagIds") Collection<Long> tagIds, @Param("now") LocalDateTime now);
+
+	/**
+	 * post_tags 기준으로 post_count 재계산
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE tags SET post_count = (SELECT COUNT(*) FROM post_tags pt WHERE pt.tag_id = tags.id) " +
+		"WHERE id IN :tagIds", nativeQuery = true)
+	int rebuildPostCount(@Param("tagIds") Collection<Long> tagIds);
+
+	@Query("SELECT t.id FROM Tag t WHERE t.id > :lastId ORDER BY t.id ASC")
+	List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
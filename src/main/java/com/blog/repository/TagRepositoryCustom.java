@@ -0,0 +1,13 @@
+package com.blog.repository;
+
+import java.util.Collection;
+
+public interface TagRepositoryCustom {
+
+	/**
+	 * 태그명 목록 중 없는 이름만 한 번의 다중 행 문장으로 생성
+	 * 이름 중복 외의 오류(길이 초과, 제약 위반 등)는 그대로 예외로 전달됩니다.
+	 * @param names 검증된 태그명 목록
+	 */
+	void insertMissingByNames(Collection<String> names);
+}
@@ -0,0 +1,67 @@
+package com.blog.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 태그 일괄 생성
+ *
+ * 동시에 같은 새 태그를 추가하는 요청이 tags.name 유니크 제약에서 실패하지 않도록
+ * 중복 이름만 건너뛰고, 호출하는 쪽에서 다시 조회해 ID를 얻습니다.
+ * MySQL은 INSERT ... ON DUPLICATE KEY UPDATE id = id, 그 외(H2 등 테스트 DB)는 표준 MERGE를 사용합니다.
+ * INSERT IGNORE와 달리 중복 키 외의 오류(길이 초과 시 잘림, NOT NULL 위반 등)를 경고로 바꾸지 않습니다.
+ */
+@RequiredArgsConstructor
+public class TagRepositoryImpl implements TagRepositoryCustom {
+
+	private final JdbcTemplate jdbcTemplate;
+	private volatile Boolean mysqlDialect;
+
+	@Override
+	public void insertMissingByNames(Collection<String> names) {
+		if (names.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		boolean mysql = isMysql();
+		StringBuilder rows = new StringBuilder();
+		List<Object> args = new ArrayList<>(names.size() * 3);
+		for (String name : names) {
+			if (!args.isEmpty()) {
+				rows.append(", ");
+			}
+			// MERGE의 VALUES 자리표시자는 타입을 추론할 수 없는 DB가 있어 명시적으로 변환
+			rows.append(mysql ? "(?, 0, ?, ?)" : "(CAST(? AS VARCHAR(255)), CAST(? AS TIMESTAMP), CAST(? AS TIMESTAMP))");
+			args.add(name);
+			args.add(now);
+			args.add(now);
+		}
+
+		String sql = mysql
+			? "INSERT INTO tags (name, post_count, created_at, updated_at) VALUES " + rows
+				+ " ON DUPLICATE KEY UPDATE id = id"
+			: "MERGE INTO tags t USING (VALUES " + rows + ") AS v (name, created_at, updated_at) ON t.name = v.name "
+				+ "WHEN NOT MATCHED THEN INSERT (name, post_count, created_at, updated_at) "
+				+ "VALUES (v.name, 0, v.created_at, v.updated_at)";
+		jdbcTemplate.update(sql, args.toArray());
+	}
+
+	private boolean isMysql() {
+		Boolean current = mysqlDialect;
+		if (current == null) {
+			String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+				connection.getMetaData().getDatabaseProductName());
+			current = product != null && product.toLowerCase().contains("mysql");
+			mysqlDialect = current;
+		}
+		return current;
+	}
+}
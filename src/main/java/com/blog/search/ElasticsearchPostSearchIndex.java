@@ -0,0 +1,84 @@
+package com.blog.search;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.blog.dto.request.PostSearchRequest;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "blog.search.engine", havingValue = "elasticsearch", matchIfMissing = true)
+public class ElasticsearchPostSearchIndex implements PostSearchIndex {
+
+	private final ElasticsearchOperations elasticsearchOperations;
+
+	@PostConstruct
+	public void createIndexIfMissing() {
+		try {
+			IndexOperations indexOps = elasticsearchOperations.indexOps(PostDocument.class);
+			if (!indexOps.exists()) {
+				indexOps.createWithMapping();
+				log.info("게시물 검색 인덱스 생성 완료");
+			}
+		} catch (Exception e) {
+			log.error("게시물 검색 인덱스 생성 실패: {}", e.getMessage());
+		}
+	}
+
+	@Override
+	public void index(PostDocument document) {
+		elasticsearchOperations.save(document);
+	}
+
+	@Override
+	public void delete(Long postId) {
+		elasticsearchOperations.delete(String.valueOf(postId), PostDocument.class);
+	}
+
+	@Override
+	public Page<Long> search(PostSearchRequest request, Pageable pageable) {
+		NativeQuery query = NativeQuery.builder()
+			.withQuery(q -> q.bool(b -> {
+				b.must(m -> m.multiMatch(mm -> mm
+					.query(request.getKeyword())
+					.fields("title^2", "content")));
+				b.filter(f -> f.term(t -> t.field("published").value(true)));
+				if (request.getCategoryId() != null) {
+					b.filter(f -> f.term(t -> t.field("categoryId").value(request.getCategoryId())));
+				}
+				if (request.getTagNames() != null && !request.getTagNames().isEmpty()) {
+					List<FieldValue> tagValues = request.getTagNames().stream()
+						.map(FieldValue::of)
+						.collect(Collectors.toList());
+					b.filter(f -> f.terms(t -> t.field("tagNames").terms(v -> v.value(tagValues))));
+				}
+				return b;
+			}))
+			.withSourceFilter(new FetchSourceFilterBuilder().withIncludes("id").build())
+			.withPageable(pageable)
+			.build();
+
+		SearchHits<PostDocument> hits = elasticsearchOperations.search(query, PostDocument.class);
+		List<Long> postIds = hits.getSearchHits().stream()
+			.map(SearchHit::getId)
+			.map(Long::valueOf)
+			.collect(Collectors.toList());
+		return new PageImpl<>(postIds, pageable, hits.getTotalHits());
+	}
+}
@@ -0,0 +1,93 @@
+package com.blog.search;
+
+/**
+ * 한글 자모 분해 도우미
+ *
+ * 완성형 음절을 호환 자모(ㄱ, ㅏ 등) 문자열로 풀어 입력 중인 글자("한" → "ㅎㅏㄴ")로도
+ * 접두어 검색이 되도록 합니다. 겹모음/겹받침도 낱자로 풀어("ㅘ" → "ㅗㅏ", "ㄺ" → "ㄹㄱ")
+ * 입력 순서와 같은 형태로 비교합니다.
+ */
+public final class HangulJamo {
+
+	private static final char SYLLABLE_BASE = 0xAC00;
+	private static final char SYLLABLE_LAST = 0xD7A3;
+	private static final int MEDIAL_COUNT = 21;
+	private static final int FINAL_COUNT = 28;
+
+	private static final char[] INITIALS = {
+		'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+	};
+	private static final String[] MEDIALS = {
+		"ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ",
+		"ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+	};
+	private static final String[] FINALS = {
+		"", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+		"ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+	};
+	// 단독으로 입력된 겹자모
+	private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+	private static final String[] COMPOUND_DECOMPOSED = {
+		"ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+		"ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+	};
+
+	private HangulJamo() {
+	}
+
+	/**
+	 * 음절을 자모 단위로 분해 (한글이 아닌 문자는 그대로)
+	 */
+	public static String decompose(String text) {
+		StringBuilder result = new StringBuilder(text.length() * 3);
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (isSyllable(c)) {
+				int index = c - SYLLABLE_BASE;
+				result.append(INITIALS[index / (MEDIAL_COUNT * FINAL_COUNT)]);
+				result.append(MEDIALS[(index % (MEDIAL_COUNT * FINAL_COUNT)) / FINAL_COUNT]);
+				result.append(FINALS[index % FINAL_COUNT]);
+			} else {
+				int compound = COMPOUND_JAMO.indexOf(c);
+				if (compound >= 0) {
+					result.append(COMPOUND_DECOMPOSED[compound]);
+				} else {
+					result.append(c);
+				}
+			}
+		}
+		return result.toString();
+	}
+
+	/**
+	 * 초성만 추출 ("한글" → "ㅎㄱ", 한글이 아닌 문자는 그대로)
+	 */
+	public static String initials(String text) {
+		StringBuilder result = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			result.append(isSyllable(c) ? INITIALS[(c - SYLLABLE_BASE) / (MEDIAL_COUNT * FINAL_COUNT)] : c);
+		}
+		return result.toString();
+	}
+
+	/**
+	 * 자음(호환 자모)으로만 이루어진 입력인지 확인 - 초성 검색 여부 판단용
+	 */
+	public static boolean isInitialsOnly(String text) {
+		if (text.isEmpty()) {
+			return false;
+		}
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c < 'ㄱ' || c > 'ㅎ') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isSyllable(char c) {
+		return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+	}
+}
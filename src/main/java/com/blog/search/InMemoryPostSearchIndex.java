@@ -0,0 +1,74 @@
+package com.blog.search;
+
+import com.blog.dto.request.PostSearchRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 프로세스 내 게시물 검색 인덱스
+ *
+ * Elasticsearch 없이 실행하는 테스트/로컬 환경용 구현체입니다 (blog.search.engine=memory).
+ * 형태소 분석 없이 제목/본문 부분 일치로 검색합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "blog.search.engine", havingValue = "memory")
+public class InMemoryPostSearchIndex implements PostSearchIndex {
+
+	private final Map<Long, PostDocument> documents = new ConcurrentHashMap<>();
+
+	@Override
+	public void index(PostDocument document) {
+		documents.put(document.getId(), document);
+	}
+
+	@Override
+	public void delete(Long postId) {
+		documents.remove(postId);
+	}
+
+	@Override
+	public Page<Long> search(PostSearchRequest request, Pageable pageable) {
+		String keyword = request.getKeyword().toLowerCase(Locale.ROOT);
+
+		List<PostDocument> matched = documents.values().stream()
+			.filter(PostDocument::isPublished)
+			.filter(doc -> request.getCategoryId() == null || request.getCategoryId().equals(doc.getCategoryId()))
+			.filter(doc -> request.getTagNames() == null || request.getTagNames().isEmpty()
+				|| (doc.getTagNames() != null && doc.getTagNames().stream().anyMatch(request.getTagNames()::contains)))
+			.filter(doc -> contains(doc.getTitle(), keyword) || contains(doc.getContent(), keyword))
+			.sorted(comparator(pageable.getSort()))
+			.collect(Collectors.toList());
+
+		List<Long> pageIds = matched.stream()
+			.skip(pageable.getOffset())
+			.limit(pageable.getPageSize())
+			.map(PostDocument::getId)
+			.collect(Collectors.toList());
+		return new PageImpl<>(pageIds, pageable, matched.size());
+	}
+
+	private boolean contains(String text, String keyword) {
+		return text != null && text.toLowerCase(Locale.ROOT).contains(keyword);
+	}
+
+	private Comparator<PostDocument> comparator(Sort sort) {
+		Sort.Order order = sort.getOrderFor("createdAt");
+		if (order == null) {
+			return Comparator.comparing(PostDocument::getId).reversed();
+		}
+		Comparator<PostDocument> byCreatedAt = Comparator.comparing(PostDocument::getCreatedAt,
+			Comparator.nullsFirst(Comparator.naturalOrder()));
+		return order.isAscending() ? byCreatedAt : byCreatedAt.reversed();
+	}
+}
@@ -0,0 +1,67 @@
+package com.blog.search;
+
+import com.blog.entity.Post;
+import com.blog.entity.Tag;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.Setting;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 게시물 검색 인덱스 문서
+ *
+ * 제목/본문은 nori 기반 한국어 분석기(korean)로 색인합니다.
+ */
+@Document(indexName = "posts", createIndex = false)
+@Setting(settingPath = "elasticsearch/post-settings.json")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostDocument {
+
+	@Id
+	private Long id;
+
+	@Field(type = FieldType.Text, analyzer = "korean")
+	private String title;
+
+	@Field(type = FieldType.Text, analyzer = "korean")
+	private String content;
+
+	@Field(type = FieldType.Long)
+	private Long authorId;
+
+	@Field(type = FieldType.Long)
+	private Long categoryId;
+
+	@Field(type = FieldType.Keyword)
+	private List<String> tagNames;
+
+	@Field(type = FieldType.Boolean)
+	private boolean published;
+
+	@Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second_millis)
+	private LocalDateTime createdAt;
+
+	public static PostDocument from(Post post) {
+		return PostDocument.builder()
+			.id(post.getId())
+			.title(post.getTitle())
+			.content(post.getContent())
+			.authorId(post.getAuthor() != null ? post.getAuthor().getId() : null)
+			.categoryId(post.getCategory() != null ? post.getCategory().getId() : null)
+			.tagNames(post.getTags().stream().map(Tag::getName).collect(Collectors.toList()))
+			.published(post.isPublished())
+			.createdAt(post.getCreatedAt())
+			.build();
+	}
+}
@@ -0,0 +1,33 @@
+package com.blog.search;
+
+import com.blog.dto.request.PostSearchRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 게시물 전문 검색 인덱스
+ *
+ * 검색 결과는 게시물 ID만 반환하며, 실제 게시물은 DB에서 ID로 조회합니다.
+ */
+public interface PostSearchIndex {
+
+	/**
+	 * 게시물 색인 (없으면 추가, 있으면 덮어쓰기)
+	 * @param document 게시물 문서
+	 */
+	void index(PostDocument document);
+
+	/**
+	 * 게시물 색인 삭제
+	 * @param postId 게시물 ID
+	 */
+	void delete(Long postId);
+
+	/**
+	 * 키워드 검색
+	 * @param request 검색 조건 (키워드, 카테고리, 태그)
+	 * @param pageable 페이지 정보 (createdAt 정렬, 정렬이 없으면 관련도 순)
+	 * @return 검색된 게시물 ID 페이지
+	 */
+	Page<Long> search(PostSearchRequest request, Pageable pageable);
+}
@@ -0,0 +1,91 @@
+package com.blog.search;
+
+import com.blog.entity.OutboxEvent;
+import com.blog.entity.Post;
+import com.blog.outbox.OutboxEventHandler;
+import com.blog.outbox.OutboxEventType;
+import com.blog.outbox.OutboxPayload;
+import com.blog.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 게시물 변경 시 검색 인덱스 갱신
+ *
+ * 아웃박스 릴레이가 전달한 게시물 이벤트마다 DB의 최신 상태로 문서를 다시 색인합니다.
+ * 이벤트 내용이 아닌 현재 DB 상태를 기준으로 하므로 중복 전달되어도 결과가 같습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexer implements OutboxEventHandler {
+
+	private final PostRepository postRepository;
+	private final PostSearchIndex postSearchIndex;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${blog.search.reindex-on-startup:false}")
+	private boolean reindexOnStartup;
+
+	private static final int REINDEX_BATCH_SIZE = 200;
+
+	@Override
+	public boolean supports(String eventType) {
+		return OutboxEventType.isPostEvent(eventType);
+	}
+
+	@Override
+	public void handle(OutboxEvent event, OutboxPayload payload) {
+		Long postId = event.getAggregateId();
+		postRepository.findWithTagsById(postId)
+			.ifPresentOrElse(
+				post -> postSearchIndex.index(PostDocument.from(post)),
+				() -> postSearchIndex.delete(postId));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void reindexOnStartup() {
+		if (reindexOnStartup) {
+			reindexAll();
+		}
+	}
+
+	/**
+	 * 전체 게시물 재색인 (ID 순 배치)
+	 *
+	 * 시작 이벤트에서 자기 자신을 호출하면 프록시를 거치지 않으므로 배치마다 트랜잭션을 직접 엽니다.
+	 */
+	public void reindexAll() {
+		long lastId = 0;
+		int indexed = 0;
+
+		while (true) {
+			final long afterId = lastId;
+			List<Long> postIds = transactionTemplate.execute(status -> {
+				List<Long> batch = postRepository.findIdsAfter(afterId, PageRequest.of(0, REINDEX_BATCH_SIZE));
+				if (!batch.isEmpty()) {
+					for (Post post : postRepository.findWithTagsByIdIn(batch)) {
+						postSearchIndex.index(PostDocument.from(post));
+					}
+				}
+				return batch;
+			});
+			if (postIds == null || postIds.isEmpty()) {
+				break;
+			}
+
+			indexed += postIds.size();
+			lastId = postIds.get(postIds.size() - 1);
+		}
+
+		log.info("게시물 전체 재색인 완료 - 문서 수: {}", indexed);
+	}
+}
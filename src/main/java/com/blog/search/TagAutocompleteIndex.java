@@ -0,0 +1,189 @@
+package com.blog.search;
+
+import com.blog.dto.response.TagResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 태그 자동완성용 메모리 접두어 색인
+ *
+ * 태그명을 자모 분해한 키와 초성 키로 각각 정렬한 배열을 두고, 이진 탐색으로 접두어 범위를 찾은 뒤
+ * 게시물 수가 많은 순으로 상위 항목을 고릅니다. 조회는 불변 스냅샷을 읽기만 하며,
+ * 변경 시에는 새 스냅샷을 만들어 교체합니다 (태그 변경은 드물고 조회는 잦음).
+ */
+public class TagAutocompleteIndex {
+
+	private static final Comparator<Entry> RANKING = Comparator.comparingInt(Entry::getPostCount).reversed()
+		.thenComparing(entry -> entry.getTag().getName());
+
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
+	private volatile boolean loaded;
+
+	/**
+	 * 색인된 태그 정보와 순위용 게시물 수
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	public static class Entry {
+		private final TagResponse tag;
+		private final int postCount;
+	}
+
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	public int size() {
+		return snapshot.byId.size();
+	}
+
+	/**
+	 * 전체 교체 (기동 시 적재, 주기적 재적재)
+	 */
+	public synchronized void replaceAll(Collection<Entry> entries) {
+		Map<Long, Entry> byId = new HashMap<>();
+		for (Entry entry : entries) {
+			byId.put(entry.getTag().getId(), entry);
+		}
+		snapshot = Snapshot.of(byId);
+		loaded = true;
+	}
+
+	public synchronized void upsert(Entry entry) {
+		Map<Long, Entry> byId = new HashMap<>(snapshot.byId);
+		byId.put(entry.getTag().getId(), entry);
+		snapshot = Snapshot.of(byId);
+	}
+
+	public synchronized void remove(Long tagId) {
+		if (!snapshot.byId.containsKey(tagId)) {
+			return;
+		}
+		Map<Long, Entry> byId = new HashMap<>(snapshot.byId);
+		byId.remove(tagId);
+		snapshot = Snapshot.of(byId);
+	}
+
+	/**
+	 * 접두어 검색
+	 * @param keyword 입력어 (자모 단위 부분 입력, 초성만 입력 모두 허용)
+	 * @param limit 최대 개수
+	 * @return 게시물 수 내림차순 태그 목록
+	 */
+	public List<TagResponse> search(String keyword, int limit) {
+		String normalized = normalize(keyword);
+		if (normalized.isEmpty() || limit <= 0) {
+			return new ArrayList<>();
+		}
+
+		Snapshot current = snapshot;
+		boolean initialsOnly = HangulJamo.isInitialsOnly(normalized);
+		String[] keys = initialsOnly ? current.initialKeys : current.jamoKeys;
+		Entry[] entries = initialsOnly ? current.byInitials : current.byJamo;
+		String prefix = initialsOnly ? normalized : HangulJamo.decompose(normalized);
+
+		int from = lowerBound(keys, prefix);
+		int to = lowerBound(keys, prefix + Character.MAX_VALUE);
+
+		// 범위 안에서 상위 limit개만 유지
+		PriorityQueue<Entry> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+		for (int i = from; i < to; i++) {
+			top.offer(entries[i]);
+			if (top.size() > limit) {
+				top.poll();
+			}
+		}
+
+		List<Entry> ranked = new ArrayList<>(top);
+		ranked.sort(RANKING);
+		List<TagResponse> result = new ArrayList<>(ranked.size());
+		for (Entry entry : ranked) {
+			result.add(entry.getTag());
+		}
+		return result;
+	}
+
+	static String normalize(String text) {
+		return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private static int lowerBound(String[] keys, String target) {
+		int low = 0;
+		int high = keys.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (keys[mid].compareTo(target) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private static class Snapshot {
+		private static final Snapshot EMPTY = of(new HashMap<>());
+
+		private final Map<Long, Entry> byId;
+		private final Entry[] byJamo;
+		private final String[] jamoKeys;
+		private final Entry[] byInitials;
+		private final String[] initialKeys;
+
+		private Snapshot(Map<Long, Entry> byId, Entry[] byJamo, String[] jamoKeys, Entry[] byInitials,
+			String[] initialKeys) {
+			this.byId = byId;
+			this.byJamo = byJamo;
+			this.jamoKeys = jamoKeys;
+			this.byInitials = byInitials;
+			this.initialKeys = initialKeys;
+		}
+
+		private static Snapshot of(Map<Long, Entry> byId) {
+			int size = byId.size();
+			Keyed[] jamo = new Keyed[size];
+			Keyed[] initials = new Keyed[size];
+			int i = 0;
+			for (Entry entry : byId.values()) {
+				String name = normalize(entry.getTag().getName());
+				jamo[i] = new Keyed(HangulJamo.decompose(name), entry);
+				initials[i] = new Keyed(HangulJamo.initials(name), entry);
+				i++;
+			}
+			Arrays.sort(jamo, Comparator.comparing(keyed -> keyed.key));
+			Arrays.sort(initials, Comparator.comparing(keyed -> keyed.key));
+
+			Entry[] byJamo = new Entry[size];
+			String[] jamoKeys = new String[size];
+			Entry[] byInitials = new Entry[size];
+			String[] initialKeys = new String[size];
+			for (int j = 0; j < size; j++) {
+				byJamo[j] = jamo[j].entry;
+				jamoKeys[j] = jamo[j].key;
+				byInitials[j] = initials[j].entry;
+				initialKeys[j] = initials[j].key;
+			}
+			return new Snapshot(byId, byJamo, jamoKeys, byInitials, initialKeys);
+		}
+	}
+
+	private static class Keyed {
+		private final String key;
+		private final Entry entry;
+
+		private Keyed(String key, Entry entry) {
+			this.key = key;
+			this.entry = entry;
+		}
+	}
+}
@@ -0,0 +1,150 @@
+package com.blog.search;
+
+import com.blog.dto.response.TagResponse;
+import com.blog.entity.Tag;
+import com.blog.repository.TagRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 태그 자동완성 색인 관리
+ *
+ * 기동 시 전체 태그를 적재하고, 태그 생성/수정/삭제는 커밋 후 로컬 색인에 반영한 뒤
+ * Redis pub/sub으로 다른 노드에 알립니다. 순위에 쓰는 게시물 수는 주기적인 재적재로 맞춥니다.
+ */
+@Slf4j
+@Component
+public class TagAutocompleteIndexer implements MessageListener {
+
+	public static final String CHANNEL = "tag:autocomplete";
+	private static final String UPSERT_PREFIX = "upsert:";
+	private static final String DELETE_PREFIX = "delete:";
+
+	private final TagRepository tagRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final TagAutocompleteIndex index = new TagAutocompleteIndex();
+
+	public TagAutocompleteIndexer(TagRepository tagRepository, RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer) {
+		this.tagRepository = tagRepository;
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	public TagAutocompleteIndex getIndex() {
+		return index;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		reload();
+	}
+
+	/**
+	 * 전체 태그 재적재 (게시물 수 순위 보정)
+	 */
+	@Scheduled(fixedDelayString = "${blog.tag-autocomplete.refresh-interval-ms:300000}",
+		initialDelayString = "${blog.tag-autocomplete.refresh-interval-ms:300000}")
+	public void reload() {
+		try {
+			List<TagAutocompleteIndex.Entry> entries = tagRepository.findAll().stream()
+				.map(this::toEntry)
+				.collect(Collectors.toList());
+			index.replaceAll(entries);
+			log.debug("태그 자동완성 색인 적재 완료 - 태그 수: {}", entries.size());
+		} catch (Exception e) {
+			log.error("태그 자동완성 색인 적재 실패: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 태그 생성/수정 반영 (트랜잭션 중이면 커밋 후)
+	 */
+	public void tagChanged(Long tagId) {
+		afterCommit(() -> {
+			refreshLocal(tagId);
+			publish(UPSERT_PREFIX + tagId);
+		});
+	}
+
+	/**
+	 * 태그 삭제 반영 (트랜잭션 중이면 커밋 후)
+	 */
+	public void tagDeleted(Long tagId) {
+		afterCommit(() -> {
+			index.remove(tagId);
+			publish(DELETE_PREFIX + tagId);
+		});
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			if (body.startsWith(UPSERT_PREFIX)) {
+				refreshLocal(Long.valueOf(body.substring(UPSERT_PREFIX.length())));
+			} else if (body.startsWith(DELETE_PREFIX)) {
+				index.remove(Long.valueOf(body.substring(DELETE_PREFIX.length())));
+			}
+		} catch (Exception e) {
+			log.warn("태그 자동완성 색인 메시지 처리 실패 - 메시지: {}, 오류: {}", body, e.getMessage());
+		}
+	}
+
+	private void refreshLocal(Long tagId) {
+		tagRepository.findById(tagId)
+			.ifPresentOrElse(tag -> index.upsert(toEntry(tag)), () -> index.remove(tagId));
+	}
+
+	private void publish(String message) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, message);
+		} catch (Exception e) {
+			log.warn("태그 자동완성 색인 메시지 발행 실패 - 메시지: {}, 오류: {}", message, e.getMessage());
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	private TagAutocompleteIndex.Entry toEntry(Tag tag) {
+		TagResponse response = TagResponse.builder()
+			.id(tag.getId())
+			.name(tag.getName())
+			.description(tag.getDescription())
+			.createdAt(tag.getCreatedAt())
+			.build();
+		return new TagAutocompleteIndex.Entry(response, tag.getPostCount());
+	}
+}
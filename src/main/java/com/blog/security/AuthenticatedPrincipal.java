@@ -0,0 +1,67 @@
+package com.blog.security;
+
+import com.blog.entity.User;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증 캐시에 보관하는 경량 불변 사용자 정보
+ *
+ * 엔티티나 비밀번호 해시를 들고 있지 않으며, 권한은 {@link CustomUserDetailService}와 동일하게 부여합니다.
+ */
+@Getter
+public final class AuthenticatedPrincipal implements UserDetails {
+
+	private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+	private final Long id;
+	private final String username;
+	private final User.Role role;
+	private final boolean enabled;
+
+	public AuthenticatedPrincipal(Long id, String username, User.Role role, boolean enabled) {
+		this.id = id;
+		this.username = username;
+		this.role = role;
+		this.enabled = enabled;
+	}
+
+	public static AuthenticatedPrincipal from(User user) {
+		return new AuthenticatedPrincipal(user.getId(), user.getUsername(), user.getRole(), user.isEnabled());
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return AUTHORITIES;
+	}
+
+	@Override
+	public String getPassword() {
+		return null;
+	}
+
+	@Override
+	public boolean isAccountNonExpired() {
+		return true;
+	}
+
+	@Override
+	public boolean isAccountNonLocked() {
+		return true;
+	}
+
+	@Override
+	public boolean isCredentialsNonExpired() {
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		return "AuthenticatedPrincipal(id=" + id + ", username=" + username + ", role=" + role + ")";
+	}
+}
@@ -0,0 +1,218 @@
+package com.blog.security;
+
+import com.blog.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증된 사용자 정보 캐시 (토큰 해시 → 경량 사용자 정보)
+ *
+ * 캐시 적중 시 JWT 파싱과 사용자 조회 쿼리 없이 인증을 처리하되, 블랙리스트 확인은 매번 거칩니다
+ * (대부분 로컬 Bloom 필터에서 끝나므로 저렴함). 로컬 필터도 pub/sub으로 갱신되므로, 다른 노드에서
+ * 로그아웃한 토큰의 메시지가 유실되면 구독 재연결 또는 다음 주기적 재구성(기본 1분)까지는 통과될 수 있습니다.
+ * 항목은 토큰 만료 시각과 최대 보관 시간 중 이른 시점에 만료되며,
+ * 비밀번호 변경/계정 (비)활성화/로그아웃 시 명시적으로 제거하고 Redis pub/sub으로 다른 노드에도 알립니다.
+ * 사용자 단위 제거를 위해 사용자명 → 토큰 해시 역색인을 함께 유지합니다.
+ */
+@Slf4j
+@Component
+public class AuthenticatedPrincipalCache implements MessageListener {
+
+	public static final String CHANNEL = "auth:principal:evict";
+	private static final String USER_PREFIX = "user:";
+	private static final String TOKEN_PREFIX = "token:";
+
+	private final JwtTokenProvider jwtTokenProvider;
+	private final JwtTokenBlacklistService blacklistService;
+	private final UserRepository userRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final Cache<String, Entry> cache;
+	// 사용자명 → 토큰 해시 (캐시 항목 제거 시 함께 정리)
+	private final Map<String, Set<String>> tokensByUser = new ConcurrentHashMap<>();
+
+	public AuthenticatedPrincipalCache(JwtTokenProvider jwtTokenProvider, JwtTokenBlacklistService blacklistService,
+		UserRepository userRepository,
+		RedisTemplate<String, String> redisTemplate, RedisMessageListenerContainer listenerContainer,
+		@Value("${blog.auth.principal-cache.max-size:50000}") long maxSize,
+		@Value("${blog.auth.principal-cache.max-ttl:PT10M}") Duration maxTtl) {
+		this.jwtTokenProvider = jwtTokenProvider;
+		this.blacklistService = blacklistService;
+		this.userRepository = userRepository;
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfter(new TokenExpiry(maxTtl.toNanos()))
+			// 역색인이 캐시와 어긋나지 않도록 제거 알림을 호출 스레드에서 바로 처리
+			.executor(Runnable::run)
+			.removalListener(this::onRemoval)
+			.build();
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 토큰으로 인증 사용자 조회
+	 * @param token JWT 토큰
+	 * @return 사용자 정보, 토큰이 유효하지 않거나 사용자가 없으면 null
+	 */
+	public AuthenticatedPrincipal resolve(String token) {
+		String tokenHash = TokenHasher.sha256Hex(token);
+		Entry entry = cache.getIfPresent(tokenHash);
+		if (entry != null) {
+			if (blacklistService.isBlacklisted(token)) {
+				cache.invalidate(tokenHash);
+				return null;
+			}
+			return entry.principal;
+		}
+
+		VerifiedClaims claims = jwtTokenProvider.verifyToken(token);
+		if (claims == null || claims.getSubject() == null) {
+			return null;
+		}
+
+		AuthenticatedPrincipal principal = userRepository.findByUsername(claims.getSubject())
+			.map(AuthenticatedPrincipal::from)
+			.orElse(null);
+		if (principal != null) {
+			tokensByUser.compute(principal.getUsername(), (username, hashes) -> {
+				Set<String> result = hashes != null ? hashes : ConcurrentHashMap.newKeySet();
+				result.add(tokenHash);
+				return result;
+			});
+			cache.put(tokenHash, new Entry(principal, claims.getExpirationMillis()));
+		}
+		return principal;
+	}
+
+	/**
+	 * 사용자의 모든 캐시 항목 제거 (트랜잭션 중이면 커밋 후 제거)
+	 * @param username 사용자명
+	 */
+	public void evictUser(String username) {
+		afterCommit(() -> {
+			evictUserLocal(username);
+			publish(USER_PREFIX + username);
+		});
+	}
+
+	/**
+	 * 토큰의 캐시 항목 제거 (로그아웃)
+	 * @param token JWT 토큰
+	 */
+	public void evictToken(String token) {
+		String tokenHash = TokenHasher.sha256Hex(token);
+		cache.invalidate(tokenHash);
+		publish(TOKEN_PREFIX + tokenHash);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		if (body.startsWith(USER_PREFIX)) {
+			evictUserLocal(body.substring(USER_PREFIX.length()));
+		} else if (body.startsWith(TOKEN_PREFIX)) {
+			cache.invalidate(body.substring(TOKEN_PREFIX.length()));
+		}
+	}
+
+	private void evictUserLocal(String username) {
+		Set<String> hashes = tokensByUser.remove(username);
+		if (hashes != null) {
+			cache.invalidateAll(hashes);
+		}
+	}
+
+	private void onRemoval(String tokenHash, Entry entry, RemovalCause cause) {
+		// 같은 토큰의 값 교체는 역색인에 영향 없음
+		if (tokenHash == null || entry == null || cause == RemovalCause.REPLACED) {
+			return;
+		}
+		tokensByUser.computeIfPresent(entry.principal.getUsername(), (username, hashes) -> {
+			hashes.remove(tokenHash);
+			return hashes.isEmpty() ? null : hashes;
+		});
+	}
+
+	private void publish(String message) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, message);
+		} catch (Exception e) {
+			log.warn("인증 캐시 무효화 메시지 발행 실패 - 메시지: {}, 오류: {}", message, e.getMessage());
+		}
+	}
+
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	private static class Entry {
+		private final AuthenticatedPrincipal principal;
+		private final long expiresAtMillis;
+
+		private Entry(AuthenticatedPrincipal principal, long expiresAtMillis) {
+			this.principal = principal;
+			this.expiresAtMillis = expiresAtMillis;
+		}
+	}
+
+	/**
+	 * 토큰 만료 시각과 최대 보관 시간 중 이른 시점에 만료
+	 */
+	private static class TokenExpiry implements Expiry<String, Entry> {
+		private final long maxTtlNanos;
+
+		private TokenExpiry(long maxTtlNanos) {
+			this.maxTtlNanos = maxTtlNanos;
+		}
+
+		@Override
+		public long expireAfterCreate(String key, Entry entry, long currentTime) {
+			long untilTokenExpiry = Duration.ofMillis(entry.expiresAtMillis - System.currentTimeMillis()).toNanos();
+			return Math.max(0, Math.min(untilTokenExpiry, maxTtlNanos));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, entry, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.blog.security;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 만료 시각을 점수로 갖는 Redis ZSET 색인
+ *
+ * KEYS 패턴 조회 대신 쓰기 시점에 (키, 만료 시각)을 함께 기록해 두고,
+ * 현재 유효한 항목 수를 ZCOUNT(O(log N))로 계산합니다.
+ * 만료된 항목은 주기적으로 {@link #pruneExpired()}로 정리합니다.
+ */
+public class ExpiringKeyIndex {
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final String indexKey;
+
+	public ExpiringKeyIndex(RedisTemplate<String, String> redisTemplate, String indexKey) {
+		this.redisTemplate = redisTemplate;
+		this.indexKey = indexKey;
+	}
+
+	public String getIndexKey() {
+		return indexKey;
+	}
+
+	public void add(String member, long expireAtMillis) {
+		redisTemplate.opsForZSet().add(indexKey, member, expireAtMillis);
+	}
+
+	public void remove(String member) {
+		redisTemplate.opsForZSet().remove(indexKey, member);
+	}
+
+	/**
+	 * 만료되지 않은 항목 수
+	 */
+	public long countActive() {
+		Long count = redisTemplate.opsForZSet().count(indexKey, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+		return count != null ? count : 0;
+	}
+
+	/**
+	 * 만료되지 않은 항목을 만료 시각 순으로 페이지 단위로 읽어 전달
+	 *
+	 * 페이지마다 현재 시각 기준 오프셋으로 읽으면 페이지 사이에 만료/정리된 항목만큼 유효 항목을 건너뛰므로,
+	 * 마지막으로 읽은 점수부터 다시 읽고 그 점수에서 이미 전달한 항목만 제외합니다.
+	 * @return 전달한 항목 수
+	 */
+	public long forEachActive(int pageSize, Consumer<String> action) {
+		double minScore = System.currentTimeMillis();
+		Set<String> seenAtMinScore = new HashSet<>();
+		long visited = 0;
+		while (true) {
+			// 같은 점수에서 이미 전달한 항목이 다시 포함되므로 그만큼 더 읽음
+			long requested = pageSize + seenAtMinScore.size();
+			Set<ZSetOperations.TypedTuple<String>> page = redisTemplate.opsForZSet()
+				.rangeByScoreWithScores(indexKey, minScore, Double.POSITIVE_INFINITY, 0, requested);
+			if (page == null || page.isEmpty()) {
+				return visited;
+			}
+			for (ZSetOperations.TypedTuple<String> tuple : page) {
+				double score = tuple.getScore();
+				if (score == minScore && seenAtMinScore.contains(tuple.getValue())) {
+					continue;
+				}
+				if (score != minScore) {
+					minScore = score;
+					seenAtMinScore.clear();
+				}
+				seenAtMinScore.add(tuple.getValue());
+				action.accept(tuple.getValue());
+				visited++;
+			}
+			if (page.size() < requested) {
+				return visited;
+			}
+		}
+	}
+
+	/**
+	 * 만료된 항목 제거
+	 * @return 제거된 항목 수
+	 */
+	public long pruneExpired() {
+		Long removed = redisTemplate.opsForZSet().removeRangeByScore(indexKey, 0, System.currentTimeMillis());
+		return removed != null ? removed : 0;
+	}
+}
@@ -8,8 +8,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -22,8 +20,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-	private final JwtTokenProvider jwtTokenProvider;
-	private final UserDetailsService userDetailsService;
+	private final AuthenticatedPrincipalCache principalCache;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -31,17 +28,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		try {
 			String jwt = extractJwtFromRequest(request);
 
-			if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-				String username = jwtTokenProvider.getUsernameFromToken(jwt);
+			if (StringUtils.hasText(jwt) && SecurityContextHolder.getContext().getAuthentication() == null) {
+				// 캐시 적중 시 JWT 파싱/사용자 조회 없이 인증
+				AuthenticatedPrincipal principal = principalCache.resolve(jwt);
 
-				if (StringUtils.hasText(username) && SecurityContextHolder.getContext().getAuthentication() == null) {
-					UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
-					UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+				if (principal != null) {
+					UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
 					authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
 					SecurityContextHolder.getContext().setAuthentication(authentication);
-					log.debug("사용자 인증 성공: {}", username);
+					log.debug("사용자 인증 성공: {}", principal.getUsername());
 				}
 			}
 		} catch (Exception e) {
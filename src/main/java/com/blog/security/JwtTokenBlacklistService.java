@@ -1,19 +1,71 @@
 package com.blog.security;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * JWT 블랙리스트
+ *
+ * Redis 키는 원본 토큰 대신 SHA-256 다이제스트(jwt:blacklist:{hex})를 사용합니다.
+ * 노드마다 블랙리스트 다이제스트의 Bloom 필터를 두어, 필터에 없는 토큰(대부분의 요청)은
+ * Redis 조회 없이 통과시키고 필터가 "있을 수 있음"이라고 답할 때만 Redis를 확인합니다.
+ * 필터는 시작 시/주기적으로 만료 시각 색인(ZSET)으로 재구성하고, 추가분은 pub/sub으로 전파합니다.
+ * pub/sub은 전달을 보장하지 않으므로, 구독이 (재)연결될 때마다 필터를 다시 만들어 연결이 끊긴 동안
+ * 유실된 추가분을 반영하고, 그 밖의 유실은 주기적 재구성(기본 1분)으로 메웁니다.
+ * 시작 시에는 원본 토큰을 키로 쓰던 이전 형식(jwt:blacklist:{token})의 항목을 새 형식으로 옮깁니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
-public class JwtTokenBlacklistService {
+public class JwtTokenBlacklistService implements MessageListener, SubscriptionListener {
 
-	private final RedisTemplate<String, String> redisTemplate;
 	private static final String BLACKLIST_PREFIX = "jwt:blacklist:";
+	private static final int REBUILD_PAGE_SIZE = 1000;
+	public static final String CHANNEL = "jwt:blacklist:added";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	// 다이제스트 → 만료 시각 색인 (크기 조회/필터 재구성용)
+	private final ExpiringKeyIndex index;
+	private final long expectedInsertions;
+	private final double falsePositiveRate;
+
+	// 재구성 전까지는 null - 모든 확인을 Redis로 처리
+	private volatile TokenBloomFilter filter;
+	// 재구성 중인 필터 - 재구성 도중 추가된 항목도 함께 넣음
+	private volatile TokenBloomFilter rebuilding;
+
+	public JwtTokenBlacklistService(RedisTemplate<String, String> redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		@Value("${blog.auth.blacklist-filter.expected-insertions:100000}") long expectedInsertions,
+		@Value("${blog.auth.blacklist-filter.false-positive-rate:0.001}") double falsePositiveRate) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.index = new ExpiringKeyIndex(redisTemplate, BLACKLIST_PREFIX + "index");
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
 
 	/**
 	 * 토큰을 블랙리스트에 추가
@@ -22,15 +74,19 @@ public class JwtTokenBlacklistService {
 	 */
 	public void addToBlacklist(String token, long expirationTime) {
 		try {
-			String key = BLACKLIST_PREFIX + token;
+			byte[] digest = TokenHasher.sha256(token);
+			String hex = HexFormat.of().formatHex(digest);
 			// 토큰의 남은 만료 시간만큼만 블랙리스트에 저장
 			long timeToExpire = calculateTimeToExpire(expirationTime);
 			if (timeToExpire > 0) {
-				redisTemplate.opsForValue().set(key, "blacklisted", timeToExpire, TimeUnit.MILLISECONDS);
+				redisTemplate.opsForValue().set(BLACKLIST_PREFIX + hex, "blacklisted", timeToExpire, TimeUnit.MILLISECONDS);
+				index.add(hex, expirationTime);
+				putLocal(digest);
+				redisTemplate.convertAndSend(CHANNEL, hex);
 				log.info("토큰이 블랙리스트에 추가되었습니다. 만료 시간: {}ms", timeToExpire);
 			}
 		} catch (Exception e) {
-			log.error("톸큰 블랙리스트 추가 중 오류 발생: {}", e.getMessage(), e);
+			log.error("토큰 블랙리스트 추가 중 오류 발생: {}", e.getMessage(), e);
 		}
 	}
 
@@ -40,9 +96,14 @@ public class JwtTokenBlacklistService {
 	 * @return 블랙리스트에 있으면 true, 없으면 false
 	 */
 	public boolean isBlacklisted(String token) {
+		byte[] digest = TokenHasher.sha256(token);
+		TokenBloomFilter current = filter;
+		if (current != null && !current.mightContain(digest)) {
+			return false;
+		}
+
 		try {
-			String key = BLACKLIST_PREFIX + token;
-			String value = redisTemplate.opsForValue().get(key);
+			String value = redisTemplate.opsForValue().get(BLACKLIST_PREFIX + HexFormat.of().formatHex(digest));
 			boolean isBlacklisted = value != null;
 
 			if (isBlacklisted) {
@@ -51,20 +112,123 @@ public class JwtTokenBlacklistService {
 
 			return isBlacklisted;
 		} catch (Exception e) {
-			log.error("토큰 블랙리스트 확인 중 오류 발생: {}", e.getStackTrace(), e);
+			log.error("토큰 블랙리스트 확인 중 오류 발생: {}", e.getMessage(), e);
 			// Redis 오류 시 보안을 위해 true 반환 (토큰 거부)
 			return true;
 		}
 	}
 
+	/**
+	 * 다른 노드에서 추가된 블랙리스트 항목 반영
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			putLocal(HexFormat.of().parseHex(new String(message.getBody(), StandardCharsets.UTF_8)));
+		} catch (IllegalArgumentException e) {
+			log.warn("잘못된 블랙리스트 메시지: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 채널 구독(재연결 포함) 시 필터 재구성
+	 *
+	 * 연결이 끊긴 동안 발행된 추가 메시지는 다시 전달되지 않으므로 색인에서 다시 읽어 옵니다.
+	 */
+	@Override
+	public void onChannelSubscribed(byte[] channel, long count) {
+		if (CHANNEL.equals(new String(channel, StandardCharsets.UTF_8))) {
+			log.info("블랙리스트 채널 구독 - Bloom 필터를 재구성합니다");
+			rebuildFilter();
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		migrateLegacyKeys();
+		rebuildFilter();
+	}
+
+	/**
+	 * 원본 토큰을 키로 쓰던 이전 형식의 항목을 다이제스트 키와 색인으로 옮김
+	 *
+	 * 여러 노드가 동시에 실행해도 결과가 같고, 남은 만료 시간을 그대로 유지합니다.
+	 * 다이제스트(16진수)와 색인 키에는 '.'이 없으므로 JWT 형식의 키만 대상이 됩니다.
+	 */
+	void migrateLegacyKeys() {
+		ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*.*").count(REBUILD_PAGE_SIZE).build();
+		long migrated = 0;
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				String legacyKey = cursor.next();
+				Long ttl = redisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS);
+				if (ttl != null && ttl > 0) {
+					String hex = TokenHasher.sha256Hex(legacyKey.substring(BLACKLIST_PREFIX.length()));
+					redisTemplate.opsForValue().set(BLACKLIST_PREFIX + hex, "blacklisted", ttl, TimeUnit.MILLISECONDS);
+					index.add(hex, System.currentTimeMillis() + ttl);
+					migrated++;
+				}
+				redisTemplate.delete(legacyKey);
+			}
+			if (migrated > 0) {
+				log.info("이전 형식의 블랙리스트 항목 이전 완료 - 항목 수: {}", migrated);
+			}
+		} catch (Exception e) {
+			log.error("이전 형식의 블랙리스트 항목 이전 실패: {}", e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 블랙리스트 색인으로 Bloom 필터 재구성 (만료된 항목 정리)
+	 */
+	@Scheduled(fixedDelayString = "${blog.auth.blacklist-filter.rebuild-interval-ms:60000}",
+		initialDelayString = "${blog.auth.blacklist-filter.rebuild-interval-ms:60000}")
+	public synchronized void rebuildFilter() {
+		TokenBloomFilter next = new TokenBloomFilter(expectedInsertions, falsePositiveRate);
+		rebuilding = next;
+		try {
+			index.pruneExpired();
+			long count = index.forEachActive(REBUILD_PAGE_SIZE, hex -> next.put(HexFormat.of().parseHex(hex)));
+			filter = next;
+			log.info("블랙리스트 Bloom 필터 재구성 완료 - 항목 수: {}", count);
+		} catch (Exception e) {
+			log.error("블랙리스트 Bloom 필터 재구성 실패 - 기존 필터를 유지합니다: {}", e.getMessage());
+		} finally {
+			rebuilding = null;
+		}
+	}
+
+	/**
+	 * 만료된 색인 항목 정리
+	 */
+	public long pruneIndex() {
+		return index.pruneExpired();
+	}
+
+	// 재구성 중인 필터를 먼저 읽어야 함: 재구성은 filter 교체 후 rebuilding을 비우므로,
+	// rebuilding이 비어 있음을 본 뒤 읽은 filter는 이미 교체된 필터이고 (색인에 먼저 기록된 항목은 재구성에 포함됨)
+	// 반대 순서로 읽으면 교체 직전의 필터에만 넣고 새 필터에서는 빠질 수 있음
+	private void putLocal(byte[] digest) {
+		TokenBloomFilter next = rebuilding;
+		if (next != null) {
+			next.put(digest);
+		}
+		TokenBloomFilter current = filter;
+		if (current != null) {
+			current.put(digest);
+		}
+	}
+
 	/**
 	 * 블랙리스트에서 토큰 제거 (필요시 사용)
 	 * @param token JWT 토큰
 	 */
 	public void removeFromBlacklist(String token) {
 		try {
-			String key = BLACKLIST_PREFIX + token;
-			redisTemplate.delete(key);
+			// Bloom 필터는 삭제를 지원하지 않으므로 Redis 키만 제거 (필터 적중 시 Redis에서 걸러짐)
+			String hex = TokenHasher.sha256Hex(token);
+			redisTemplate.delete(BLACKLIST_PREFIX + hex);
+			index.remove(hex);
 			log.info("토큰이 블랙리스트에서 제거되었습니다: {}", maskToken(token));
 		} catch (Exception e) {
 			log.error("토큰 블랙리스트 제거 중 오류 발생: {}", e.getMessage(), e);
@@ -99,7 +263,7 @@ public class JwtTokenBlacklistService {
 	 */
 	public long getBlacklistSize() {
 		try {
-			return redisTemplate.keys(BLACKLIST_PREFIX + "*").size();
+			return index.countActive();
 		} catch (Exception e) {
 			log.error("블랙리스트 크기 조회 중 오류 발생: {}", e.getMessage(), e);
 			return -1;
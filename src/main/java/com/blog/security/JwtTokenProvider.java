@@ -1,9 +1,12 @@
 package com.blog.security;
 
-import io.jsonwebtoken.Claims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,10 +28,26 @@ public class JwtTokenProvider {
 	@Value("${jwt.refresh-expiration}")
 	private Long refreshExpiration;
 
+	@Value("${jwt.claims-cache.max-size:10000}")
+	private long claimsCacheMaxSize;
+
 	private final JwtTokenBlacklistService blacklistService;
 
-	private SecretKey getSigningKey() {
-		return Keys.hmacShaKeyFor(secretKey.getBytes());
+	// 키/파서는 불변이고 스레드 안전하므로 한 번만 생성해 재사용
+	private SecretKey signingKey;
+	private JwtParser parser;
+	// 최근 검증한 토큰의 클레임 (크기 제한 캐시)
+	private Cache<String, VerifiedClaims> claimsCache;
+
+	@PostConstruct
+	void init() {
+		this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+		this.parser = Jwts.parser()
+			.verifyWith(signingKey)
+			.build();
+		this.claimsCache = Caffeine.newBuilder()
+			.maximumSize(claimsCacheMaxSize)
+			.build();
 	}
 
 	public String generateAccessToken(String username) {
@@ -38,7 +57,7 @@ public class JwtTokenProvider {
 			.subject(username)
 			.issuedAt(now)
 			.expiration(expiryDate)
-			.signWith(getSigningKey())
+			.signWith(signingKey)
 			.compact();
 	}
 
@@ -49,38 +68,32 @@ public class JwtTokenProvider {
 			.subject(username)
 			.issuedAt(now)
 			.expiration(expiryDate)
-			.signWith(getSigningKey())
+			.signWith(signingKey)
 			.compact();
 	}
 
-	public boolean validateToken(String token) {
-		try {
-			// 블랙리스트 확인
-			if (blacklistService.isBlacklisted(token)) {
-				log.warn("블랙리스트된 토큰이 사용되었습니다: {}", maskToken(token));
-			}
-			Jwts.parser()
-				.verifyWith(getSigningKey())
-				.build()
-				.parseSignedClaims(token);
-			return true;
-		} catch (JwtException | IllegalArgumentException e) {
-			log.warn("토큰 검증 실패: {}", e.getMessage());
-			return false;
+	/**
+	 * 토큰 검증 (블랙리스트 확인 + 서명/만료 검증을 한 번에 처리)
+	 *
+	 * @param token JWT 토큰
+	 * @return 검증된 클레임, 유효하지 않으면 null
+	 */
+	public VerifiedClaims verifyToken(String token) {
+		// 블랙리스트 확인 (로그아웃 등으로 무효화된 토큰은 거부)
+		if (blacklistService.isBlacklisted(token)) {
+			log.warn("블랙리스트된 토큰이 사용되었습니다: {}", maskToken(token));
+			return null;
 		}
+		return getClaims(token);
+	}
+
+	public boolean validateToken(String token) {
+		return verifyToken(token) != null;
 	}
 
 	public boolean isTokenExpired(String token) {
-		try {
-			Claims claims = Jwts.parser()
-				.verifyWith(getSigningKey())
-				.build()
-				.parseSignedClaims(token)
-				.getPayload();
-			return claims.getExpiration().before(new Date());
-		} catch (JwtException | IllegalArgumentException e) {
-			return true;
-		}
+		VerifiedClaims claims = getClaims(token);
+		return claims == null || claims.isExpired();
 	}
 
 	/**
@@ -90,17 +103,8 @@ public class JwtTokenProvider {
 	 * @return 사용자명
 	 */
 	public String getUsernameFromToken(String token) {
-		try {
-			Claims claims = Jwts.parser()
-				.verifyWith(getSigningKey())
-				.build()
-				.parseSignedClaims(token)
-				.getPayload();
-			return claims.getSubject();
-		} catch (JwtException | IllegalArgumentException e) {
-			log.warn("토큰에서 사용자명 추출 실패: {}", e.getMessage());
-			return null;
-		}
+		VerifiedClaims claims = getClaims(token);
+		return claims != null ? claims.getSubject() : null;
 	}
 
 	/**
@@ -110,19 +114,51 @@ public class JwtTokenProvider {
 	 * @return 만료 시간 (밀리초)
 	 */
 	public long getExpirationTime(String token) {
+		VerifiedClaims claims = getClaims(token);
+		return claims != null ? claims.getExpirationMillis() : 0;
+	}
+
+	/**
+	 * 검증된 클레임 조회 (최근 검증한 토큰은 캐시에서 반환)
+	 *
+	 * @param token JWT 토큰
+	 * @return 검증된 클레임, 서명 오류/만료 시 null
+	 */
+	public VerifiedClaims getClaims(String token) {
+		if (token == null) {
+			return null;
+		}
+
+		VerifiedClaims cached = claimsCache.getIfPresent(token);
+		if (cached != null) {
+			if (!cached.isExpired()) {
+				return cached;
+			}
+			claimsCache.invalidate(token);
+			return null;
+		}
+
 		try {
-			Claims claims = Jwts.parser()
-				.verifyWith(getSigningKey())
-				.build()
-				.parseSignedClaims(token)
-				.getPayload();
-			return claims.getExpiration().getTime();
+			VerifiedClaims claims = parseClaims(token);
+			claimsCache.put(token, claims);
+			return claims;
 		} catch (JwtException | IllegalArgumentException e) {
-			log.warn("토큰에서 만료 시간 추출 실패: {}", e.getMessage());
-			return 0;
+			log.warn("토큰 검증 실패: {}", e.getMessage());
+			return null;
 		}
 	}
 
+	/**
+	 * 캐시를 거치지 않고 토큰 파싱/검증
+	 *
+	 * @param token JWT 토큰
+	 * @return 검증된 클레임
+	 * @throws JwtException 서명 오류/만료 등 검증 실패 시
+	 */
+	VerifiedClaims parseClaims(String token) {
+		return VerifiedClaims.from(parser.parseSignedClaims(token).getPayload());
+	}
+
 	/**
 	 * 토큰을 블랙리스트에 추가
 	 *
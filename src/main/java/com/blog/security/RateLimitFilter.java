@@ -40,9 +40,11 @@ public class RateLimitFilter extends OncePerRequestFilter {
 		}
 
 		try {
-			// IP 기반 Rate Limit 확인
-			if (rateLimitService.isRateLimitExceeded(clientIp, endpoint)) {
-				handleRateLimitExceeded(response, clientIp, endpoint, "IP");
+			// IP 기반 Rate Limit 확인 (Redis 1회 호출로 판정과 헤더 정보를 함께 받음)
+			RateLimitResult ipResult = rateLimitService.checkIpRateLimit(clientIp, endpoint);
+			addRateLimitHeaders(response, ipResult);
+			if (!ipResult.isAllowed()) {
+				handleRateLimitExceeded(response, ipResult, clientIp, endpoint, "IP");
 				return;
 			}
 
@@ -51,15 +53,14 @@ public class RateLimitFilter extends OncePerRequestFilter {
 			if (authentication != null && authentication.isAuthenticated() && !"anonymousUser".equals(authentication.getName())) {
 
 				String username = authentication.getName();
-				if (rateLimitService.isUserRateLimitExceeded(username, endpoint)) {
-					handleRateLimitExceeded(response, clientIp, endpoint, "User");
+				RateLimitResult userResult = rateLimitService.checkUserRateLimit(username, endpoint);
+				if (!userResult.isAllowed()) {
+					addRateLimitHeaders(response, userResult);
+					handleRateLimitExceeded(response, userResult, clientIp, endpoint, "User");
 					return;
 				}
 			}
 
-			// Rate Limit 헤더 추가
-			addRateLimitHeaders(response, clientIp, endpoint);
-
 			filterChain.doFilter(request, response);
 
 		} catch (Exception e) {
@@ -110,11 +111,13 @@ public class RateLimitFilter extends OncePerRequestFilter {
 	/**
 	 * Rate Limit 초과 처리
 	 */
-	private void handleRateLimitExceeded(HttpServletResponse response, String identifier, String endpoint, String type) throws IOException {
+	private void handleRateLimitExceeded(HttpServletResponse response, RateLimitResult result, String identifier,
+		String endpoint, String type) throws IOException {
 
 		log.warn("Rate limit exceeded - Type: {}, Identifier: {}, Endpoint: {}", type, identifier, endpoint);
 
 		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		response.setHeader("Retry-After", String.valueOf(result.getRetryAfterSeconds()));
 		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
 
 		Map<String, Object> errorResponse = new HashMap<>();
@@ -129,19 +132,16 @@ public class RateLimitFilter extends OncePerRequestFilter {
 		response.getWriter().write(jsonResponse);
 	}
 
-	private void addRateLimitHeaders(HttpServletResponse response, String clientIp, String endpoint) {
-		try {
-			RateLimitService.RateLimitInfo info = rateLimitService.getRateLimitInfo(clientIp, endpoint);
-
-			response.setHeader("X-RateLimit-Limit", String.valueOf(info.getMaxRequests()));
-			response.setHeader("X-RateLimit-Remaining", String.valueOf(info.getRemaining()));
-			response.setHeader("X-RateLimit-Reset", String.valueOf(System.currentTimeMillis() / 1000 + info.getTtlSeconds()));
+	/**
+	 * Rate Limit 헤더 추가 (판정 결과를 그대로 사용하므로 추가 Redis 호출 없음)
+	 */
+	private void addRateLimitHeaders(HttpServletResponse response, RateLimitResult result) {
+		response.setHeader("X-RateLimit-Limit", String.valueOf(result.getLimit()));
+		response.setHeader("X-RateLimit-Remaining", String.valueOf(result.getRemaining()));
+		response.setHeader("X-RateLimit-Reset", String.valueOf(result.getResetEpochSeconds()));
 
-			if (info.getRemaining() <= 10) {
-				response.setHeader("X-RateLimit-Warning", "Rate limit approaching");
-			}
-		} catch (Exception e) {
-			log.error("Failed to add rate limit headers", e);
+		if (result.getRemaining() <= 10) {
+			response.setHeader("X-RateLimit-Warning", "Rate limit approaching");
 		}
 	}
-}
\ No newline at end of file
+}
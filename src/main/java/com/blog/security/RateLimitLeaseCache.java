@@ -0,0 +1,123 @@
+package com.blog.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 노드 로컬 Rate Limit 토큰 임대 캐시
+ *
+ * Redis에서 판정할 때 남은 예산의 일부(기본 10%)를 미리 차감해 가져오고,
+ * 이후 요청은 로컬 토큰으로 처리해 Redis 호출을 줄입니다.
+ * 임대분은 Redis에서 이미 차감된 값이므로 전체 한도를 넘지 않으며,
+ * 쓰지 못하고 만료된 토큰만큼 한도가 보수적으로 적용될 뿐입니다.
+ * 거절된 키는 재시도 시각까지 로컬에서 바로 거절합니다.
+ */
+@Slf4j
+@Component
+public class RateLimitLeaseCache {
+
+	private final boolean enabled;
+	private final double leaseFraction;
+	private final Cache<String, Lease> leases;
+
+	public RateLimitLeaseCache(
+		@Value("${blog.rate-limit.local.enabled:true}") boolean enabled,
+		@Value("${blog.rate-limit.local.lease-fraction:0.1}") double leaseFraction,
+		@Value("${blog.rate-limit.local.max-keys:100000}") long maxKeys,
+		@Value("${blog.rate-limit.local.lease-ttl:PT10S}") Duration leaseTtl) {
+		this.enabled = enabled;
+		this.leaseFraction = enabled ? leaseFraction : 0;
+		this.leases = Caffeine.newBuilder()
+			.maximumSize(maxKeys)
+			.expireAfterWrite(leaseTtl)
+			.build();
+	}
+
+	/**
+	 * Redis에 요청할 추가 임대 비율
+	 */
+	public double getLeaseFraction() {
+		return leaseFraction;
+	}
+
+	/**
+	 * 로컬 토큰으로 판정
+	 * @param key Rate Limit 키
+	 * @return 판정 결과, 로컬에서 판정할 수 없으면 null (Redis 조회 필요)
+	 */
+	public RateLimitResult tryAcquire(String key) {
+		if (!enabled) {
+			return null;
+		}
+
+		Lease lease = leases.getIfPresent(key);
+		if (lease == null) {
+			return null;
+		}
+
+		long now = System.currentTimeMillis();
+		if (lease.blockedUntilMillis > now) {
+			return new RateLimitResult(false, lease.limit, 0,
+				Math.max(0, lease.resetAtMillis - now), lease.blockedUntilMillis - now);
+		}
+
+		int left = lease.tokens.getAndUpdate(tokens -> tokens > 0 ? tokens - 1 : tokens) - 1;
+		if (left < 0) {
+			return null;
+		}
+		return new RateLimitResult(true, lease.limit, lease.remoteRemaining + left,
+			Math.max(0, lease.resetAtMillis - now), 0);
+	}
+
+	/**
+	 * Redis 판정 결과 저장
+	 * @param key Rate Limit 키
+	 * @param result Redis 판정 결과
+	 * @param granted Redis에서 부여받은 토큰 수 (이번 요청분 포함)
+	 */
+	public void store(String key, RateLimitResult result, int granted) {
+		if (!enabled) {
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		if (!result.isAllowed()) {
+			leases.put(key, new Lease(0, result.getLimit(), 0,
+				now + result.getResetAfterMillis(), now + result.getRetryAfterMillis()));
+		} else if (granted > 1) {
+			leases.put(key, new Lease(granted - 1, result.getLimit(), result.getRemaining(),
+				now + result.getResetAfterMillis(), 0));
+		} else {
+			leases.invalidate(key);
+		}
+	}
+
+	/**
+	 * 로컬 임대분 제거 (관리자 리셋 등)
+	 */
+	public void invalidate(String key) {
+		leases.invalidate(key);
+	}
+
+	private static class Lease {
+		private final AtomicInteger tokens;
+		private final int limit;
+		private final int remoteRemaining;
+		private final long resetAtMillis;
+		private final long blockedUntilMillis;
+
+		private Lease(int tokens, int limit, int remoteRemaining, long resetAtMillis, long blockedUntilMillis) {
+			this.tokens = new AtomicInteger(tokens);
+			this.limit = limit;
+			this.remoteRemaining = remoteRemaining;
+			this.resetAtMillis = resetAtMillis;
+			this.blockedUntilMillis = blockedUntilMillis;
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package com.blog.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Rate Limit 판정 결과 (Lua 스크립트 1회 호출 결과)
+ */
+@Getter
+@AllArgsConstructor
+public class RateLimitResult {
+
+	private final boolean allowed;
+	private final int limit;
+	private final int remaining;
+	private final long resetAfterMillis;
+	private final long retryAfterMillis;
+
+	/**
+	 * Redis 장애 등으로 판정할 수 없을 때 요청을 허용하는 결과
+	 */
+	public static RateLimitResult allowAll(int limit) {
+		return new RateLimitResult(true, limit, limit, 0, 0);
+	}
+
+	public long getResetEpochSeconds() {
+		return (System.currentTimeMillis() + resetAfterMillis + 999) / 1000;
+	}
+
+	public long getRetryAfterSeconds() {
+		return (retryAfterMillis + 999) / 1000;
+	}
+}
@@ -1,18 +1,26 @@
 package com.blog.security;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
+import java.util.List;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RateLimitService {
 
 	private final RedisTemplate<String, String> redisTemplate;
+	private final RateLimitLeaseCache leaseCache;
+	// 활성 키 색인 (통계 조회용, 점수 = 키 만료 시각)
+	private final ExpiringKeyIndex ipIndex;
+	private final ExpiringKeyIndex userIndex;
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> RATE_LIMIT_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/rate_limit_gcra.lua"), List.class);
 
 	private static final String RATE_LIMIT_PREFIX = "rate_limit:";
 	private static final String IP_PREFIX = "ip:";
@@ -30,6 +38,35 @@ public class RateLimitService {
 	private static final int API_MAX_REQUESTS = 1000;
 	private static final int API_WINDOW_SECONDS = 3600; // 1시간
 
+	public RateLimitService(RedisTemplate<String, String> redisTemplate, RateLimitLeaseCache leaseCache) {
+		this.redisTemplate = redisTemplate;
+		this.leaseCache = leaseCache;
+		this.ipIndex = new ExpiringKeyIndex(redisTemplate, RATE_LIMIT_PREFIX + "index:ip");
+		this.userIndex = new ExpiringKeyIndex(redisTemplate, RATE_LIMIT_PREFIX + "index:user");
+	}
+
+	/**
+	 * IP 기반 Rate Limit 확인 및 차감
+	 * @param ipAddress IP 주소
+	 * @param endpoint 엔드포인트 (예: "login", "api")
+	 * @return 판정 결과 (허용 여부, 남은 요청 수, 리셋 시각)
+	 */
+	public RateLimitResult checkIpRateLimit(String ipAddress, String endpoint) {
+		String key = RATE_LIMIT_PREFIX + IP_PREFIX + endpoint + ":" + ipAddress;
+		return checkRateLimit(key, ipIndex, getMaxRequests(endpoint), getWindowSeconds(endpoint), 1);
+	}
+
+	/**
+	 * 사용자 기반 Rate Limit 확인 및 차감
+	 * @param username 사용자명
+	 * @param endpoint 엔드포인트
+	 * @return 판정 결과
+	 */
+	public RateLimitResult checkUserRateLimit(String username, String endpoint) {
+		String key = RATE_LIMIT_PREFIX + USER_PREFIX + endpoint + ":" + username;
+		return checkRateLimit(key, userIndex, getMaxRequests(endpoint), getWindowSeconds(endpoint), 1);
+	}
+
 	/**
 	 * IP 기반 Rate Limit 확인
 	 * @param ipAddress IP 주소
@@ -37,8 +74,7 @@ public class RateLimitService {
 	 * @return Rate Limit 초과 여부
 	 */
 	public boolean isRateLimitExceeded(String ipAddress, String endpoint) {
-		String key = RATE_LIMIT_PREFIX + IP_PREFIX + endpoint + ":" + ipAddress;
-		return checkRateLimit(key, getMaxRequests(endpoint), getWindowSeconds(endpoint));
+		return !checkIpRateLimit(ipAddress, endpoint).isAllowed();
 	}
 
 	/**
@@ -48,40 +84,55 @@ public class RateLimitService {
 	 * @return Rate Limit 초과 여부
 	 */
 	public boolean isUserRateLimitExceeded(String username, String endpoint) {
-		String key = RATE_LIMIT_PREFIX + USER_PREFIX + endpoint + ":" + username;
-		return checkRateLimit(key, getMaxRequests(endpoint), getWindowSeconds(endpoint));
+		return !checkUserRateLimit(username, endpoint).isAllowed();
 	}
 
 	/**
-	 * Rate Limit 확인 및 업데이트
+	 * Rate Limit 확인 및 업데이트 (Lua 스크립트로 판정/차감/만료 설정을 원자적으로 1회에 처리)
+	 *
+	 * 로컬 임대 토큰이 남아 있으면 Redis를 호출하지 않고,
+	 * Redis를 호출할 때는 남은 예산의 일부를 함께 임대해 옵니다.
 	 * @param key Redis 키
+	 * @param index 활성 키 색인
 	 * @param maxRequests 최대 요청 수
 	 * @param windowSeconds 시간 윈도우 (초)
-	 * @return Rate Limit 초과 여부
+	 * @param cost 차감할 요청 수 (0이면 조회만)
+	 * @return 판정 결과
 	 */
-	private boolean checkRateLimit(String key, int maxRequests, int windowSeconds) {
+	@SuppressWarnings("unchecked")
+	private RateLimitResult checkRateLimit(String key, ExpiringKeyIndex index, int maxRequests, int windowSeconds,
+		int cost) {
+		if (cost > 0) {
+			RateLimitResult local = leaseCache.tryAcquire(key);
+			if (local != null) {
+				return local;
+			}
+		}
+
 		try {
-			String currentCount = redisTemplate.opsForValue().get(key);
-			int count = currentCount != null ? Integer.parseInt(currentCount) : 0;
+			double leaseFraction = cost > 0 ? leaseCache.getLeaseFraction() : 0;
+			List<Long> result = redisTemplate.execute(RATE_LIMIT_SCRIPT, List.of(key, index.getIndexKey()),
+				String.valueOf(maxRequests), String.valueOf(windowSeconds), String.valueOf(cost),
+				String.valueOf(leaseFraction));
+			if (result == null || result.size() < 4) {
+				return RateLimitResult.allowAll(maxRequests);
+			}
 
-			if (count >= maxRequests) {
+			int granted = result.get(0).intValue();
+			boolean allowed = cost == 0 || granted >= cost;
+			if (!allowed) {
 				log.warn("Rate limit exceeded for key: {}", key);
-				return true;
 			}
-
-			// 요청 수 증가
-			redisTemplate.opsForValue().increment(key);
-
-			// 첫 번째 요청인 경우 TTL 설정
-			if (count == 0) {
-				redisTemplate.expire(key, windowSeconds, TimeUnit.SECONDS);
+			RateLimitResult rateLimitResult =
+				new RateLimitResult(allowed, maxRequests, result.get(1).intValue(), result.get(2), result.get(3));
+			if (cost > 0) {
+				leaseCache.store(key, rateLimitResult, granted);
 			}
-
-			return false;
+			return rateLimitResult;
 		} catch (Exception e) {
 			log.error("Rate limit check failed for key: {}", key, e);
-			// Redis 오류 시 보안을 위해 false 반환 (요청 허용)
-			return false;
+			// Redis 오류 시 요청 허용
+			return RateLimitResult.allowAll(maxRequests);
 		}
 	}
 
@@ -119,20 +170,12 @@ public class RateLimitService {
 	 */
 	public RateLimitInfo getRateLimitInfo(String ipAddress, String endpoint) {
 		String key = RATE_LIMIT_PREFIX + IP_PREFIX + endpoint + ":" + ipAddress;
+		int maxRequests = getMaxRequests(endpoint);
 
-		try {
-			String currentCount = redisTemplate.opsForValue().get(key);
-			Long ttl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
-
-			int count = currentCount != null ? Integer.parseInt(currentCount) : 0;
-			int maxRequests = getMaxRequests(endpoint);
-			int remaining = Math.max(0, maxRequests - count);
-
-			return new RateLimitInfo(count, maxRequests, remaining, ttl != null ? ttl : 0);
-		} catch (Exception e) {
-			log.error("Failed to get rate limit info for key: {}", key, e);
-			return new RateLimitInfo(0, getMaxRequests(endpoint), getMaxRequests(endpoint), 0);
-		}
+		// 비용 0으로 스크립트를 실행해 상태 변경 없이 조회
+		RateLimitResult result = checkRateLimit(key, ipIndex, maxRequests, getWindowSeconds(endpoint), 0);
+		return new RateLimitInfo(maxRequests - result.getRemaining(), maxRequests, result.getRemaining(),
+			(result.getResetAfterMillis() + 999) / 1000);
 	}
 
 	/**
@@ -144,6 +187,9 @@ public class RateLimitService {
 		String key = RATE_LIMIT_PREFIX + IP_PREFIX + endpoint + ":" + ipAddress;
 		try {
 			redisTemplate.delete(key);
+			ipIndex.remove(key);
+			// 다른 노드의 임대분은 임대 TTL 안에 만료됨
+			leaseCache.invalidate(key);
 			log.info("Rate limit reset for key: {}", key);
 		} catch (Exception e) {
 			log.error("Failed to reset rate limit for key: {}", key, e);
@@ -156,20 +202,31 @@ public class RateLimitService {
 	 */
 	public RateLimitStats getRateLimitStats() {
 		try {
-			String pattern = RATE_LIMIT_PREFIX + "*";
-			var keys = redisTemplate.keys(pattern);
-
-			int totalKeys = keys != null ? keys.size() : 0;
-			int ipLimits = keys != null ? (int) keys.stream().filter(key -> key.contains(IP_PREFIX)).count() : 0;
-			int userLimits = keys != null ? (int) keys.stream().filter(key -> key.contains(USER_PREFIX)).count() : 0;
-
-			return new RateLimitStats(totalKeys, ipLimits, userLimits);
+			int ipLimits = (int) ipIndex.countActive();
+			int userLimits = (int) userIndex.countActive();
+			return new RateLimitStats(ipLimits + userLimits, ipLimits, userLimits);
 		} catch (Exception e) {
 			log.error("Failed to get rate limit stats", e);
 			return new RateLimitStats(0, 0, 0);
 		}
 	}
 
+	public long countActiveIpKeys() {
+		return ipIndex.countActive();
+	}
+
+	public long countActiveUserKeys() {
+		return userIndex.countActive();
+	}
+
+	/**
+	 * 만료된 색인 항목 정리
+	 * @return 제거된 항목 수
+	 */
+	public long pruneIndexes() {
+		return ipIndex.pruneExpired() + userIndex.pruneExpired();
+	}
+
 	/**
 	 * Rate Limit 정보 클래스
 	 */
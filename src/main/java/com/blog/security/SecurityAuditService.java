@@ -1,26 +1,28 @@
 package com.blog.security;
 
-import lombok.RequiredArgsConstructor;
+import com.blog.security.detection.SecurityActivity;
+import com.blog.security.detection.SuspiciousActivityDetectedEvent;
+import com.blog.security.detection.SuspiciousActivityDetector;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SecurityAuditService {
 
-	private final RedisTemplate<String, String> redisTemplate;
+	private final SecurityAuditWriter auditWriter;
+	private final SuspiciousActivityDetector suspiciousActivityDetector;
 
-	private static final String AUDIT_LOG_PREFIX = "security:audit:";
-	private static final String SECURITY_EVENT_PREFIX = "security:event:";
-	private static final String SUSPICIOUS_ACTIVITY_PREFIX = "security:suspicious:";
+	public SecurityAuditService(SecurityAuditWriter auditWriter, SuspiciousActivityDetector suspiciousActivityDetector) {
+		this.auditWriter = auditWriter;
+		this.suspiciousActivityDetector = suspiciousActivityDetector;
+	}
 
 	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
@@ -144,75 +146,42 @@ public class SecurityAuditService {
 	}
 
 	/**
-	 * 보안 이벤트 로깅
+	 * 보안 이벤트 로깅 (비동기 - 큐에 넣고 바로 반환)
 	 */
 	private void logSecurityEvent(Map<String, Object> event) {
-		try {
-			String eventKey = SECURITY_EVENT_PREFIX + System.currentTimeMillis();
-			String eventJson = convertToJson(event);
-
-			// Redis에 이벤트 저장 (30일 보관)
-			redisTemplate.opsForValue().set(eventKey, eventJson, 30, TimeUnit.DAYS);
-
-			// 로그 파일에 기록
-			logSecurityToFile(event);
-
-		} catch (Exception e) {
-			log.error("보안 이벤트 로깅 실패: {}", e.getMessage(), e);
+		if (!auditWriter.enqueue(event)) {
+			log.warn("보안 감사 큐가 가득 차 이벤트를 버립니다 - 유형: {}", event.get("eventType"));
 		}
 	}
 
 	/**
-	 * 의심스러운 활동 체크
+	 * 의심스러운 활동 체크 (탐지 엔진에 비동기 제출)
 	 */
 	private void checkSuspiciousActivity(String identifier, String ipAddress, String activityType) {
-		try {
-			String key = SUSPICIOUS_ACTIVITY_PREFIX + identifier + ":" + ipAddress;
-			String currentCount = redisTemplate.opsForValue().get(key);
-			int count = currentCount != null ? Integer.parseInt(currentCount) : 0;
-
-			// 활동 카운트 증가
-			redisTemplate.opsForValue().increment(key);
-
-			// 첫 번째 활동인 경우 TTL 설정 (1시간)
-			if (count == 0) {
-				redisTemplate.expire(key, 1, TimeUnit.HOURS);
-			}
-
-			// 의심스러운 활동 임계값 체크
-			if (count >= 5) {
-				logSuspiciousActivity(identifier, ipAddress, activityType, count + 1);
-			}
-
-		} catch (Exception e) {
-			log.error("의심스러운 활동 체크 실패: {}", e.getMessage(), e);
-		}
+		suspiciousActivityDetector.submit(
+			new SecurityActivity(activityType, identifier, ipAddress, System.currentTimeMillis()));
 	}
 
 	/**
-	 * 의심스러운 활동 로깅
+	 * 의심스러운 활동 로깅 (탐지 엔진 이벤트 수신)
 	 */
-	private void logSuspiciousActivity(String identifier, String ipAddress, String activityType, int count) {
+	@EventListener
+	public void onSuspiciousActivityDetected(SuspiciousActivityDetectedEvent detected) {
 		Map<String, Object> event = new HashMap<>();
 		event.put("eventType", "SUSPICIOUS_ACTIVITY");
-		event.put("identifier", identifier);
-		event.put("ipAddress", ipAddress);
-		event.put("activityType", activityType);
-		event.put("count", count);
+		event.put("rule", detected.getRuleName());
+		event.put("subject", detected.getSubject());
+		event.put("identifier", detected.getIdentifier());
+		event.put("ipAddress", detected.getIpAddress());
+		event.put("activityType", detected.getActivityType());
+		event.put("count", detected.getCount());
 		event.put("timestamp", LocalDateTime.now().format(DATE_FORMATTER));
-		event.put("details", "의심스러운 활동 감지");
+		event.put("details", detected.getDescription());
 
 		logSecurityEvent(event);
-		log.error("의심스러운 활동 감지 - 식별자: {}, IP: {}, 활동: {}, 횟수: {}",
-			identifier, maskIpAddress(ipAddress), activityType, count);
-	}
-
-	/**
-	 * 보안 로그 파일에 기록
-	 */
-	private void logSecurityToFile(Map<String, Object> event) {
-		// 별도의 보안 로그 파일에 기록
-		log.info("SECURITY_AUDIT: {}", convertToJson(event));
+		log.error("의심스러운 활동 감지 - 규칙: {}, 식별자: {}, IP: {}, 활동: {}, 횟수: {}",
+			detected.getRuleName(), detected.getIdentifier(), maskIpAddress(detected.getIpAddress()),
+			detected.getActivityType(), detected.getCount());
 	}
 
 	/**
@@ -238,47 +207,15 @@ public class SecurityAuditService {
 		return "session_" + System.currentTimeMillis() + "_" + (int)(Math.random() * 1000);
 	}
 
-	/**
-	 * JSON 변환 (간단한 구현)
-	 */
-	private String convertToJson(Map<String, Object> map) {
-		StringBuilder json = new StringBuilder("{");
-		boolean first = true;
-
-		for (Map.Entry<String, Object> entry : map.entrySet()) {
-			if (!first) {
-				json.append(",");
-			}
-			json.append("\"").append(entry.getKey()).append("\":");
-
-			Object value = entry.getValue();
-			if (value instanceof String) {
-				json.append("\"").append(value).append("\"");
-			} else {
-				json.append(value);
-			}
-
-			first = false;
-		}
-
-		json.append("}");
-		return json.toString();
-	}
-
 	/**
 	 * 보안 이벤트 통계 조회 (관리자용)
 	 */
 	public Map<String, Object> getSecurityEventStats() {
 		try {
-			String eventPattern = SECURITY_EVENT_PREFIX + "*";
-			String suspiciousPattern = SUSPICIOUS_ACTIVITY_PREFIX + "*";
-
-			var eventKeys = redisTemplate.keys(eventPattern);
-			var suspiciousKeys = redisTemplate.keys(suspiciousPattern);
-
 			Map<String, Object> stats = new HashMap<>();
-			stats.put("totalEvents", eventKeys != null ? eventKeys.size() : 0);
-			stats.put("suspiciousActivities", suspiciousKeys != null ? suspiciousKeys.size() : 0);
+			stats.put("totalEvents", auditWriter.getStreamLength());
+			stats.put("suspiciousActivities", suspiciousActivityDetector.getRecentDetectionCount());
+			stats.put("detectionSnapshots", suspiciousActivityDetector.getClusterSnapshots());
 			stats.put("timestamp", LocalDateTime.now().format(DATE_FORMATTER));
 
 			return stats;
@@ -287,4 +224,12 @@ public class SecurityAuditService {
 			return new HashMap<>();
 		}
 	}
+
+	public long countActiveEvents() {
+		return auditWriter.getStreamLength();
+	}
+
+	public long countActiveSuspiciousActivities() {
+		return suspiciousActivityDetector.getRecentDetectionCount();
+	}
 }
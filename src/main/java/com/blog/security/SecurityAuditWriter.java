@@ -0,0 +1,169 @@
+package com.blog.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보안 감사 이벤트 비동기 저장기
+ *
+ * 요청 스레드는 제한된 크기의 큐에 이벤트를 넣기만 하고(가득 차면 버리고 카운트),
+ * 백그라운드 스레드가 이벤트를 모아 Redis Stream에 파이프라인 XADD로 일괄 기록합니다.
+ * 스트림은 MAXLEN ~ 으로 길이를 제한합니다.
+ */
+@Slf4j
+@Component
+public class SecurityAuditWriter {
+
+	public static final String STREAM_KEY = "security:audit:stream";
+	private static final String EVENT_FIELD = "event";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final BlockingQueue<Map<String, Object>> queue;
+	private final int batchSize;
+	private final XAddOptions addOptions;
+
+	private final Counter enqueuedCounter;
+	private final Counter droppedCounter;
+	private final Counter writtenCounter;
+	private final Counter failedCounter;
+
+	private volatile boolean running;
+	private Thread worker;
+
+	public SecurityAuditWriter(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${blog.security.audit.queue-capacity:10000}") int queueCapacity,
+		@Value("${blog.security.audit.batch-size:200}") int batchSize,
+		@Value("${blog.security.audit.stream-max-length:100000}") long streamMaxLength) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.addOptions = XAddOptions.maxlen(streamMaxLength).approximateTrimming(true);
+
+		this.enqueuedCounter = Counter.builder("security.audit.enqueued").register(meterRegistry);
+		this.droppedCounter = Counter.builder("security.audit.dropped")
+			.description("큐가 가득 차 버려진 감사 이벤트 수")
+			.register(meterRegistry);
+		this.writtenCounter = Counter.builder("security.audit.written").register(meterRegistry);
+		this.failedCounter = Counter.builder("security.audit.failed")
+			.description("Redis 기록에 실패한 감사 이벤트 수")
+			.register(meterRegistry);
+		Gauge.builder("security.audit.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+	}
+
+	@PostConstruct
+	void start() {
+		running = true;
+		worker = new Thread(this::run, "security-audit-writer");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/**
+	 * 이벤트를 큐에 추가 (블로킹 없음)
+	 * @param event 감사 이벤트
+	 * @return 큐에 들어갔으면 true, 가득 차서 버렸으면 false
+	 */
+	public boolean enqueue(Map<String, Object> event) {
+		if (queue.offer(event)) {
+			enqueuedCounter.increment();
+			return true;
+		}
+		droppedCounter.increment();
+		return false;
+	}
+
+	/**
+	 * 감사 스트림 길이 (XLEN)
+	 */
+	public long getStreamLength() {
+		Long size = redisTemplate.opsForStream().size(STREAM_KEY);
+		return size != null ? size : 0;
+	}
+
+	/**
+	 * 종료 시 큐에 남은 이벤트 기록
+	 */
+	@PreDestroy
+	void stop() throws InterruptedException {
+		running = false;
+		if (worker != null) {
+			worker.join(TimeUnit.SECONDS.toMillis(5));
+		}
+	}
+
+	private void run() {
+		List<Map<String, Object>> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				Map<String, Object> first = queue.poll(500, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, batchSize - 1);
+				write(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				log.error("보안 감사 이벤트 기록 실패 - 건수: {}, 오류: {}", batch.size(), e.getMessage());
+				failedCounter.increment(batch.size());
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void write(List<Map<String, Object>> batch) {
+		List<String> payloads = new ArrayList<>(batch.size());
+		for (Map<String, Object> event : batch) {
+			try {
+				String json = objectMapper.writeValueAsString(event);
+				// 별도의 보안 로그 파일에 기록
+				log.info("SECURITY_AUDIT: {}", json);
+				payloads.add(json);
+			} catch (JsonProcessingException e) {
+				log.warn("보안 감사 이벤트 직렬화 실패: {}", e.getMessage());
+				failedCounter.increment();
+			}
+		}
+
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+				for (String payload : payloads) {
+					ops.opsForStream().add(
+						StreamRecords.newRecord().in(STREAM_KEY).ofMap(Map.of(EVENT_FIELD, payload)),
+						addOptions);
+				}
+				return null;
+			}
+		});
+		writtenCounter.increment(payloads.size());
+	}
+}
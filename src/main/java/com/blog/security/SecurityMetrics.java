@@ -0,0 +1,71 @@
+package com.blog.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 보안 관련 Redis 상태를 Micrometer 게이지로 노출
+ *
+ * 게이지 조회(스크레이프)마다 Redis를 호출하지 않도록 주기적으로 만료 색인을 정리하고
+ * ZCOUNT 결과를 캐시해 둡니다.
+ */
+@Slf4j
+@Component
+public class SecurityMetrics {
+
+	private final JwtTokenBlacklistService blacklistService;
+	private final RateLimitService rateLimitService;
+	private final SecurityAuditService securityAuditService;
+
+	private final AtomicLong blacklistSize = new AtomicLong();
+	private final AtomicLong rateLimitIpKeys = new AtomicLong();
+	private final AtomicLong rateLimitUserKeys = new AtomicLong();
+	private final AtomicLong auditEvents = new AtomicLong();
+	private final AtomicLong suspiciousActivities = new AtomicLong();
+
+	public SecurityMetrics(JwtTokenBlacklistService blacklistService, RateLimitService rateLimitService,
+		SecurityAuditService securityAuditService, MeterRegistry meterRegistry) {
+		this.blacklistService = blacklistService;
+		this.rateLimitService = rateLimitService;
+		this.securityAuditService = securityAuditService;
+
+		Gauge.builder("security.jwt.blacklist.size", blacklistSize, AtomicLong::get)
+			.description("블랙리스트에 등록된 유효 토큰 수")
+			.register(meterRegistry);
+		Gauge.builder("security.ratelimit.active.keys", rateLimitIpKeys, AtomicLong::get)
+			.tag("type", "ip")
+			.description("활성 Rate Limit 키 수")
+			.register(meterRegistry);
+		Gauge.builder("security.ratelimit.active.keys", rateLimitUserKeys, AtomicLong::get)
+			.tag("type", "user")
+			.description("활성 Rate Limit 키 수")
+			.register(meterRegistry);
+		Gauge.builder("security.audit.events", auditEvents, AtomicLong::get)
+			.description("보관 중인 보안 이벤트 수")
+			.register(meterRegistry);
+		Gauge.builder("security.suspicious.activities", suspiciousActivities, AtomicLong::get)
+			.description("최근 1시간 의심 활동 탐지 수")
+			.register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${blog.security.metrics.refresh-interval-ms:30000}")
+	public void refresh() {
+		try {
+			blacklistService.pruneIndex();
+			rateLimitService.pruneIndexes();
+
+			blacklistSize.set(blacklistService.getBlacklistSize());
+			rateLimitIpKeys.set(rateLimitService.countActiveIpKeys());
+			rateLimitUserKeys.set(rateLimitService.countActiveUserKeys());
+			auditEvents.set(securityAuditService.countActiveEvents());
+			suspiciousActivities.set(securityAuditService.countActiveSuspiciousActivities());
+		} catch (Exception e) {
+			log.warn("보안 지표 갱신 실패: {}", e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.blog.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SHA-256 다이제스트 전용 Bloom 필터 (스레드 안전)
+ *
+ * 입력이 이미 균등 분포한 해시이므로 다이제스트 앞 16바이트를 두 개의 long으로 읽어
+ * 이중 해싱(h1 + i * h2)으로 k개의 비트 위치를 만듭니다.
+ * 삭제는 지원하지 않으므로 만료된 항목은 주기적으로 새 필터를 만들어 정리합니다.
+ */
+public class TokenBloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+
+	/**
+	 * @param expectedInsertions 예상 항목 수
+	 * @param falsePositiveRate 목표 오탐률 (0 ~ 1)
+	 */
+	public TokenBloomFilter(long expectedInsertions, double falsePositiveRate) {
+		long n = Math.max(1, expectedInsertions);
+		long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		this.bitSize = Math.max(64, m);
+		this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+		this.bits = new AtomicLongArray((int) ((bitSize + 63) / 64));
+	}
+
+	public void put(byte[] digest) {
+		long h1 = readLong(digest, 0);
+		long h2 = readLong(digest, 8);
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(h1 + i * h2, bitSize);
+			int word = (int) (index >>> 6);
+			long mask = 1L << index;
+			long current;
+			do {
+				current = bits.get(word);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(word, current, current | mask));
+		}
+	}
+
+	public boolean mightContain(byte[] digest) {
+		long h1 = readLong(digest, 0);
+		long h2 = readLong(digest, 8);
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(h1 + i * h2, bitSize);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public long getBitSize() {
+		return bitSize;
+	}
+
+	public int getHashCount() {
+		return hashCount;
+	}
+
+	private static long readLong(byte[] bytes, int offset) {
+		long value = 0;
+		for (int i = 0; i < 8; i++) {
+			value = (value << 8) | (bytes[offset + i] & 0xFF);
+		}
+		return value;
+	}
+}
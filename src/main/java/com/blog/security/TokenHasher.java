@@ -0,0 +1,29 @@
+package com.blog.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 해시 유틸리티
+ *
+ * 원본 토큰 대신 SHA-256 해시를 캐시/Redis 키로 사용해 키 길이를 고정하고 토큰 노출을 막습니다.
+ */
+public final class TokenHasher {
+
+	private TokenHasher() {
+	}
+
+	public static byte[] sha256(String token) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+
+	public static String sha256Hex(String token) {
+		return HexFormat.of().formatHex(sha256(token));
+	}
+}
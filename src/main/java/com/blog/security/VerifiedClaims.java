@@ -0,0 +1,35 @@
+package com.blog.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 마친 JWT 클레임 (불변)
+ *
+ * 한 번 파싱한 결과를 재사용해 같은 토큰을 여러 번 파싱하지 않도록 합니다.
+ */
+@Getter
+public final class VerifiedClaims {
+
+	private final String subject;
+	private final long issuedAtMillis;
+	private final long expirationMillis;
+
+	public VerifiedClaims(String subject, long issuedAtMillis, long expirationMillis) {
+		this.subject = subject;
+		this.issuedAtMillis = issuedAtMillis;
+		this.expirationMillis = expirationMillis;
+	}
+
+	static VerifiedClaims from(Claims claims) {
+		return new VerifiedClaims(
+			claims.getSubject(),
+			claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0,
+			claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE
+		);
+	}
+
+	public boolean isExpired() {
+		return expirationMillis <= System.currentTimeMillis();
+	}
+}
@@ -0,0 +1,37 @@
+package com.blog.security.detection;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 의심 활동 탐지 규칙
+ *
+ * 모든 메서드는 탐지 엔진의 단일 스레드에서만 호출되므로 규칙의 상태는 동기화가 필요 없습니다.
+ */
+public interface DetectionRule {
+
+	String getName();
+
+	/**
+	 * 집계 윈도우 길이 (스냅샷 TTL로도 사용)
+	 */
+	Duration getWindow();
+
+	/**
+	 * 활동을 윈도우에 반영하고 임계값을 넘으면 탐지 이벤트 반환
+	 */
+	Optional<SuspiciousActivityDetectedEvent> evaluate(SecurityActivity activity);
+
+	/**
+	 * 현재 윈도우의 집계 상태 (키 → 요약 값)
+	 */
+	Map<String, String> snapshot(long nowMillis);
+
+	/**
+	 * 여러 노드의 같은 키 스냅샷 값 합치기 (기본: 정수 합)
+	 */
+	default String mergeSnapshotValues(String left, String right) {
+		return String.valueOf(Long.parseLong(left) + Long.parseLong(right));
+	}
+}
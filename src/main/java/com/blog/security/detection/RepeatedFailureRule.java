@@ -0,0 +1,94 @@
+package com.blog.security.detection;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 같은 식별자+IP 조합의 실패 활동이 윈도우 내 허용 횟수를 넘으면 탐지
+ */
+@Component
+public class RepeatedFailureRule implements DetectionRule {
+
+	public static final String NAME = "repeated-failure";
+	private static final Set<String> TRACKED_TYPES = Set.of("LOGIN_FAILURE", "RATE_LIMIT_EXCEEDED", "ACCESS_DENIED");
+	private static final int BUCKETS = 12;
+
+	private final Duration window;
+	private final int maxAttempts;
+	// 같은 키에 대한 반복 탐지 억제 간격 (버킷 하나)
+	private final long cooldownMillis;
+	private final Cache<String, State> states;
+
+	public RepeatedFailureRule(
+		@Value("${blog.security.detection.repeated-failure.window:PT1H}") Duration window,
+		@Value("${blog.security.detection.repeated-failure.max-attempts:5}") int maxAttempts,
+		@Value("${blog.security.detection.max-keys:100000}") long maxKeys) {
+		this.window = window;
+		this.maxAttempts = maxAttempts;
+		this.cooldownMillis = window.toMillis() / BUCKETS;
+		this.states = Caffeine.newBuilder()
+			.maximumSize(maxKeys)
+			.expireAfterAccess(window)
+			.build();
+	}
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public Duration getWindow() {
+		return window;
+	}
+
+	@Override
+	public Optional<SuspiciousActivityDetectedEvent> evaluate(SecurityActivity activity) {
+		if (!TRACKED_TYPES.contains(activity.getActivityType())) {
+			return Optional.empty();
+		}
+
+		long now = activity.getTimestampMillis();
+		String subject = activity.getIdentifier() + ":" + activity.getIpAddress();
+		State state = states.get(subject, key -> new State(window.toMillis()));
+		state.counter.add(now);
+
+		long count = state.counter.sum(now);
+		if (count <= maxAttempts || now - state.lastDetectedMillis < cooldownMillis) {
+			return Optional.empty();
+		}
+
+		state.lastDetectedMillis = now;
+		return Optional.of(new SuspiciousActivityDetectedEvent(NAME, subject, activity.getIdentifier(),
+			activity.getIpAddress(), activity.getActivityType(), count, "반복된 실패 활동 감지"));
+	}
+
+	@Override
+	public Map<String, String> snapshot(long nowMillis) {
+		Map<String, String> snapshot = new HashMap<>();
+		states.asMap().forEach((subject, state) -> {
+			long count = state.counter.sum(nowMillis);
+			if (count > 0) {
+				snapshot.put(subject, String.valueOf(count));
+			}
+		});
+		return snapshot;
+	}
+
+	private static class State {
+		private final SlidingWindowCounter counter;
+		private long lastDetectedMillis;
+
+		private State(long windowMillis) {
+			this.counter = new SlidingWindowCounter(windowMillis, BUCKETS);
+		}
+	}
+}
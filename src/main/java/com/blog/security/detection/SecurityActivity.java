@@ -0,0 +1,17 @@
+package com.blog.security.detection;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 탐지 엔진에 입력되는 보안 활동 (로그인 실패, Rate Limit 초과, 접근 거부 등)
+ */
+@Getter
+@RequiredArgsConstructor
+public class SecurityActivity {
+
+	private final String activityType;
+	private final String identifier;
+	private final String ipAddress;
+	private final long timestampMillis;
+}
@@ -0,0 +1,43 @@
+package com.blog.security.detection;
+
+import java.util.Arrays;
+
+/**
+ * 시간 버킷 기반 슬라이딩 윈도우 카운터
+ *
+ * 윈도우를 고정 길이 버킷으로 나누고 링 버퍼로 재사용합니다. 오래된 버킷은 다음 기록 시 덮어씁니다.
+ */
+class SlidingWindowCounter {
+
+	private final long bucketMillis;
+	private final long[] bucketIds;
+	private final long[] counts;
+
+	SlidingWindowCounter(long windowMillis, int buckets) {
+		this.bucketMillis = Math.max(1, windowMillis / buckets);
+		this.bucketIds = new long[buckets];
+		this.counts = new long[buckets];
+		Arrays.fill(bucketIds, Long.MIN_VALUE);
+	}
+
+	void add(long nowMillis) {
+		long bucketId = nowMillis / bucketMillis;
+		int index = (int)Math.floorMod(bucketId, (long)bucketIds.length);
+		if (bucketIds[index] != bucketId) {
+			bucketIds[index] = bucketId;
+			counts[index] = 0;
+		}
+		counts[index]++;
+	}
+
+	long sum(long nowMillis) {
+		long current = nowMillis / bucketMillis;
+		long total = 0;
+		for (int i = 0; i < bucketIds.length; i++) {
+			if (bucketIds[i] <= current && current - bucketIds[i] < bucketIds.length) {
+				total += counts[i];
+			}
+		}
+		return total;
+	}
+}
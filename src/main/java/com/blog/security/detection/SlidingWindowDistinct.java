@@ -0,0 +1,50 @@
+package com.blog.security.detection;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 시간 버킷 기반 슬라이딩 윈도우 고유값 집계 (예: IP 대역별 시도된 사용자명 수)
+ *
+ * 버킷당 보관하는 값의 수를 제한해 메모리 사용량을 묶어 둡니다.
+ */
+class SlidingWindowDistinct {
+
+	private final long bucketMillis;
+	private final int maxValuesPerBucket;
+	private final long[] bucketIds;
+	private final Set<String>[] values;
+
+	@SuppressWarnings("unchecked")
+	SlidingWindowDistinct(long windowMillis, int buckets, int maxValuesPerBucket) {
+		this.bucketMillis = Math.max(1, windowMillis / buckets);
+		this.maxValuesPerBucket = maxValuesPerBucket;
+		this.bucketIds = new long[buckets];
+		this.values = new Set[buckets];
+		Arrays.fill(bucketIds, Long.MIN_VALUE);
+	}
+
+	void add(long nowMillis, String value) {
+		long bucketId = nowMillis / bucketMillis;
+		int index = (int)Math.floorMod(bucketId, (long)bucketIds.length);
+		if (bucketIds[index] != bucketId || values[index] == null) {
+			bucketIds[index] = bucketId;
+			values[index] = new HashSet<>();
+		}
+		if (values[index].size() < maxValuesPerBucket) {
+			values[index].add(value);
+		}
+	}
+
+	int distinct(long nowMillis) {
+		long current = nowMillis / bucketMillis;
+		Set<String> union = new HashSet<>();
+		for (int i = 0; i < bucketIds.length; i++) {
+			if (values[i] != null && bucketIds[i] <= current && current - bucketIds[i] < bucketIds.length) {
+				union.addAll(values[i]);
+			}
+		}
+		return union.size();
+	}
+}
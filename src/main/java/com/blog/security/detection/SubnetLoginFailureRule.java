@@ -0,0 +1,182 @@
+package com.blog.security.detection;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 하나의 IP 대역(IPv4 /24, IPv6 /64)에서 윈도우 내 N회 이상 로그인 실패가
+ * M개 이상의 서로 다른 사용자명에 걸쳐 발생하면 탐지 (크리덴셜 스터핑)
+ */
+@Component
+public class SubnetLoginFailureRule implements DetectionRule {
+
+	public static final String NAME = "subnet-login-failure";
+	private static final String LOGIN_FAILURE = "LOGIN_FAILURE";
+	private static final int BUCKETS = 10;
+	private static final int MAX_USERNAMES_PER_BUCKET = 1000;
+	private static final Pattern IPV4_LITERAL = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}");
+
+	private final Duration window;
+	private final int minFailures;
+	private final int minUsernames;
+	private final long cooldownMillis;
+	private final Cache<String, State> states;
+
+	public SubnetLoginFailureRule(
+		@Value("${blog.security.detection.subnet-login-failure.window:PT10M}") Duration window,
+		@Value("${blog.security.detection.subnet-login-failure.min-failures:20}") int minFailures,
+		@Value("${blog.security.detection.subnet-login-failure.min-usernames:5}") int minUsernames,
+		@Value("${blog.security.detection.max-keys:100000}") long maxKeys) {
+		this.window = window;
+		this.minFailures = minFailures;
+		this.minUsernames = minUsernames;
+		this.cooldownMillis = window.toMillis() / BUCKETS;
+		this.states = Caffeine.newBuilder()
+			.maximumSize(maxKeys)
+			.expireAfterAccess(window)
+			.build();
+	}
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public Duration getWindow() {
+		return window;
+	}
+
+	@Override
+	public Optional<SuspiciousActivityDetectedEvent> evaluate(SecurityActivity activity) {
+		if (!LOGIN_FAILURE.equals(activity.getActivityType())) {
+			return Optional.empty();
+		}
+
+		long now = activity.getTimestampMillis();
+		String subnet = toSubnet(activity.getIpAddress());
+		State state = states.get(subnet, key -> new State(window.toMillis()));
+		state.failures.add(now);
+		state.usernames.add(now, String.valueOf(activity.getIdentifier()));
+
+		long failures = state.failures.sum(now);
+		if (failures < minFailures || now - state.lastDetectedMillis < cooldownMillis) {
+			return Optional.empty();
+		}
+		int usernames = state.usernames.distinct(now);
+		if (usernames < minUsernames) {
+			return Optional.empty();
+		}
+
+		state.lastDetectedMillis = now;
+		return Optional.of(new SuspiciousActivityDetectedEvent(NAME, subnet, activity.getIdentifier(),
+			activity.getIpAddress(), LOGIN_FAILURE, failures,
+			"IP 대역 " + subnet + "에서 사용자 " + usernames + "명에 대한 로그인 실패 감지"));
+	}
+
+	@Override
+	public Map<String, String> snapshot(long nowMillis) {
+		Map<String, String> snapshot = new HashMap<>();
+		states.asMap().forEach((subnet, state) -> {
+			long failures = state.failures.sum(nowMillis);
+			if (failures > 0) {
+				snapshot.put(subnet, failures + "/" + state.usernames.distinct(nowMillis));
+			}
+		});
+		return snapshot;
+	}
+
+	/**
+	 * "실패 수/사용자명 수"를 항목별로 합침
+	 * 같은 사용자명이 여러 노드에서 집계될 수 있으므로 합친 사용자명 수는 상한값입니다.
+	 */
+	@Override
+	public String mergeSnapshotValues(String left, String right) {
+		String[] l = left.split("/");
+		String[] r = right.split("/");
+		return (Long.parseLong(l[0]) + Long.parseLong(r[0])) + "/" + (Long.parseLong(l[1]) + Long.parseLong(r[1]));
+	}
+
+	/**
+	 * IP 주소를 대역 키로 변환
+	 * 주소를 바이트로 파싱해 IPv4는 앞 3바이트, IPv6는 앞 8바이트만 남기므로
+	 * 같은 대역을 다르게 표기한 주소(:: 축약, 앞자리 0, 대소문자, 존 ID)도 같은 키가 되고,
+	 * IPv4 매핑 IPv6 주소(::ffff:a.b.c.d)는 IPv4 대역으로 묶입니다.
+	 */
+	static String toSubnet(String ipAddress) {
+		if (ipAddress == null || ipAddress.isEmpty()) {
+			return "unknown";
+		}
+
+		byte[] address = parseLiteral(ipAddress.trim());
+		if (address == null) {
+			return ipAddress;
+		}
+
+		if (address.length == 4) {
+			return (address[0] & 0xff) + "." + (address[1] & 0xff) + "." + (address[2] & 0xff) + ".0/24";
+		}
+
+		StringBuilder prefix = new StringBuilder();
+		for (int i = 0; i < 8; i += 2) {
+			if (i > 0) {
+				prefix.append(':');
+			}
+			prefix.append(Integer.toHexString(((address[i] & 0xff) << 8) | (address[i + 1] & 0xff)));
+		}
+		return prefix + "::/64";
+	}
+
+	// IP 리터럴만 파싱 (호스트명이 들어와도 DNS 조회를 하지 않도록 형식을 먼저 확인)
+	private static byte[] parseLiteral(String ipAddress) {
+		String literal = ipAddress;
+		int zone = literal.indexOf('%');
+		if (zone >= 0) {
+			literal = literal.substring(0, zone);
+		}
+		if (literal.startsWith("[") && literal.endsWith("]")) {
+			literal = literal.substring(1, literal.length() - 1);
+		}
+		if (!literal.contains(":") && !isIpv4Literal(literal)) {
+			return null;
+		}
+		try {
+			return InetAddress.getByName(literal).getAddress();
+		} catch (UnknownHostException e) {
+			return null;
+		}
+	}
+
+	private static boolean isIpv4Literal(String literal) {
+		if (!IPV4_LITERAL.matcher(literal).matches()) {
+			return false;
+		}
+		for (String octet : literal.split("\\.")) {
+			if (Integer.parseInt(octet) > 255) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static class State {
+		private final SlidingWindowCounter failures;
+		private final SlidingWindowDistinct usernames;
+		private long lastDetectedMillis;
+
+		private State(long windowMillis) {
+			this.failures = new SlidingWindowCounter(windowMillis, BUCKETS);
+			this.usernames = new SlidingWindowDistinct(windowMillis, BUCKETS, MAX_USERNAMES_PER_BUCKET);
+		}
+	}
+}
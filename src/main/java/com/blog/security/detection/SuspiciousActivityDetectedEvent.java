@@ -0,0 +1,21 @@
+package com.blog.security.detection;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 탐지 규칙이 의심스러운 활동을 감지했을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class SuspiciousActivityDetectedEvent {
+
+	private final String ruleName;
+	// 규칙이 집계한 키 (식별자+IP, IP 대역 등)
+	private final String subject;
+	private final String identifier;
+	private final String ipAddress;
+	private final String activityType;
+	private final long count;
+	private final String description;
+}
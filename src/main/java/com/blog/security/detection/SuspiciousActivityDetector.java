@@ -0,0 +1,176 @@
+package com.blog.security.detection;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 의심 활동 탐지 엔진
+ *
+ * 요청 스레드는 활동을 제출만 하고, 단일 워커 스레드가 모든 탐지 규칙의 메모리 윈도우를 갱신합니다.
+ * 탐지 결과는 {@link SuspiciousActivityDetectedEvent}로 발행하며,
+ * Redis에는 주기적으로 규칙별 집계 스냅샷만 기록합니다.
+ * 스냅샷은 노드별 키(security:detection:{규칙}:{노드 ID})에 기록해 다른 노드의 스냅샷을 덮어쓰지 않고,
+ * 노드 목록(security:detection:{규칙}:nodes, 기록 시각 점수)으로 찾아 조회 시 합칩니다.
+ */
+@Slf4j
+@Component
+public class SuspiciousActivityDetector {
+
+	private static final String SNAPSHOT_PREFIX = "security:detection:";
+	private static final String NODES_SUFFIX = ":nodes";
+	private static final long RECENT_WINDOW_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+	private final List<DetectionRule> rules;
+	private final ApplicationEventPublisher eventPublisher;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ThreadPoolExecutor executor;
+	private final Counter droppedCounter;
+	private final Counter detectionCounter;
+	private final String nodeId = UUID.randomUUID().toString();
+
+	// 워커 스레드에서만 갱신
+	private final SlidingWindowCounter recentDetections = new SlidingWindowCounter(RECENT_WINDOW_MILLIS, 12);
+	private volatile long recentDetectionCount;
+
+	public SuspiciousActivityDetector(List<DetectionRule> rules, ApplicationEventPublisher eventPublisher,
+		RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry,
+		@Value("${blog.security.detection.queue-capacity:10000}") int queueCapacity) {
+		this.rules = rules;
+		this.eventPublisher = eventPublisher;
+		this.redisTemplate = redisTemplate;
+		this.droppedCounter = Counter.builder("security.detection.dropped")
+			.description("큐가 가득 차 평가하지 못한 보안 활동 수")
+			.register(meterRegistry);
+		this.detectionCounter = Counter.builder("security.detection.detected").register(meterRegistry);
+		this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "security-detector");
+				thread.setDaemon(true);
+				return thread;
+			},
+			(runnable, pool) -> droppedCounter.increment());
+	}
+
+	/**
+	 * 활동 제출 (블로킹 없음)
+	 */
+	public void submit(SecurityActivity activity) {
+		executor.execute(() -> evaluate(activity));
+	}
+
+	/**
+	 * 최근 1시간 동안 이 노드에서 탐지된 건수
+	 */
+	public long getRecentDetectionCount() {
+		return recentDetectionCount;
+	}
+
+	private void evaluate(SecurityActivity activity) {
+		for (DetectionRule rule : rules) {
+			try {
+				rule.evaluate(activity).ifPresent(this::publish);
+			} catch (Exception e) {
+				log.error("탐지 규칙 평가 실패 - 규칙: {}, 오류: {}", rule.getName(), e.getMessage(), e);
+			}
+		}
+		recentDetectionCount = recentDetections.sum(activity.getTimestampMillis());
+	}
+
+	private void publish(SuspiciousActivityDetectedEvent event) {
+		recentDetections.add(System.currentTimeMillis());
+		detectionCounter.increment();
+		eventPublisher.publishEvent(event);
+	}
+
+	/**
+	 * 규칙별 집계 스냅샷을 Redis 해시로 기록 (워커 스레드에서 실행)
+	 */
+	@Scheduled(fixedDelayString = "${blog.security.detection.snapshot-interval-ms:30000}")
+	public void scheduleSnapshot() {
+		executor.execute(this::writeSnapshots);
+	}
+
+	private void writeSnapshots() {
+		long now = System.currentTimeMillis();
+		recentDetectionCount = recentDetections.sum(now);
+		for (DetectionRule rule : rules) {
+			try {
+				Map<String, String> snapshot = rule.snapshot(now);
+				String key = snapshotKey(rule.getName(), nodeId);
+				String nodesKey = SNAPSHOT_PREFIX + rule.getName() + NODES_SUFFIX;
+				redisTemplate.executePipelined(new SessionCallback<Object>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					public <K, V> Object execute(RedisOperations<K, V> operations) {
+						RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+						// 이 노드의 키만 교체
+						ops.delete(key);
+						if (!snapshot.isEmpty()) {
+							ops.opsForHash().putAll(key, snapshot);
+							ops.expire(key, rule.getWindow());
+						}
+						ops.opsForZSet().add(nodesKey, nodeId, now);
+						ops.opsForZSet().removeRangeByScore(nodesKey, 0, now - rule.getWindow().toMillis());
+						ops.expire(nodesKey, rule.getWindow());
+						return null;
+					}
+				});
+			} catch (Exception e) {
+				log.warn("탐지 스냅샷 기록 실패 - 규칙: {}, 오류: {}", rule.getName(), e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 윈도우 안에 스냅샷을 기록한 모든 노드의 규칙별 집계를 합쳐 조회
+	 * @return 규칙 이름 → (키 → 요약 값)
+	 */
+	public Map<String, Map<String, String>> getClusterSnapshots() {
+		long now = System.currentTimeMillis();
+		Map<String, Map<String, String>> snapshots = new LinkedHashMap<>();
+		for (DetectionRule rule : rules) {
+			Map<String, String> merged = new HashMap<>();
+			Set<String> nodes = redisTemplate.opsForZSet().rangeByScore(SNAPSHOT_PREFIX + rule.getName() + NODES_SUFFIX,
+				now - rule.getWindow().toMillis(), Double.POSITIVE_INFINITY);
+			if (nodes != null) {
+				for (String node : nodes) {
+					Map<Object, Object> entries = redisTemplate.opsForHash().entries(snapshotKey(rule.getName(), node));
+					entries.forEach((subject, value) ->
+						merged.merge(String.valueOf(subject), String.valueOf(value), rule::mergeSnapshotValues));
+				}
+			}
+			snapshots.put(rule.getName(), merged);
+		}
+		return snapshots;
+	}
+
+	private String snapshotKey(String ruleName, String node) {
+		return SNAPSHOT_PREFIX + ruleName + ":" + node;
+	}
+
+	@PreDestroy
+	void shutdown() throws InterruptedException {
+		executor.shutdown();
+		executor.awaitTermination(5, TimeUnit.SECONDS);
+	}
+}
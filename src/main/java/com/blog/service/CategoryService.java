@@ -1,5 +1,6 @@
 package com.blog.service;
 
+import com.blog.cache.CacheNames;
 import com.blog.dto.request.CategoryCreateRequest;
 import com.blog.dto.request.CategoryUpdateRequest;
 import com.blog.dto.response.*;
@@ -9,8 +10,8 @@ import com.blog.repository.CategoryRepository;
 import com.blog.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +26,11 @@ public class CategoryService {
 
 	private final CategoryRepository categoryRepository;
 	private final PostRepository postRepository;
+	private final PostListAssembler postListAssembler;
+	private final CacheManager cacheManager;
+	private final ResourceVersionService resourceVersionService;
+
+	private static final int RECENT_POST_COUNT = 5;
 
 	@Transactional
 	public CategoryResponse createCategory(CategoryCreateRequest request) {
@@ -45,7 +51,10 @@ public class CategoryService {
 			.orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
 		if (request.getName() != null) category.setName(request.getName());
 		if (request.getDescription() != null) category.setDescription(request.getDescription());
-		return convertToResponse(categoryRepository.save(category));
+		Category saved = categoryRepository.save(category);
+		cacheManager.getCache(CacheNames.CATEGORY_DETAIL).evict(categoryId);
+		resourceVersionService.evictCategory(categoryId);
+		return convertToResponse(saved);
 	}
 
 	@Transactional
@@ -53,6 +62,8 @@ public class CategoryService {
 		Category category = categoryRepository.findById(categoryId)
 			.orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
 		categoryRepository.delete(category);
+		cacheManager.getCache(CacheNames.CATEGORY_DETAIL).evict(categoryId);
+		resourceVersionService.evictCategory(categoryId);
 	}
 
 	public List<CategoryListResponse> getAllCategories() {
@@ -62,21 +73,27 @@ public class CategoryService {
 			.collect(Collectors.toList());
 	}
 
-	public CategoryDetailResponse getCategoryDetail(Long categoryId) {
+	public VersionedResponse<CategoryDetailResponse> getCategoryDetail(Long categoryId) {
+		// 조립된 상세 응답은 2단계 캐시에 보관하고 게시물 변경 시 무효화
+		return cacheManager.getCache(CacheNames.CATEGORY_DETAIL).get(categoryId, () -> loadCategoryDetail(categoryId));
+	}
+
+	// 본문과 검증자를 같은 트랜잭션에서 읽어 200 응답의 ETag가 본문과 일치하도록 함
+	private VersionedResponse<CategoryDetailResponse> loadCategoryDetail(Long categoryId) {
 		Category category = categoryRepository.findById(categoryId)
 			.orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
-		List<Post> recentPosts = postRepository.findRecentPosts(
-			PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"))
-		);
-		return CategoryDetailResponse.builder()
+		List<Post> recentPosts = postRepository.findRecentByCategoryId(categoryId, PageRequest.of(0, RECENT_POST_COUNT));
+		ResourceVersion version = categoryRepository.findVersionById(categoryId)
+			.orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
+		return new VersionedResponse<>(CategoryDetailResponse.builder()
 			.id(category.getId())
 			.name(category.getName())
 			.description(category.getDescription())
-			.postCount(category.getPosts() != null ? category.getPosts().size() : 0)
-			.recentPosts(recentPosts.stream().map(this::convertToPostListResponse).collect(Collectors.toList()))
+			.postCount((int) version.getDerivedCount())
+			.recentPosts(postListAssembler.toListResponses(recentPosts))
 			.createdAt(category.getCreatedAt())
 			.updatedAt(category.getUpdatedAt())
-			.build();
+			.build(), version);
 	}
 
 	public List<CategoryListResponse> searchCategories(String keyword) {
@@ -90,9 +107,10 @@ public class CategoryService {
 	}
 
 	public int getPostCount(Long categoryId) {
-		Category category = categoryRepository.findById(categoryId)
-			.orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다."));
-		return category.getPosts() != null ? category.getPosts().size() : 0;
+		if (!categoryRepository.existsById(categoryId)) {
+			throw new IllegalArgumentException("카테고리를 찾을 수 없습니다.");
+		}
+		return (int) postRepository.countByCategoryId(categoryId);
 	}
 
 	// DTO 변환 메서드
@@ -114,22 +132,4 @@ public class CategoryService {
 			.createdAt(category.getCreatedAt())
 			.build();
 	}
-
-	private PostListResponse convertToPostListResponse(Post post) {
-		String contentPreview = post.getContent().length() > 200
-			? post.getContent().substring(0, 200) + "..."
-			: post.getContent();
-		return PostListResponse.builder()
-			.id(post.getId())
-			.title(post.getTitle())
-			.contentPreview(contentPreview)
-			.viewCount(post.getViewCount())
-			.likeCount(post.getLikeCount())
-			.author(UserResponse.fromEntity(post.getAuthor()))
-			.category(null) // 필요시 category 변환 추가
-			.tags(null) // 필요시 tags 변환 추가
-			.commentCount(post.getComments() != null ? post.getComments().size() : 0)
-			.createdAt(post.getCreatedAt())
-			.build();
-	}
 }
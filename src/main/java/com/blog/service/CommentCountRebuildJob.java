@@ -0,0 +1,58 @@
+package com.blog.service;
+
+import com.blog.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * posts.comment_count 재계산 작업
+ *
+ * 댓글 생성/삭제 시 증감으로 유지되는 comment_count가 실제 댓글 수와 어긋난 경우를 대비해
+ * 게시물 ID 배치마다 UPDATE 한 번으로 다시 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountRebuildJob {
+
+	private final PostRepository postRepository;
+
+	private static final int BATCH_SIZE = 500;
+
+	// comment_count 컬럼을 처음 추가한 배포에서 기존 게시물 값(0)을 채우기 위해 기본 활성화
+	@Value("${blog.comment-count.rebuild-on-startup:true}")
+	private boolean rebuildOnStartup;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildOnStartup() {
+		if (rebuildOnStartup) {
+			rebuild();
+		}
+	}
+
+	@Scheduled(cron = "${blog.comment-count.rebuild-cron:0 0 4 * * *}")
+	public void rebuild() {
+		long lastId = 0;
+		int updated = 0;
+
+		while (true) {
+			List<Long> postIds = postRepository.findIdsAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+			if (postIds.isEmpty()) {
+				break;
+			}
+
+			updated += postRepository.rebuildCommentCount(postIds);
+			lastId = postIds.get(postIds.size() - 1);
+		}
+
+		log.info("댓글 수 재계산 완료 - 갱신된 게시물 수: {}", updated);
+	}
+}
@@ -0,0 +1,63 @@
+package com.blog.service;
+
+import com.blog.entity.Comment;
+import com.blog.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * comments.path 백필 작업
+ *
+ * path 컬럼을 처음 추가한 배포에서 기존 댓글의 경로를 ID 순으로 채웁니다.
+ * 부모는 항상 자식보다 ID가 작으므로 앞선 배치에서 먼저 경로가 정해집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentPathBackfillJob {
+
+	private final CommentRepository commentRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	private static final int BATCH_SIZE = 500;
+
+	@Value("${blog.comment-path.backfill-on-startup:false}")
+	private boolean backfillOnStartup;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillOnStartup() {
+		if (backfillOnStartup) {
+			backfill();
+		}
+	}
+
+	public void backfill() {
+		long lastId = 0;
+		int updated = 0;
+
+		while (true) {
+			final long afterId = lastId;
+			List<Comment> comments = transactionTemplate.execute(status -> {
+				List<Comment> batch = commentRepository.findWithoutPathAfter(afterId, PageRequest.of(0, BATCH_SIZE));
+				batch.forEach(Comment::assignPath);
+				return batch;
+			});
+			if (comments == null || comments.isEmpty()) {
+				break;
+			}
+
+			updated += (int) comments.stream().filter(comment -> comment.getPath() != null).count();
+			lastId = comments.get(comments.size() - 1).getId();
+		}
+
+		log.info("댓글 경로 백필 완료 - 갱신된 댓글 수: {}", updated);
+	}
+}
@@ -2,11 +2,15 @@ package com.blog.service;
 
 import com.blog.dto.request.CommentCreateRequest;
 import com.blog.dto.request.CommentUpdateRequest;
+import com.blog.dto.request.PageCursor;
 import com.blog.dto.response.CommentResponse;
+import com.blog.dto.response.CursorPageResponse;
 import com.blog.dto.response.UserResponse;
 import com.blog.entity.Comment;
 import com.blog.entity.Post;
 import com.blog.entity.User;
+import com.blog.outbox.OutboxEventPublisher;
+import com.blog.outbox.OutboxEventType;
 import com.blog.repository.CommentRepository;
 import com.blog.repository.PostRepository;
 import com.blog.repository.UserRepository;
@@ -16,10 +20,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,6 +43,10 @@ public class CommentService {
 	private final CommentRepository commentRepository;
 	private final PostRepository postRepository;
 	private final UserRepository userRepository;
+	private final OutboxEventPublisher outboxEventPublisher;
+	private final CommentTreeAssembler commentTreeAssembler;
+
+	private static final int MAX_TREE_DEPTH = 10;
 
 	@Transactional
 	public CommentResponse createComment(Long postId, CommentCreateRequest request, String username) {
@@ -43,6 +59,14 @@ public class CommentService {
 		if (request.getParentId() != null) {
 			parent = commentRepository.findById(request.getParentId())
 				.orElseThrow(() -> new IllegalArgumentException("부모 뎃글을 찾을 수 없습니다."));
+			if (!parent.getPost().getId().equals(postId)) {
+				throw new IllegalArgumentException("부모 댓글이 다른 게시글에 속해 있습니다.");
+			}
+			// 백필 전 댓글이면 경로를 먼저 채워 깊이 제한이 올바르게 적용되도록 함
+			parent.ensurePath();
+			if (parent.getDepth() >= Comment.MAX_DEPTH) {
+				throw new IllegalArgumentException("답글 깊이 제한을 초과했습니다.");
+			}
 		}
 
 		Comment comment = Comment.builder()
@@ -54,6 +78,10 @@ public class CommentService {
 			.build();
 
 		Comment saved = commentRepository.save(comment);
+		// 경로에는 발급된 ID가 들어가므로 INSERT 후 지정 (커밋 시 UPDATE로 반영)
+		saved.assignPath();
+		postRepository.incrementCommentCount(postId, 1);
+		publishCommentEvent(OutboxEventType.COMMENT_CREATED, saved);
 		return convertToResponse(saved);
 	}
 
@@ -69,7 +97,9 @@ public class CommentService {
 		}
 
 		comment.setContent(request.getContent());
-		return convertToResponse(commentRepository.save(comment));
+		Comment updated = commentRepository.save(comment);
+		publishCommentEvent(OutboxEventType.COMMENT_UPDATED, updated);
+		return convertToResponse(updated);
 	}
 
 	@Transactional
@@ -83,8 +113,14 @@ public class CommentService {
 			throw new SecurityException("댓글을 삭제할 권한이 없습니다.");
 		}
 
+		if (comment.isDeleted()) {
+			return;
+		}
+
 		comment.setDeleted(true); // 소프트 삭제
 		commentRepository.save(comment);
+		postRepository.incrementCommentCount(comment.getPost().getId(), -1);
+		publishCommentEvent(OutboxEventType.COMMENT_DELETED, comment);
 	}
 
 	public Page<CommentResponse> getCommentsByPost(Long postId, int page, int size) {
@@ -93,6 +129,152 @@ public class CommentService {
 			.map(this::convertToResponse);
 	}
 
+	/**
+	 * 게시물의 최상위 댓글 커서 조회 (최신순, 전체 개수 미포함)
+	 * @param postId 게시물 ID
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+	 * @param size 페이지 크기
+	 */
+	public CursorPageResponse<CommentResponse> scrollCommentsByPost(Long postId, String cursor, int size) {
+		int pageSize = CursorPageResponse.normalizeSize(size);
+		PageCursor pageCursor = PageCursor.decode(cursor);
+		Pageable limit = PageRequest.of(0, pageSize + 1);
+		List<Comment> comments = pageCursor == null
+			? commentRepository.findRootCommentsFirst(postId, limit)
+			: commentRepository.findRootCommentsBefore(postId, pageCursor.getCreatedAt(), pageCursor.getId(), limit);
+		return CursorPageResponse.of(comments, pageSize,
+			comment -> new PageCursor(comment.getCreatedAt(), comment.getId()),
+			page -> page.stream().map(this::convertToResponse).collect(Collectors.toList()));
+	}
+
+	/**
+	 * 게시물 댓글 트리 조회
+	 * 최상위 댓글 한 페이지를 SQL에서 자른 뒤, 그 댓글들의 하위 댓글을 경로 범위 조회 1회로 읽어 조립합니다.
+	 * 범위는 페이지의 첫/마지막 최상위 댓글 경로 사이이므로 그 사이의 삭제된 최상위 댓글의 답글이 섞일 수 있으며,
+	 * 조립 단계에서 부모가 없는 답글로 걸러집니다.
+	 * 경로가 아직 백필되지 않은 최상위 댓글이 있으면 게시물의 모든 댓글을 한 번에 읽어 조립합니다.
+	 * @param postId 게시물 ID
+	 * @param page 최상위 댓글 페이지 번호
+	 * @param size 최상위 댓글 페이지 크기
+	 * @param depth 포함할 답글 깊이 (최대 10)
+	 * @return 최신순 최상위 댓글 페이지, 각 댓글은 작성순 답글 트리를 포함
+	 */
+	public Page<CommentResponse> getCommentTree(Long postId, int page, int size, int depth) {
+		int pageSize = CursorPageResponse.normalizeSize(size);
+		int maxDepth = Math.max(0, Math.min(depth, MAX_TREE_DEPTH));
+		Pageable pageable = PageRequest.of(page, pageSize);
+
+		List<Comment> roots = commentRepository.findRootCommentsFirst(postId, pageable);
+		List<CommentResponse> tree = roots.stream().allMatch(root -> root.getPath() != null)
+			? assembleFromPathRange(postId, roots, maxDepth)
+			: assembleFromPost(postId, roots, maxDepth);
+		return PageableExecutionUtils.getPage(tree, pageable, () -> commentRepository.countRootComments(postId));
+	}
+
+	private List<CommentResponse> assembleFromPathRange(Long postId, List<Comment> roots, int maxDepth) {
+		if (roots.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		String fromPath = roots.stream().map(Comment::getPath).min(String::compareTo).orElseThrow();
+		String toPath = roots.stream().map(Comment::getPath).max(String::compareTo).orElseThrow();
+		// 깊이 제한 바로 아래 단계까지 읽어야 더 깊은 답글이 있는 노드를 표시할 수 있음
+		int maxPathLength = (maxDepth + 2) * Comment.PATH_SEGMENT_LENGTH;
+
+		List<Comment> comments = new ArrayList<>(roots);
+		comments.addAll(commentRepository.findRepliesInPathRange(postId, fromPath, Comment.pathUpperBound(toPath),
+			maxPathLength));
+		return commentTreeAssembler.assemble(comments, maxDepth);
+	}
+
+	// 경로 백필 전 댓글이 섞인 경우 - 게시물 전체를 작성순으로 조립한 뒤 페이지의 최상위 댓글만 남김
+	private List<CommentResponse> assembleFromPost(Long postId, List<Comment> roots, int maxDepth) {
+		Map<Long, CommentResponse> assembled = commentTreeAssembler.assemble(
+				commentRepository.findByPostIdAndIsDeletedFalseOrderByCreatedAtAsc(postId), maxDepth).stream()
+			.collect(Collectors.toMap(CommentResponse::getId, Function.identity()));
+		return roots.stream()
+			.map(root -> assembled.get(root.getId()))
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 댓글 스레드 조회 - 기준 댓글의 모든 하위 댓글을 스레드 순(깊이 우선, 작성순)으로 평탄하게 반환
+	 * 경로 접두사 범위를 인덱스 순서대로 읽으므로 페이지마다 쿼리 1회입니다.
+	 * 경로가 백필되지 않은 댓글은 부모 ID로 하위 댓글을 찾아 같은 순서로 반환합니다.
+	 * @param commentId 기준 댓글 ID
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+	 * @param size 페이지 크기
+	 */
+	public CursorPageResponse<CommentResponse> getThread(Long commentId, String cursor, int size) {
+		Comment root = commentRepository.findById(commentId)
+			.orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
+
+		int pageSize = CursorPageResponse.normalizeSize(size);
+		PageCursor pageCursor = PageCursor.decode(cursor);
+		// 백필 전 댓글은 하위 댓글 경로도 비어 있어 경로 범위로 조회할 수 없음
+		if (root.getPath() == null) {
+			return getThreadWithoutPath(root, pageCursor, pageSize);
+		}
+
+		String afterPath = root.getPath();
+		if (pageCursor != null) {
+			afterPath = commentRepository.findById(pageCursor.getId())
+				.map(Comment::getPath)
+				.filter(path -> path.startsWith(root.getPath()))
+				.orElseThrow(() -> new IllegalArgumentException("잘못된 커서입니다."));
+		}
+
+		List<Comment> comments = commentRepository.findThreadAfter(
+			root.getPost().getId(), afterPath, Comment.pathUpperBound(root.getPath()), PageRequest.of(0, pageSize + 1));
+		return CursorPageResponse.of(comments, pageSize,
+			comment -> new PageCursor(comment.getCreatedAt(), comment.getId()),
+			page -> page.stream()
+				.map(comment -> convertToThreadResponse(comment, comment.getDepth()))
+				.collect(Collectors.toList()));
+	}
+
+	// 경로 백필 전 스레드 - 게시물 댓글을 작성순으로 한 번에 읽어 부모 ID로 하위 댓글을 깊이 우선으로 모은 뒤 페이지를 자름
+	private CursorPageResponse<CommentResponse> getThreadWithoutPath(Comment root, PageCursor pageCursor, int pageSize) {
+		Map<Long, List<Comment>> childrenByParentId = new HashMap<>();
+		for (Comment comment : commentRepository.findByPostIdAndIsDeletedFalseOrderByCreatedAtAsc(root.getPost().getId())) {
+			if (comment.getParent() != null) {
+				childrenByParentId.computeIfAbsent(comment.getParent().getId(), id -> new ArrayList<>()).add(comment);
+			}
+		}
+
+		int rootDepth = 0;
+		for (Comment ancestor = root.getParent(); ancestor != null; ancestor = ancestor.getParent()) {
+			rootDepth++;
+		}
+
+		List<Comment> thread = new ArrayList<>();
+		Map<Long, Integer> depths = new HashMap<>();
+		Deque<Comment> stack = new ArrayDeque<>();
+		pushInReverse(stack, childrenByParentId.getOrDefault(root.getId(), List.of()));
+		depths.put(root.getId(), rootDepth);
+		while (!stack.isEmpty()) {
+			Comment comment = stack.pop();
+			thread.add(comment);
+			depths.put(comment.getId(), depths.get(comment.getParent().getId()) + 1);
+			pushInReverse(stack, childrenByParentId.getOrDefault(comment.getId(), List.of()));
+		}
+
+		int from = 0;
+		if (pageCursor != null) {
+			from = thread.stream().map(Comment::getId).toList().indexOf(pageCursor.getId()) + 1;
+			if (from == 0) {
+				throw new IllegalArgumentException("잘못된 커서입니다.");
+			}
+		}
+
+		return CursorPageResponse.of(thread.subList(from, Math.min(from + pageSize + 1, thread.size())), pageSize,
+			comment -> new PageCursor(comment.getCreatedAt(), comment.getId()),
+			page -> page.stream()
+				.map(comment -> convertToThreadResponse(comment, depths.get(comment.getId())))
+				.collect(Collectors.toList()));
+	}
+
 	public List<CommentResponse> getReplies(Long parentId) {
 		return commentRepository.findByParentIdAndIsDeletedFalseOrderByCreatedAtAsc(parentId)
 			.stream()
@@ -115,7 +297,42 @@ public class CommentService {
 	public CommentResponse getCommentById(Long commentId) {
 		Comment comment = commentRepository.findById(commentId)
 			.orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
-		return convertToResponse(comment);
+		CommentResponse response = convertToResponse(comment);
+		if (comment.getPath() != null) {
+			response.setReplyCount(commentRepository.countDescendants(comment.getPost().getId(), comment.getPath(),
+				Comment.pathUpperBound(comment.getPath())));
+		}
+		return response;
+	}
+
+	// 파생 저장소 갱신용 이벤트를 같은 트랜잭션에 기록
+	private void publishCommentEvent(String eventType, Comment comment) {
+		Map<String, Object> payload = new HashMap<>();
+		payload.put("commentId", comment.getId());
+		payload.put("postId", comment.getPost().getId());
+		outboxEventPublisher.publish(OutboxEventType.AGGREGATE_COMMENT, comment.getId(), eventType, payload);
+	}
+
+	// 먼저 작성된 답글이 먼저 꺼내지도록 역순으로 쌓음
+	private static void pushInReverse(Deque<Comment> stack, List<Comment> comments) {
+		for (int i = comments.size() - 1; i >= 0; i--) {
+			stack.push(comments.get(i));
+		}
+	}
+
+	// 스레드용 평탄 DTO 변환 - 답글 컬렉션을 건드리지 않고 깊이만 채움
+	private CommentResponse convertToThreadResponse(Comment comment, int depth) {
+		return CommentResponse.builder()
+			.id(comment.getId())
+			.content(comment.getContent())
+			.author(UserResponse.fromEntity(comment.getAuthor()))
+			.parentId(comment.getParent() != null ? comment.getParent().getId() : null)
+			.depth(depth)
+			.likeCount(comment.getLikeCount())
+			.isDeleted(comment.isDeleted())
+			.createdAt(comment.getCreatedAt())
+			.updatedAt(comment.getUpdatedAt())
+			.build();
 	}
 
 	// DTO 변환
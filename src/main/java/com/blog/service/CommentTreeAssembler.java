@@ -0,0 +1,77 @@
+package com.blog.service;
+
+import com.blog.dto.response.CommentResponse;
+import com.blog.dto.response.UserResponse;
+import com.blog.entity.Comment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 트리 조립기
+ *
+ * 삭제되지 않은 댓글 목록을 받아 ID → 노드 맵으로 한 번 훑어(O(n)) 트리를 만듭니다.
+ * 부모가 항상 자식보다 먼저 오므로 깊이도 같은 순회에서 계산합니다.
+ */
+@Component
+public class CommentTreeAssembler {
+
+	/**
+	 * @param comments 부모가 자식보다 먼저 오고, 같은 부모의 답글은 작성 순인 삭제되지 않은 댓글
+	 *                 (작성 순 전체 목록 또는 최상위 댓글 뒤에 경로 순 답글을 이은 목록)
+	 * @param maxDepth 포함할 최대 깊이 (최상위 = 0). 이보다 깊은 답글이 있는 노드는 replies가 null
+	 * @return 최상위 댓글 노드 (입력 순)
+	 */
+	public List<CommentResponse> assemble(List<Comment> comments, int maxDepth) {
+		Map<Long, CommentResponse> nodes = new HashMap<>(comments.size() * 2);
+		Map<Long, Integer> depths = new HashMap<>(comments.size() * 2);
+		List<CommentResponse> roots = new ArrayList<>();
+
+		for (Comment comment : comments) {
+			// 지연 로딩 프록시의 ID 조회는 쿼리를 발생시키지 않음
+			Long parentId = comment.getParent() != null ? comment.getParent().getId() : null;
+			if (parentId == null) {
+				CommentResponse node = toNode(comment, null);
+				nodes.put(comment.getId(), node);
+				depths.put(comment.getId(), 0);
+				roots.add(node);
+				continue;
+			}
+
+			CommentResponse parent = nodes.get(parentId);
+			if (parent == null) {
+				// 삭제되었거나 깊이 제한으로 빠진 댓글의 답글
+				continue;
+			}
+
+			int depth = depths.get(parentId) + 1;
+			if (depth > maxDepth) {
+				parent.setReplies(null);
+				continue;
+			}
+
+			CommentResponse node = toNode(comment, parentId);
+			nodes.put(comment.getId(), node);
+			depths.put(comment.getId(), depth);
+			parent.getReplies().add(node);
+		}
+		return roots;
+	}
+
+	private CommentResponse toNode(Comment comment, Long parentId) {
+		return CommentResponse.builder()
+			.id(comment.getId())
+			.content(comment.getContent())
+			.author(UserResponse.fromEntity(comment.getAuthor()))
+			.parentId(parentId)
+			.replies(new ArrayList<>())
+			.likeCount(comment.getLikeCount())
+			.isDeleted(false)
+			.createdAt(comment.getCreatedAt())
+			.updatedAt(comment.getUpdatedAt())
+			.build();
+	}
+}
@@ -0,0 +1,321 @@
+package com.blog.service;
+
+import com.blog.entity.Post;
+import com.blog.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 기반 게시물 조회수/좋아요 카운터
+ *
+ * 증가분은 post:{id}:views, post:{id}:likes 키에 INCRBY로 누적하고,
+ * 주기적으로 posts 테이블에 일괄 반영(reconcile)합니다.
+ * 반영은 증가분을 처리 중(:inflight) 키로 옮기고 → DB 커밋 → 처리 중 키를 DB 반영값 사본(:db)으로 교체하는
+ * 순서라, 커밋 전에 프로세스가 죽어도 처리 중 값이 남아 다음 실행에서 다시 반영됩니다.
+ * (커밋 직후 교체 전에 죽으면 그 배치는 한 번 더 반영될 수 있습니다.)
+ * 화면에 노출되는 값은 DB 값(사본이 있으면 사본) + 처리 중 값 + Redis 증가분 + 로컬 버퍼 증가분이므로
+ * 반영 주기마다 상세 캐시를 무효화하지 않습니다.
+ * 증가분은 같은 파이프라인에서 {@link PostLeaderboard}에도 기록합니다.
+ * 좋아요 증가분은 사용자별 좋아요 기록이 없어 아직 누적하지 않으며, 반영/조회 경로만 likes 키를 함께 다룹니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCounterService {
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final PostRepository postRepository;
+	private final PostViewCountBuffer viewCountBuffer;
+	private final TransactionTemplate transactionTemplate;
+	private final PostLeaderboard postLeaderboard;
+
+	private static final String POST_KEY_PREFIX = "post:";
+	private static final String VIEWS_SUFFIX = ":views";
+	private static final String LIKES_SUFFIX = ":likes";
+	private static final String INFLIGHT_SUFFIX = ":inflight";
+	private static final String PERSISTED_SUFFIX = ":db";
+	private static final String DIRTY_SET_KEY = "post:counters:dirty";
+	static final String INFLIGHT_SET_KEY = "post:counters:inflight";
+	static final String RECONCILE_LOCK_KEY = "post:counters:reconcile-lock";
+
+	// 처리 중 집합을 여러 노드가 동시에 다시 반영하지 않도록 한 번에 한 노드만 실행
+	private static final Duration RECONCILE_LOCK_TTL = Duration.ofMinutes(5);
+	// DB 반영값 사본은 상세 캐시 TTL보다 오래 유지되어야 함
+	private static final Duration PERSISTED_COPY_TTL = Duration.ofDays(1);
+
+	static final RedisScript<List> CLAIM_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/counter_reconcile_claim.lua"), List.class);
+	static final RedisScript<Long> COMMIT_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/counter_reconcile_commit.lua"), Long.class);
+	static final RedisScript<Long> LOCK_RELEASE_SCRIPT =
+		RedisScript.of(new ClassPathResource("scripts/lock_release.lua"), Long.class);
+
+	// 게시물당 multi-GET 키 수 (views, views:inflight, views:db, likes, likes:inflight, likes:db)
+	private static final int KEYS_PER_POST = 6;
+
+	private static final int RECONCILE_BATCH_SIZE = 500;
+
+	/**
+	 * 게시물 목록의 현재 조회수/좋아요 수 조회 (Redis multi-GET 1회)
+	 * @param posts 게시물 목록
+	 * @return 게시물 ID별 카운터
+	 */
+	public Map<Long, PostCounts> getCounts(Collection<Post> posts) {
+		Map<Long, PostCounts> counts = new HashMap<>();
+		if (posts.isEmpty()) {
+			return counts;
+		}
+
+		List<Post> postList = new ArrayList<>(posts);
+		List<String> values = multiGetDeltas(postList.stream().map(Post::getId).collect(Collectors.toList()));
+		for (int i = 0; i < postList.size(); i++) {
+			Post post = postList.get(i);
+			counts.put(post.getId(), toCounts(post.getId(), post.getViewCount(), post.getLikeCount(), values, i));
+		}
+		return counts;
+	}
+
+	/**
+	 * 단일 게시물의 현재 조회수/좋아요 수 조회
+	 * @param postId 게시물 ID
+	 * @param persistedViewCount DB에 반영된 조회수
+	 * @param persistedLikeCount DB에 반영된 좋아요 수
+	 * @return 카운터
+	 */
+	public PostCounts getCounts(Long postId, int persistedViewCount, int persistedLikeCount) {
+		List<String> values = multiGetDeltas(List.of(postId));
+		return toCounts(postId, persistedViewCount, persistedLikeCount, values, 0);
+	}
+
+	private List<String> multiGetDeltas(List<Long> postIds) {
+		List<String> keys = new ArrayList<>(postIds.size() * KEYS_PER_POST);
+		for (Long postId : postIds) {
+			keys.add(viewsKey(postId));
+			keys.add(viewsKey(postId) + INFLIGHT_SUFFIX);
+			keys.add(viewsKey(postId) + PERSISTED_SUFFIX);
+			keys.add(likesKey(postId));
+			keys.add(likesKey(postId) + INFLIGHT_SUFFIX);
+			keys.add(likesKey(postId) + PERSISTED_SUFFIX);
+		}
+
+		try {
+			return redisTemplate.opsForValue().multiGet(keys);
+		} catch (DataAccessException e) {
+			log.error("게시물 카운터 조회 실패 - DB 값만 사용합니다: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private PostCounts toCounts(Long postId, int persistedViewCount, int persistedLikeCount, List<String> values, int index) {
+		long views = persistedViewCount;
+		long likes = persistedLikeCount;
+		if (values != null) {
+			int offset = index * KEYS_PER_POST;
+			views = liveCount(persistedViewCount, values, offset);
+			likes = liveCount(persistedLikeCount, values, offset + 3);
+		}
+		return new PostCounts(
+			(int) (views + viewCountBuffer.getPendingDelta(postId)),
+			(int) Math.max(0, likes)
+		);
+	}
+
+	// 마지막 반영 이후의 DB 값 사본이 있으면 호출자가 가진 (캐시되었을 수 있는) DB 값 대신 사용
+	private long liveCount(int persistedCount, List<String> values, int offset) {
+		String persistedCopy = values.get(offset + 2);
+		long base = persistedCopy != null ? Long.parseLong(persistedCopy) : persistedCount;
+		return base + parseLong(values.get(offset)) + parseLong(values.get(offset + 1));
+	}
+
+	/**
+	 * 로컬 조회수 버퍼를 Redis로 반영
+	 */
+	@Scheduled(fixedDelayString = "${blog.view-count.flush-interval-ms:5000}")
+	public void flushViewBuffer() {
+		Map<Long, Long> deltas = viewCountBuffer.drain();
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		long now = System.currentTimeMillis();
+		try {
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+					deltas.forEach((postId, delta) -> {
+						ops.opsForValue().increment(viewsKey(postId), delta);
+						ops.opsForSet().add(DIRTY_SET_KEY, String.valueOf(postId));
+						postLeaderboard.record(ops, PostLeaderboard.Metric.VIEWS, postId, delta, now);
+					});
+					return null;
+				}
+			});
+		} catch (DataAccessException e) {
+			// 반영 실패 시 다음 주기에 재시도하도록 증가분 복원
+			viewCountBuffer.restore(deltas);
+			log.error("조회수 버퍼 반영 실패 - 게시물 수: {}", deltas.size(), e);
+		}
+	}
+
+	/**
+	 * Redis에 누적된 증가분을 posts 테이블에 일괄 반영
+	 */
+	@Scheduled(fixedDelayString = "${blog.counter.reconcile-interval-ms:30000}")
+	public void reconcile() {
+		String lockToken = UUID.randomUUID().toString();
+		Boolean locked = redisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, lockToken, RECONCILE_LOCK_TTL);
+		if (!Boolean.TRUE.equals(locked)) {
+			return;
+		}
+
+		try {
+			List<String> postIds = claimBatch();
+			if (postIds.isEmpty()) {
+				return;
+			}
+
+			List<?> values = redisTemplate.execute(CLAIM_SCRIPT, claimKeys(postIds), postIds.toArray());
+			Map<Long, Long> viewDeltas = new HashMap<>();
+			Map<Long, Long> likeDeltas = new HashMap<>();
+			for (int i = 0; i < postIds.size(); i++) {
+				Long postId = Long.valueOf(postIds.get(i));
+				long views = parseLong(values.get(i * 2));
+				long likes = parseLong(values.get(i * 2 + 1));
+				if (views != 0) viewDeltas.put(postId, views);
+				if (likes != 0) likeDeltas.put(postId, likes);
+			}
+
+			// 실패하면 처리 중 값이 그대로 남아 다음 실행에서 다시 반영됨
+			List<Object[]> persisted = transactionTemplate.execute(status -> {
+				viewDeltas.forEach(postRepository::incrementViewCount);
+				likeDeltas.forEach(postRepository::incrementLikeCount);
+				return postRepository.findCountersByIdIn(
+					postIds.stream().map(Long::valueOf).collect(Collectors.toList()));
+			});
+
+			redisTemplate.execute(COMMIT_SCRIPT, commitKeys(postIds), commitArgs(postIds, persisted));
+			log.debug("게시물 카운터 반영 완료 - 게시물 수: {}", postIds.size());
+		} catch (Exception e) {
+			log.error("게시물 카운터 반영 실패 - 처리 중 값은 다음 주기에 다시 반영합니다", e);
+		} finally {
+			redisTemplate.execute(LOCK_RELEASE_SCRIPT, List.of(RECONCILE_LOCK_KEY), lockToken);
+		}
+	}
+
+	// 이전 실행이 남긴 처리 중 게시물을 먼저, 남는 자리만큼 새로 변경된 게시물을 가져옴
+	private List<String> claimBatch() {
+		Set<String> postIds = new LinkedHashSet<>();
+		Set<String> inflight = redisTemplate.opsForSet().members(INFLIGHT_SET_KEY);
+		if (inflight != null) {
+			postIds.addAll(inflight);
+		}
+		if (postIds.size() < RECONCILE_BATCH_SIZE) {
+			List<String> dirty = redisTemplate.opsForSet().pop(DIRTY_SET_KEY, RECONCILE_BATCH_SIZE - postIds.size());
+			if (dirty != null) {
+				postIds.addAll(dirty);
+			}
+		}
+		return new ArrayList<>(postIds);
+	}
+
+	// 스크립트가 건드리는 키는 모두 KEYS로 전달 (클러스터 슬롯 라우팅)
+	private List<String> claimKeys(List<String> postIds) {
+		List<String> keys = new ArrayList<>(postIds.size() * 4 + 1);
+		keys.add(INFLIGHT_SET_KEY);
+		for (String postId : postIds) {
+			Long id = Long.valueOf(postId);
+			keys.add(viewsKey(id));
+			keys.add(viewsKey(id) + INFLIGHT_SUFFIX);
+			keys.add(likesKey(id));
+			keys.add(likesKey(id) + INFLIGHT_SUFFIX);
+		}
+		return keys;
+	}
+
+	private List<String> commitKeys(List<String> postIds) {
+		List<String> keys = new ArrayList<>(postIds.size() * 4 + 1);
+		keys.add(INFLIGHT_SET_KEY);
+		for (String postId : postIds) {
+			Long id = Long.valueOf(postId);
+			keys.add(viewsKey(id) + PERSISTED_SUFFIX);
+			keys.add(likesKey(id) + PERSISTED_SUFFIX);
+			keys.add(viewsKey(id) + INFLIGHT_SUFFIX);
+			keys.add(likesKey(id) + INFLIGHT_SUFFIX);
+		}
+		return keys;
+	}
+
+	private Object[] commitArgs(List<String> postIds, List<Object[]> persisted) {
+		Map<String, Object[]> countersById = new HashMap<>();
+		if (persisted != null) {
+			for (Object[] row : persisted) {
+				countersById.put(String.valueOf(row[0]), row);
+			}
+		}
+
+		List<String> args = new ArrayList<>(postIds.size() * 3 + 1);
+		args.add(String.valueOf(PERSISTED_COPY_TTL.toSeconds()));
+		for (String postId : postIds) {
+			Object[] row = countersById.get(postId);
+			args.add(postId);
+			args.add(row != null ? String.valueOf(row[1]) : "-1");
+			args.add(row != null ? String.valueOf(row[2]) : "-1");
+		}
+		return args.toArray();
+	}
+
+	/**
+	 * 종료 시 로컬 버퍼에 남은 조회수 반영
+	 */
+	@PreDestroy
+	public void drain() {
+		flushViewBuffer();
+	}
+
+	private String viewsKey(Long postId) {
+		return POST_KEY_PREFIX + postId + VIEWS_SUFFIX;
+	}
+
+	private String likesKey(Long postId) {
+		return POST_KEY_PREFIX + postId + LIKES_SUFFIX;
+	}
+
+	private long parseLong(Object value) {
+		return value != null ? Long.parseLong(value.toString()) : 0;
+	}
+
+	/**
+	 * 게시물 카운터 값
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class PostCounts {
+		private final int viewCount;
+		private final int likeCount;
+	}
+}
@@ -0,0 +1,275 @@
+package com.blog.service;
+
+import com.blog.entity.OutboxEvent;
+import com.blog.outbox.OutboxEventHandler;
+import com.blog.outbox.OutboxEventType;
+import com.blog.outbox.OutboxPayload;
+import com.blog.repository.PostRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis ZSET 기반 인기 게시물 리더보드
+ *
+ * 조회수 증가분을 전체 기간 ZSET과 시간/일 단위 버킷 ZSET에 ZINCRBY로 누적합니다.
+ * 24시간/7일 순위는 버킷들을 ZUNIONSTORE로 합친 결과를 짧게 캐시해 두고 읽습니다.
+ * 현재 버킷은 진행 중이므로 직전의 완전한 버킷 24개(시간)/7개(일)를 더해, 기간 순위는 최소 24시간/7일
+ * (최대 25시간/8일)을 덮습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLeaderboard implements OutboxEventHandler {
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final PostRepository postRepository;
+
+	private static final String KEY_PREFIX = "leaderboard:";
+	private static final String SEEDED_KEY = KEY_PREFIX + "seeded";
+	// 초기화 중인 노드의 잠금 (실패하거나 노드가 죽어도 TTL 후 다른 노드가 이어서 초기화)
+	static final String SEED_LOCK_KEY = KEY_PREFIX + "seed-lock";
+	// 마지막으로 반영한 게시물 ID - 재시도 시 이미 더한 배치를 다시 더하지 않도록 배치와 함께 원자적으로 기록
+	static final String SEED_PROGRESS_KEY = KEY_PREFIX + "seed-progress";
+	private static final Duration SEED_LOCK_TTL = Duration.ofMinutes(30);
+	private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+	private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+	private static final Duration HOUR_BUCKET_TTL = Duration.ofHours(25);
+	private static final Duration DAY_BUCKET_TTL = Duration.ofDays(8);
+	// 기간 합산 결과 캐시 시간
+	private static final Duration UNION_TTL = Duration.ofSeconds(60);
+	private static final int SEED_BATCH_SIZE = 1000;
+	private static final int WINDOW_HOURS = 24;
+	private static final int WINDOW_DAYS = 7;
+	// 걸러지는 게시물을 감안해 한 번에 읽는 배수와, 채우기 위해 순위를 내려가는 최대 횟수
+	private static final int OVERFETCH_FACTOR = 2;
+	private static final int MAX_FETCH_ROUNDS = 5;
+
+	/**
+	 * 집계 지표
+	 * 좋아요는 사용자별 좋아요 기록과 증가 경로가 없어 집계하지 않습니다 (생기면 지표를 추가하고 같은 파이프라인에서 기록).
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	public enum Metric {
+		VIEWS("views");
+
+		private final String key;
+	}
+
+	/**
+	 * 집계 기간
+	 */
+	@Getter
+	@RequiredArgsConstructor
+	public enum Window {
+		DAY("24h"),
+		WEEK("7d"),
+		ALL("all");
+
+		private final String value;
+
+		public static Window from(String value) {
+			for (Window window : values()) {
+				if (window.value.equalsIgnoreCase(value)) {
+					return window;
+				}
+			}
+			throw new IllegalArgumentException("지원하지 않는 집계 기간입니다: " + value);
+		}
+	}
+
+	/**
+	 * 증가분 기록 (호출하는 쪽의 파이프라인 안에서 실행)
+	 * @param ops 파이프라인 연산
+	 * @param metric 지표
+	 * @param postId 게시물 ID
+	 * @param delta 증가분
+	 * @param nowMillis 기록 시각
+	 */
+	public void record(RedisOperations<String, String> ops, Metric metric, Long postId, long delta, long nowMillis) {
+		String member = String.valueOf(postId);
+		String hourKey = hourBucketKey(metric, nowMillis / HOUR_MILLIS);
+		String dayKey = dayBucketKey(metric, nowMillis / DAY_MILLIS);
+
+		ops.opsForZSet().incrementScore(allTimeKey(metric), member, delta);
+		ops.opsForZSet().incrementScore(hourKey, member, delta);
+		ops.expire(hourKey, HOUR_BUCKET_TTL);
+		ops.opsForZSet().incrementScore(dayKey, member, delta);
+		ops.expire(dayKey, DAY_BUCKET_TTL);
+	}
+
+	/**
+	 * 상위 게시물 조회 (ZREVRANGE)
+	 * 순위에는 비공개로 바뀌었거나 삭제된 게시물이 남아 있을 수 있으므로, limit보다 넉넉히 읽어
+	 * loader가 걸러낸 뒤에도 모자라면 순위를 더 내려가며 채웁니다.
+	 * @param metric 지표
+	 * @param window 기간
+	 * @param limit 개수
+	 * @param loader 순위 순 게시물 ID를 받아 노출할 수 있는 항목만 같은 순서로 반환
+	 * @return 점수 내림차순 항목 (순위가 끝나면 limit보다 적을 수 있음)
+	 */
+	public <T> List<T> top(Metric metric, Window window, int limit, Function<List<Long>, List<T>> loader) {
+		String key = window == Window.ALL ? allTimeKey(metric) : unionKey(metric, window);
+		int fetchSize = limit * OVERFETCH_FACTOR;
+		List<T> result = new ArrayList<>(limit);
+		long start = 0;
+		for (int round = 0; round < MAX_FETCH_ROUNDS && result.size() < limit; round++) {
+			Set<String> members = redisTemplate.opsForZSet().reverseRange(key, start, start + fetchSize - 1);
+			if (members == null || members.isEmpty()) {
+				break;
+			}
+			List<Long> postIds = members.stream().map(Long::valueOf).collect(Collectors.toList());
+			for (T item : loader.apply(postIds)) {
+				if (result.size() == limit) {
+					break;
+				}
+				result.add(item);
+			}
+			if (members.size() < fetchSize) {
+				break;
+			}
+			start += fetchSize;
+		}
+		return result;
+	}
+
+	private String unionKey(Metric metric, Window window) {
+		String key = KEY_PREFIX + metric.getKey() + ":" + window.getValue();
+		if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+			return key;
+		}
+
+		long now = System.currentTimeMillis();
+		List<String> buckets = new ArrayList<>();
+		// 진행 중인 현재 버킷 + 직전의 완전한 버킷 N개 (버킷 TTL은 가장 오래된 버킷보다 길게 잡혀 있음)
+		if (window == Window.DAY) {
+			long currentHour = now / HOUR_MILLIS;
+			for (int i = 0; i <= WINDOW_HOURS; i++) {
+				buckets.add(hourBucketKey(metric, currentHour - i));
+			}
+		} else {
+			long currentDay = now / DAY_MILLIS;
+			for (int i = 0; i <= WINDOW_DAYS; i++) {
+				buckets.add(dayBucketKey(metric, currentDay - i));
+			}
+		}
+
+		// 동시에 여러 요청이 다시 계산해도 결과는 같으므로 별도 잠금 없이 덮어씀
+		redisTemplate.opsForZSet().unionAndStore(buckets.get(0), buckets.subList(1, buckets.size()), key);
+		redisTemplate.expire(key, UNION_TTL);
+		return key;
+	}
+
+	@Override
+	public boolean supports(String eventType) {
+		return OutboxEventType.POST_DELETED.equals(eventType);
+	}
+
+	@Override
+	public void handle(OutboxEvent event, OutboxPayload payload) {
+		String member = String.valueOf(event.getAggregateId());
+		redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+				for (Metric metric : Metric.values()) {
+					ops.opsForZSet().remove(allTimeKey(metric), member);
+				}
+				return null;
+			}
+		});
+		// 기간 버킷은 TTL로 사라지며, 조회 시 삭제된 게시물은 DB 조회 단계에서 걸러짐
+	}
+
+	/**
+	 * 최초 기동 시 DB에 반영된 카운터로 전체 기간 리더보드 초기화 (클러스터에서 한 번만)
+	 * 완료 표시는 모든 배치를 반영한 뒤에만 남기므로, 도중에 실패하면 다음 기동 때 이어서 초기화합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void seedOnStartup() {
+		try {
+			if (Boolean.TRUE.equals(redisTemplate.hasKey(SEEDED_KEY))) {
+				return;
+			}
+			String token = UUID.randomUUID().toString();
+			if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(SEED_LOCK_KEY, token, SEED_LOCK_TTL))) {
+				return;
+			}
+			try {
+				seedAllTime();
+				redisTemplate.opsForValue().set(SEEDED_KEY, "1");
+				redisTemplate.delete(SEED_PROGRESS_KEY);
+			} finally {
+				if (token.equals(redisTemplate.opsForValue().get(SEED_LOCK_KEY))) {
+					redisTemplate.delete(SEED_LOCK_KEY);
+				}
+			}
+		} catch (Exception e) {
+			log.error("리더보드 초기화 실패: {}", e.getMessage(), e);
+		}
+	}
+
+	private void seedAllTime() {
+		String progress = redisTemplate.opsForValue().get(SEED_PROGRESS_KEY);
+		long lastId = progress != null ? Long.parseLong(progress) : 0;
+		int seeded = 0;
+
+		while (true) {
+			List<Object[]> rows = postRepository.findPublishedCountersAfter(lastId, PageRequest.of(0, SEED_BATCH_SIZE));
+			if (rows.isEmpty()) {
+				break;
+			}
+
+			redisTemplate.executePipelined(new SessionCallback<Object>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				public <K, V> Object execute(RedisOperations<K, V> operations) {
+					RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+					// 배치와 진행 위치를 MULTI/EXEC로 함께 반영 - 일부만 더해진 채로 재시도되지 않음
+					ops.multi();
+					for (Object[] row : rows) {
+						String member = String.valueOf(row[0]);
+						ops.opsForZSet().incrementScore(allTimeKey(Metric.VIEWS), member, ((Number) row[1]).doubleValue());
+					}
+					ops.opsForValue().set(SEED_PROGRESS_KEY, String.valueOf(rows.get(rows.size() - 1)[0]));
+					ops.exec();
+					return null;
+				}
+			});
+			seeded += rows.size();
+			lastId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+		}
+
+		log.info("리더보드 초기화 완료 - 게시물 수: {}", seeded);
+	}
+
+	private String allTimeKey(Metric metric) {
+		return KEY_PREFIX + metric.getKey() + ":all";
+	}
+
+	private String hourBucketKey(Metric metric, long epochHour) {
+		return KEY_PREFIX + metric.getKey() + ":h:" + epochHour;
+	}
+
+	private String dayBucketKey(Metric metric, long epochDay) {
+		return KEY_PREFIX + metric.getKey() + ":d:" + epochDay;
+	}
+}
@@ -0,0 +1,98 @@
+package com.blog.service;
+
+import com.blog.dto.response.CategoryResponse;
+import com.blog.dto.response.PostListResponse;
+import com.blog.dto.response.TagResponse;
+import com.blog.dto.response.UserResponse;
+import com.blog.entity.Post;
+import com.blog.entity.Tag;
+import com.blog.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 게시물 목록 응답 조립기
+ *
+ * 작성자/카테고리는 목록 조회 시 fetch join(EntityGraph)으로 함께 가져오고,
+ * 태그는 페이지 단위 IN 쿼리로 한 번만 조회해 페이지 크기와 무관하게
+ * 일정한 쿼리 수로 {@link PostListResponse}를 만듭니다.
+ * 댓글 수는 posts.comment_count 컬럼 값을 그대로 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostListAssembler {
+
+	private final TagRepository tagRepository;
+	private final PostCounterService postCounterService;
+
+	public Page<PostListResponse> toListResponses(Page<Post> posts) {
+		return new PageImpl<>(toListResponses(posts.getContent()), posts.getPageable(), posts.getTotalElements());
+	}
+
+	public List<PostListResponse> toListResponses(List<Post> posts) {
+		if (posts.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		List<Long> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
+
+		// 태그: IN 쿼리 1회
+		Map<Long, List<TagResponse>> tagsByPostId = new HashMap<>();
+		for (Object[] row : tagRepository.findWithPostIdByPostIdIn(postIds)) {
+			Tag tag = (Tag) row[1];
+			tagsByPostId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(convertToTagResponse(tag));
+		}
+
+		// 조회수/좋아요: Redis multi-GET 1회
+		Map<Long, PostCounterService.PostCounts> counts = postCounterService.getCounts(posts);
+
+		return posts.stream()
+			.map(post -> convertToListResponse(
+				post,
+				tagsByPostId.getOrDefault(post.getId(), new ArrayList<>()),
+				counts.get(post.getId())))
+			.collect(Collectors.toList());
+	}
+
+	private PostListResponse convertToListResponse(Post post, List<TagResponse> tags,
+		PostCounterService.PostCounts counts) {
+		String contentPreview = post.getContent().length() > 200
+			? post.getContent().substring(0, 200) + "..."
+			: post.getContent();
+		return PostListResponse.builder()
+			.id(post.getId())
+			.title(post.getTitle())
+			.contentPreview(contentPreview)
+			.viewCount(counts.getViewCount())
+			.likeCount(counts.getLikeCount())
+			.author(UserResponse.fromEntity(post.getAuthor()))
+			.category(post.getCategory() != null ?
+				CategoryResponse.builder()
+					.id(post.getCategory().getId())
+					.name(post.getCategory().getName())
+					.description(post.getCategory().getDescription())
+					.createdAt(post.getCategory().getCreatedAt())
+					.build() : null)
+			.tags(tags)
+			.commentCount(post.getCommentCount())
+			.createdAt(post.getCreatedAt())
+			.build();
+	}
+
+	private TagResponse convertToTagResponse(Tag tag) {
+		return TagResponse.builder()
+			.id(tag.getId())
+			.name(tag.getName())
+			.description(tag.getDescription())
+			.createdAt(tag.getCreatedAt())
+			.build();
+	}
+}
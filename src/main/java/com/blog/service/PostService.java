@@ -1,5 +1,7 @@
 package com.blog.service;
 
+import com.blog.cache.CacheNames;
+import com.blog.dto.request.PageCursor;
 import com.blog.dto.request.PostCreateRequest;
 import com.blog.dto.request.PostSearchRequest;
 import com.blog.dto.request.PostUpdateRequest;
@@ -12,17 +14,29 @@ import com.blog.repository.CategoryRepository;
 import com.blog.repository.PostRepository;
 import com.blog.repository.TagRepository;
 import com.blog.repository.UserRepository;
+import com.blog.outbox.OutboxEventPublisher;
+import com.blog.outbox.OutboxEventType;
+import com.blog.search.PostSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,6 +48,16 @@ public class PostService {
 	private final CategoryRepository categoryRepository;
 	private final TagRepository tagRepository;
 	private final UserRepository userRepository;
+	private final PostViewCountBuffer viewCountBuffer;
+	private final PostCounterService postCounterService;
+	private final PostListAssembler postListAssembler;
+	private final PostSearchIndex postSearchIndex;
+	private final OutboxEventPublisher outboxEventPublisher;
+	private final CacheManager cacheManager;
+	private final PostLeaderboard postLeaderboard;
+	private final TagResolver tagResolver;
+
+	private static final String SORT_BY_RELEVANCE = "relevance";
 
 	@Transactional
 	public PostResponse createPost(PostCreateRequest request, String username) {
@@ -56,17 +80,14 @@ public class PostService {
 
 		// 태그 설정
 		if (request.getTagNames() != null && !request.getTagNames().isEmpty()) {
-			List<Tag> tags = new ArrayList<>();
-			for (String tagName : request.getTagNames()) {
-				Tag tag = tagRepository.findByName(tagName)
-					.orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build()));
-				tags.add(tag);
-			}
-			post.setTags(tags);
+			post.replaceTags(tagResolver.resolve(request.getTagNames()));
 		}
 
 		Post savedPost = postRepository.save(post);
-		return convertToPostResponse(savedPost);
+		adjustTagPostCounts(List.of(), tagIdsOf(savedPost));
+		touchTaxonomies(savedPost, null, List.of());
+		publishPostEvent(OutboxEventType.POST_CREATED, savedPost);
+		return withLiveCounts(convertToPostResponse(savedPost));
 	}
 
 	@Transactional
@@ -78,6 +99,9 @@ public class PostService {
 		if (!post.getAuthor().getId().equals(user.getId()) && !user.getRole().name().equals("ADMIN")) {
 			throw new SecurityException("게시물을 수정할 권한이 없습니다.");
 		}
+		// 이전 카테고리/태그의 상세 캐시도 무효화하기 위해 변경 전 값 보관
+		Long previousCategoryId = categoryIdOf(post);
+		List<Long> previousTagIds = tagIdsOf(post);
 		if (request.getTitle() != null) {
 			post.setTitle(request.getTitle());
 		}
@@ -90,17 +114,18 @@ public class PostService {
 			post.setCategory(category);
 		}
 		if (request.getTagNames() != null) {
-			List<Tag> tags = new ArrayList<>();
-			for (String tagName : request.getTagNames()) {
-				Tag tag = tagRepository.findByName(tagName)
-					.orElseGet(() -> tagRepository.save(Tag.builder().name(tagName).build()));
-				tags.add(tag);
-			}
-			post.setTags(tags);
+			post.replaceTags(tagResolver.resolve(request.getTagNames()));
 		}
 		post.setPublished(request.isPublished());
 		Post updatedPost = postRepository.save(post);
-		return convertToPostResponse(updatedPost);
+		adjustTagPostCounts(previousTagIds, tagIdsOf(updatedPost));
+		touchTaxonomies(updatedPost, previousCategoryId, previousTagIds);
+		Map<String, Object> payload = postEventPayload(updatedPost);
+		payload.put("previousCategoryId", previousCategoryId);
+		payload.put("previousTagIds", previousTagIds);
+		outboxEventPublisher.publish(OutboxEventType.AGGREGATE_POST, updatedPost.getId(),
+			OutboxEventType.POST_UPDATED, payload);
+		return withLiveCounts(convertToPostResponse(updatedPost));
 	}
 
 	@Transactional
@@ -112,52 +137,183 @@ public class PostService {
 		if (!post.getAuthor().getId().equals(user.getId()) && !user.getRole().name().equals("ADMIN")) {
 			throw new SecurityException("게시물을 삭제할 권한이 없습니다.");
 		}
+		publishPostEvent(OutboxEventType.POST_DELETED, post);
+		adjustTagPostCounts(tagIdsOf(post), List.of());
+		touchTaxonomies(post, null, List.of());
 		postRepository.delete(post);
 	}
 
-	public PostResponse getPost(Long postId, boolean incrementView) {
-		Post post = postRepository.findById(postId)
-			.orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
+	public VersionedResponse<PostResponse> getPost(Long postId, boolean incrementView) {
+		// 상세 응답은 2단계 캐시에서 조회하고, 조회수/좋아요는 매번 최신 카운터로 덮어씀
+		VersionedResponse<PostResponse> cached = cacheManager.getCache(CacheNames.POST_DETAIL)
+			.get(postId, () -> loadPost(postId));
 		if (incrementView) {
-			post.incrementViewCount();
-			postRepository.save(post);
+			viewCountBuffer.increment(postId);
 		}
-		return convertToPostResponse(post);
+		return cached.withBody(withLiveCounts(cached.getBody()));
+	}
+
+	// 본문과 검증자를 같은 트랜잭션에서 읽어 200 응답의 ETag가 본문과 일치하도록 함
+	private VersionedResponse<PostResponse> loadPost(Long postId) {
+		Post post = postRepository.findWithTagsById(postId)
+			.orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
+		ResourceVersion version = postRepository.findVersionById(postId)
+			.orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
+		return new VersionedResponse<>(convertToPostResponse(post), version);
 	}
 
 	public Page<PostListResponse> getPosts(int page, int size) {
 		Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 		Page<Post> posts = postRepository.findByIsPublishedTrue(pageable);
-		return posts.map(this::convertToListResponse);
+		return postListAssembler.toListResponses(posts);
+	}
+
+	/**
+	 * 공개 게시물 목록 커서 조회 (무한 스크롤용, 전체 개수 미포함)
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+	 * @param size 페이지 크기
+	 */
+	public CursorPageResponse<PostListResponse> scrollPosts(String cursor, int size) {
+		int pageSize = CursorPageResponse.normalizeSize(size);
+		PageCursor pageCursor = PageCursor.decode(cursor);
+		Pageable limit = PageRequest.of(0, pageSize + 1);
+		List<Post> posts = pageCursor == null
+			? postRepository.findPublishedFirst(limit)
+			: postRepository.findPublishedBefore(pageCursor.getCreatedAt(), pageCursor.getId(), limit);
+		return CursorPageResponse.of(posts, pageSize,
+			post -> new PageCursor(post.getCreatedAt(), post.getId()), postListAssembler::toListResponses);
+	}
+
+	/**
+	 * 조회수 기준 인기 게시물
+	 * @param window 집계 기간 (24h, 7d, all)
+	 * @param limit 개수
+	 */
+	public List<PostListResponse> getPopularPosts(String window, int limit) {
+		return getLeaderboard(PostLeaderboard.Metric.VIEWS, window, limit);
+	}
+
+	// 리더보드에서 순위대로 ID를 읽고 IN 쿼리로 공개 게시물만 조회 (걸러져 모자라면 순위를 더 내려가며 채움)
+	private List<PostListResponse> getLeaderboard(PostLeaderboard.Metric metric, String window, int limit) {
+		List<Post> posts = postLeaderboard.top(metric, PostLeaderboard.Window.from(window),
+			CursorPageResponse.normalizeSize(limit), postIds -> {
+				Map<Long, Post> postsById = postRepository.findByIdIn(postIds).stream()
+					.collect(Collectors.toMap(Post::getId, Function.identity()));
+				return postIds.stream()
+					.map(postsById::get)
+					.filter(Objects::nonNull)
+					.filter(Post::isPublished)
+					.collect(Collectors.toList());
+			});
+		return postListAssembler.toListResponses(posts);
 	}
 
 	public Page<PostListResponse> searchPosts(PostSearchRequest request) {
+		if (request.getKeyword() != null && !request.getKeyword().trim().isEmpty()) {
+			return searchPostsByKeyword(request);
+		}
 		Sort sort  = Sort.by(
 			request.getSortOrder().equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC,
 			request.getSortBy()
 		);
 		Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
 		Page<Post> posts;
-		if (request.getKeyword() != null && !request.getKeyword().trim().isEmpty()) {
-			if (request.getCategoryId() != null && request.getTagNames() != null && !request.getTagNames().isEmpty()) {
-				posts = postRepository.searchByTagsAndKeyword(request.getTagNames(), request.getKeyword(), pageable);
-			} else if (request.getCategoryId() != null) {
-				posts = postRepository.searchByCategoryAndKeyword(request.getCategoryId(), request.getKeyword(), pageable);
-			} else if (request.getTagNames() != null && !request.getTagNames().isEmpty()) {
-				posts = postRepository.findByTagNames(request.getTagNames(), pageable);
-			} else {
-				posts = postRepository.searchByKeyword(request.getKeyword(), pageable);
-			}
+		if (request.getCategoryId() != null) {
+			posts = postRepository.findByCategoryIdAndIsPublishedTrue(request.getCategoryId(), pageable);
+		} else if (request.getTagNames() != null && !request.getTagNames().isEmpty()) {
+			posts = postRepository.findByTagNames(request.getTagNames(), pageable);
 		} else {
-			if (request.getCategoryId() != null) {
-				posts = postRepository.findByCategoryIdAndIsPublishedTrue(request.getCategoryId(), pageable);
-			} else if (request.getTagNames() != null && !request.getTagNames().isEmpty()) {
-				posts = postRepository.findByTagNames(request.getTagNames(), pageable);
-			} else {
-				posts = postRepository.findByIsPublishedTrue(pageable);
-			}
+			posts = postRepository.findByIsPublishedTrue(pageable);
 		}
-		return posts.map(this::convertToListResponse);
+		return postListAssembler.toListResponses(posts);
+	}
+
+	// 검색 인덱스, 캐시 등 파생 저장소 갱신용 이벤트를 같은 트랜잭션에 기록
+	private void publishPostEvent(String eventType, Post post) {
+		outboxEventPublisher.publish(OutboxEventType.AGGREGATE_POST, post.getId(), eventType, postEventPayload(post));
+	}
+
+	private Map<String, Object> postEventPayload(Post post) {
+		Map<String, Object> payload = new HashMap<>();
+		payload.put("postId", post.getId());
+		payload.put("categoryId", categoryIdOf(post));
+		payload.put("tagIds", tagIdsOf(post));
+		return payload;
+	}
+
+	// 추가/제거된 태그의 tags.post_count 증감
+	private void adjustTagPostCounts(Collection<Long> previousTagIds, Collection<Long> currentTagIds) {
+		Set<Long> added = new HashSet<>(currentTagIds);
+		added.removeAll(previousTagIds);
+		Set<Long> removed = new HashSet<>(previousTagIds);
+		removed.removeAll(currentTagIds);
+		if (!added.isEmpty()) {
+			tagRepository.incrementPostCount(added, 1);
+		}
+		if (!removed.isEmpty()) {
+			tagRepository.incrementPostCount(removed, -1);
+		}
+	}
+
+	// 게시물의 현재/이전 카테고리와 태그의 posts_version 증가 (태그/카테고리 상세의 최근 게시물 검증자)
+	private void touchTaxonomies(Post post, Long previousCategoryId, Collection<Long> previousTagIds) {
+		LocalDateTime now = LocalDateTime.now();
+		Set<Long> categoryIds = new HashSet<>();
+		if (categoryIdOf(post) != null) {
+			categoryIds.add(categoryIdOf(post));
+		}
+		if (previousCategoryId != null) {
+			categoryIds.add(previousCategoryId);
+		}
+		if (!categoryIds.isEmpty()) {
+			categoryRepository.touchPosts(categoryIds, now);
+		}
+		Set<Long> tagIds = new HashSet<>(tagIdsOf(post));
+		tagIds.addAll(previousTagIds);
+		if (!tagIds.isEmpty()) {
+			tagRepository.touchPosts(tagIds, now);
+		}
+	}
+
+	private Long categoryIdOf(Post post) {
+		return post.getCategory() != null ? post.getCategory().getId() : null;
+	}
+
+	private List<Long> tagIdsOf(Post post) {
+		return post.getTags().stream().map(Tag::getId).collect(Collectors.toList());
+	}
+
+	// 키워드 검색은 검색 인덱스에서 ID를 찾은 뒤 DB에서 순서대로 조회
+	// 검색 인덱스에는 조회수/좋아요가 없으므로 작성일 또는 관련도 정렬만 허용
+	private Page<PostListResponse> searchPostsByKeyword(PostSearchRequest request) {
+		Sort sort;
+		if ("createdAt".equals(request.getSortBy())) {
+			sort = Sort.by(request.getSortOrder().equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC, "createdAt");
+		} else if (SORT_BY_RELEVANCE.equals(request.getSortBy())) {
+			sort = Sort.unsorted();
+		} else {
+			throw new IllegalArgumentException("키워드 검색은 createdAt, relevance 정렬만 지원합니다.");
+		}
+		Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
+		Page<Long> postIds = postSearchIndex.search(request, pageable);
+
+		Map<Long, Post> postsById = postRepository.findByIdIn(postIds.getContent()).stream()
+			.collect(Collectors.toMap(Post::getId, Function.identity()));
+		List<Post> posts = postIds.getContent().stream()
+			.map(postsById::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+		return new PageImpl<>(postListAssembler.toListResponses(posts), pageable, postIds.getTotalElements());
+	}
+
+	// 캐시된 응답은 공유 객체이므로 복사본에 최신 카운터를 반영
+	private PostResponse withLiveCounts(PostResponse response) {
+		PostCounterService.PostCounts counts = postCounterService.getCounts(
+			response.getId(), response.getViewCount(), response.getLikeCount());
+		return response.toBuilder()
+			.viewCount(counts.getViewCount())
+			.likeCount(counts.getLikeCount())
+			.build();
 	}
 
 	// DTO 변환 메서드 (실무에서 자주 사용)
@@ -184,41 +340,10 @@ public class PostService {
 					.createdAt(tag.getCreatedAt())
 					.build()
 			).collect(Collectors.toList()))
-			.commentCount(post.getComments() != null ? post.getComments().size() : 0)
+			.commentCount(post.getCommentCount())
 			.isPublished(post.isPublished())
 			.createdAt(post.getCreatedAt())
 			.updatedAt(post.getUpdatedAt())
 			.build();
 	}
-
-	private PostListResponse convertToListResponse(Post post) {
-		String contentPreview = post.getContent().length() > 200
-			? post.getContent().substring(0, 200) + "..."
-			: post.getContent();
-		return PostListResponse.builder()
-			.id(post.getId())
-			.title(post.getTitle())
-			.contentPreview(contentPreview)
-			.viewCount(post.getViewCount())
-			.likeCount(post.getLikeCount())
-			.author(UserResponse.fromEntity(post.getAuthor()))
-			.category(post.getCategory() != null ?
-				CategoryResponse.builder()
-					.id(post.getCategory().getId())
-					.name(post.getCategory().getName())
-					.description(post.getCategory().getDescription())
-					.createdAt(post.getCategory().getCreatedAt())
-					.build() : null)
-			.tags(post.getTags().stream().map(tag ->
-				TagResponse.builder()
-					.id(tag.getId())
-					.name(tag.getName())
-					.description(tag.getDescription())
-					.createdAt(tag.getCreatedAt())
-					.build()
-				).collect(Collectors.toList()))
-			.commentCount(post.getComments() != null ? post.getComments().size() : 0)
-			.createdAt(post.getCreatedAt())
-			.build();
-	}
 }
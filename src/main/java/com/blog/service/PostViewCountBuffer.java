@@ -0,0 +1,82 @@
+package com.blog.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시물 조회수 write-behind 버퍼
+ *
+ * 조회 요청마다 카운터 저장소를 호출하지 않고 게시물별 LongAdder에 증가분을 모아 두었다가
+ * {@link PostCounterService}가 주기적으로 가져가 한 번에 반영합니다.
+ */
+@Component
+public class PostViewCountBuffer {
+
+	private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+	/**
+	 * 조회수 증가분 적립
+	 * @param postId 게시물 ID
+	 */
+	public void increment(Long postId) {
+		add(postId, 1);
+	}
+
+	/**
+	 * 아직 반영되지 않은 조회수 증가분 조회
+	 * @param postId 게시물 ID
+	 * @return 반영 대기 중인 증가분
+	 */
+	public long getPendingDelta(Long postId) {
+		LongAdder adder = pendingViews.get(postId);
+		return adder != null ? adder.sum() : 0;
+	}
+
+	/**
+	 * 적립된 증가분을 꺼내고 버퍼를 비움
+	 * @return 게시물 ID별 증가분
+	 */
+	public Map<Long, Long> drain() {
+		Map<Long, Long> deltas = new HashMap<>();
+		for (Map.Entry<Long, LongAdder> entry : pendingViews.entrySet()) {
+			long delta = entry.getValue().sumThenReset();
+			if (delta == 0) {
+				// 한 주기 동안 조회가 없었던 게시물은 버퍼에서 제거
+				// (제거 직전에 들어온 증가분은 add()가 새 adder로 옮김)
+				if (entry.getValue().sum() == 0) {
+					pendingViews.remove(entry.getKey(), entry.getValue());
+				}
+				continue;
+			}
+			deltas.put(entry.getKey(), delta);
+		}
+		return deltas;
+	}
+
+	/**
+	 * 반영에 실패한 증가분을 버퍼에 되돌림
+	 * @param deltas 게시물 ID별 증가분
+	 */
+	public void restore(Map<Long, Long> deltas) {
+		deltas.forEach(this::add);
+	}
+
+	/**
+	 * 증가분 적립 - drain()이 빈 adder를 제거하는 것과 경합해 제거된 adder에 더했다면
+	 * 그 증가분을 다시 꺼내 현재 adder로 옮깁니다. drain()이 이미 가져간 증가분은 0으로 남으므로 중복되지 않습니다.
+	 */
+	private void add(Long postId, long delta) {
+		while (delta != 0) {
+			LongAdder adder = pendingViews.computeIfAbsent(postId, id -> new LongAdder());
+			adder.add(delta);
+			if (pendingViews.get(postId) == adder) {
+				return;
+			}
+			delta = adder.sumThenReset();
+		}
+	}
+}
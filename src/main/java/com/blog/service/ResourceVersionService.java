@@ -0,0 +1,110 @@
+package com.blog.service;
+
+import com.blog.cache.CacheInvalidationPublisher;
+import com.blog.cache.CacheNames;
+import com.blog.dto.response.ResourceVersion;
+import com.blog.repository.CategoryRepository;
+import com.blog.repository.PostRepository;
+import com.blog.repository.TagRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 게시물/태그/카테고리 상세의 조건부 조회(If-None-Match, If-Modified-Since) 검증자 조회
+ *
+ * 컬럼 몇 개만 읽는 프로젝션 쿼리 결과를 짧은 TTL로 로컬 캐시해, 자주 읽히는 리소스의
+ * 재검증 요청은 DB와 상세 캐시를 거치지 않고 304로 응답할 수 있게 합니다.
+ * 수정/삭제 시 이 노드에서 즉시 제거하고, 캐시 무효화 채널({@link CacheInvalidationPublisher#CHANNEL})로
+ * 다른 노드에도 알립니다 (메시지: "resourceVersion:{post|tag|category}:{id}").
+ * 메시지가 유실되어도 TTL 이내에 따라옵니다.
+ */
+@Service
+public class ResourceVersionService implements MessageListener {
+
+	private static final String MESSAGE_PREFIX = CacheNames.RESOURCE_VERSION + ":";
+
+	private static final String POST = "post:";
+	private static final String TAG = "tag:";
+	private static final String CATEGORY = "category:";
+
+	private final PostRepository postRepository;
+	private final TagRepository tagRepository;
+	private final CategoryRepository categoryRepository;
+	private final CacheInvalidationPublisher invalidationPublisher;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final Cache<String, ResourceVersion> versions;
+
+	public ResourceVersionService(PostRepository postRepository, TagRepository tagRepository,
+		CategoryRepository categoryRepository, CacheInvalidationPublisher invalidationPublisher,
+		RedisMessageListenerContainer listenerContainer,
+		@Value("${blog.http.validator-cache.max-size:10000}") long maxSize,
+		@Value("${blog.http.validator-cache.ttl:PT5S}") Duration ttl) {
+		this.postRepository = postRepository;
+		this.tagRepository = tagRepository;
+		this.categoryRepository = categoryRepository;
+		this.invalidationPublisher = invalidationPublisher;
+		this.listenerContainer = listenerContainer;
+		this.versions = Caffeine.newBuilder()
+			.maximumSize(maxSize)
+			.expireAfterWrite(ttl)
+			.build();
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+	}
+
+	public ResourceVersion getPostVersion(Long postId) {
+		return versions.get(POST + postId, key -> postRepository.findVersionById(postId)
+			.orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다.")));
+	}
+
+	public ResourceVersion getTagVersion(Long tagId) {
+		return versions.get(TAG + tagId, key -> tagRepository.findVersionById(tagId)
+			.orElseThrow(() -> new IllegalArgumentException("태그를 찾을 수 없습니다.")));
+	}
+
+	public ResourceVersion getCategoryVersion(Long categoryId) {
+		return versions.get(CATEGORY + categoryId, key -> categoryRepository.findVersionById(categoryId)
+			.orElseThrow(() -> new IllegalArgumentException("카테고리를 찾을 수 없습니다.")));
+	}
+
+	public void evictPost(Long postId) {
+		evict(POST + postId);
+	}
+
+	public void evictTag(Long tagId) {
+		evict(TAG + tagId);
+	}
+
+	public void evictCategory(Long categoryId) {
+		evict(CATEGORY + categoryId);
+	}
+
+	/**
+	 * 다른 노드가 보낸 무효화 메시지 반영 (다른 캐시의 메시지는 무시)
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		if (body.startsWith(MESSAGE_PREFIX)) {
+			versions.invalidate(body.substring(MESSAGE_PREFIX.length()));
+		}
+	}
+
+	private void evict(String key) {
+		versions.invalidate(key);
+		invalidationPublisher.publish(CacheNames.RESOURCE_VERSION, key);
+	}
+}
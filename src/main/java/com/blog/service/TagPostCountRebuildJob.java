@@ -0,0 +1,59 @@
+package com.blog.service;
+
+import com.blog.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * tags.post_count 재계산 작업
+ *
+ * 게시물 태그 변경 시 증감으로 유지되는 post_count가 post_tags와 어긋난 경우를 대비해
+ * 태그 ID 배치마다 UPDATE 한 번으로 다시 맞춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagPostCountRebuildJob {
+
+	private final TagRepository tagRepository;
+
+	private static final int BATCH_SIZE = 500;
+
+	// post_count 컬럼을 처음 추가한 배포에서 기존 태그 값(0)을 채우기 위해 기본 활성화
+	// (태그 ID 배치 UPDATE라 이후 기동에서도 부담이 작음)
+	@Value("${blog.tag-post-count.rebuild-on-startup:true}")
+	private boolean rebuildOnStartup;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildOnStartup() {
+		if (rebuildOnStartup) {
+			rebuild();
+		}
+	}
+
+	@Scheduled(cron = "${blog.tag-post-count.rebuild-cron:0 30 4 * * *}")
+	public void rebuild() {
+		long lastId = 0;
+		int updated = 0;
+
+		while (true) {
+			List<Long> tagIds = tagRepository.findIdsAfter(lastId, PageRequest.of(0, BATCH_SIZE));
+			if (tagIds.isEmpty()) {
+				break;
+			}
+
+			updated += tagRepository.rebuildPostCount(tagIds);
+			lastId = tagIds.get(tagIds.size() - 1);
+		}
+
+		log.info("태그 게시물 수 재계산 완료 - 갱신된 태그 수: {}", updated);
+	}
+}
@@ -0,0 +1,155 @@
+package com.blog.service;
+
+import com.blog.entity.Tag;
+import com.blog.repository.TagRepository;
+import com.blog.search.TagAutocompleteIndexer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 태그명 → 태그 일괄 변환 (없으면 생성)
+ *
+ * 자주 쓰는 태그는 로컬 이름 → ID 캐시에서 찾아 쿼리 없이 참조(프록시)만 만들고,
+ * 나머지는 IN 조회 1회, 없는 이름은 다중 행 INSERT(중복 이름은 건너뜀) 1회 후 다시 IN 조회 1회로 처리합니다.
+ * 이름 길이(20자 이하)는 조회 전에 모두 검증하므로 DB가 이름을 잘라 저장한 뒤 재조회에서 찾지 못하는 일이 없고,
+ * 허용 문자(영문/숫자/한글/언더스코어)는 새로 만들 이름에만 태그 생성 요청과 같은 규칙으로 검증합니다.
+ * 규칙 도입 전에 게시물로 만들어진 태그(spring-boot, Node.js 등)는 그대로 계속 달 수 있습니다.
+ * 다른 트랜잭션이 같은 이름을 먼저 커밋했다면 INSERT가 아무 행도 만들지 않고,
+ * REPEATABLE READ 스냅샷으로는 그 행이 보이지 않으므로 재조회는 잠금 조회로 최신 값을 읽습니다.
+ * 태그 수정/삭제 시에는 태그 자동완성 채널 메시지로 모든 노드의 캐시 항목을 제거합니다.
+ */
+@Slf4j
+@Component
+public class TagResolver implements MessageListener {
+
+	private final TagRepository tagRepository;
+	private final TagAutocompleteIndexer tagAutocompleteIndexer;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final Cache<String, Long> idsByName;
+
+	static final int MAX_NAME_LENGTH = 20;
+	private static final Pattern NAME_PATTERN = Pattern.compile("^[a-zA-Z0-9가-힣_]+$");
+
+	public TagResolver(TagRepository tagRepository, TagAutocompleteIndexer tagAutocompleteIndexer,
+		RedisMessageListenerContainer listenerContainer,
+		@Value("${blog.tag-resolver.cache-max-size:10000}") long cacheMaxSize,
+		@Value("${blog.tag-resolver.cache-ttl:PT30M}") Duration cacheTtl) {
+		this.tagRepository = tagRepository;
+		this.tagAutocompleteIndexer = tagAutocompleteIndexer;
+		this.listenerContainer = listenerContainer;
+		this.idsByName = Caffeine.newBuilder()
+			.maximumSize(cacheMaxSize)
+			.expireAfterWrite(cacheTtl)
+			.build();
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(this, new ChannelTopic(TagAutocompleteIndexer.CHANNEL));
+	}
+
+	/**
+	 * 태그명 목록을 태그로 변환 (중복 이름은 한 번만, 입력 순서 유지)
+	 * @param tagNames 태그명 목록
+	 * @return 태그 목록
+	 */
+	public List<Tag> resolve(List<String> tagNames) {
+		Set<String> names = new LinkedHashSet<>(tagNames);
+		names.forEach(TagResolver::validateLength);
+		Map<String, Tag> tagsByName = new HashMap<>();
+
+		// 1. 로컬 캐시 - 쿼리 없이 참조만 생성
+		List<String> uncached = new ArrayList<>();
+		for (String name : names) {
+			Long id = idsByName.getIfPresent(name);
+			if (id != null) {
+				tagsByName.put(name, tagRepository.getReferenceById(id));
+			} else {
+				uncached.add(name);
+			}
+		}
+
+		if (!uncached.isEmpty()) {
+			// 2. 기존 태그 IN 조회
+			collect(tagRepository.findByNameIn(uncached), tagsByName);
+
+			// 3. 없는 이름은 다중 행 INSERT(중복 이름은 건너뜀) 후 잠금 조회로 다시 조회
+			List<String> missing = uncached.stream().filter(name -> !tagsByName.containsKey(name))
+				.collect(Collectors.toList());
+			if (!missing.isEmpty()) {
+				missing.forEach(TagResolver::validateNewName);
+				tagRepository.insertMissingByNames(missing);
+				List<Tag> created = tagRepository.findLockedByNameIn(missing);
+				collect(created, tagsByName);
+				created.forEach(tag -> tagAutocompleteIndexer.tagChanged(tag.getId()));
+			}
+		}
+
+		List<Tag> tags = new ArrayList<>(names.size());
+		for (String name : names) {
+			Tag tag = tagsByName.get(name);
+			if (tag == null) {
+				throw new IllegalStateException("태그를 생성하지 못했습니다: " + name);
+			}
+			tags.add(tag);
+		}
+		return tags;
+	}
+
+	/**
+	 * 태그 ID의 캐시 항목 제거 (이 노드만)
+	 */
+	public void evict(Long tagId) {
+		idsByName.asMap().values().removeIf(tagId::equals);
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		// "upsert:{id}" 또는 "delete:{id}" - 이름 변경/삭제 모두 해당 ID 항목을 제거
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separator = body.indexOf(':');
+		try {
+			evict(Long.valueOf(body.substring(separator + 1)));
+		} catch (NumberFormatException e) {
+			log.warn("태그 캐시 무효화 메시지 형식 오류 - 메시지: {}", body);
+		}
+	}
+
+	private static void validateLength(String name) {
+		if (name == null || name.isEmpty() || name.length() > MAX_NAME_LENGTH) {
+			throw new IllegalArgumentException("태그명은 1자 이상 " + MAX_NAME_LENGTH + "자 이하여야 합니다.");
+		}
+	}
+
+	private static void validateNewName(String name) {
+		if (!NAME_PATTERN.matcher(name).matches()) {
+			throw new IllegalArgumentException("태그명은 영문, 숫자, 한글, 언더스코어(`_`)만 사용 가능합니다: " + name);
+		}
+	}
+
+	private void collect(List<Tag> tags, Map<String, Tag> tagsByName) {
+		for (Tag tag : tags) {
+			tagsByName.put(tag.getName(), tag);
+			idsByName.put(tag.getName(), tag.getId());
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package com.blog.service;
 
+import com.blog.cache.CacheNames;
+import com.blog.dto.request.PageCursor;
 import com.blog.dto.request.TagCreateRequest;
 import com.blog.dto.request.TagUpdateRequest;
 import com.blog.dto.response.*;
@@ -7,16 +9,23 @@ import com.blog.entity.Post;
 import com.blog.entity.Tag;
 import com.blog.repository.PostRepository;
 import com.blog.repository.TagRepository;
+import com.blog.outbox.OutboxEventPublisher;
+import com.blog.outbox.OutboxEventType;
+import com.blog.search.TagAutocompleteIndexer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,6 +36,14 @@ public class TagService {
 
 	private final TagRepository tagRepository;
 	private final PostRepository postRepository;
+	private final PostListAssembler postListAssembler;
+	private final CacheManager cacheManager;
+	private final TagAutocompleteIndexer tagAutocompleteIndexer;
+	private final TagResolver tagResolver;
+	private final ResourceVersionService resourceVersionService;
+	private final OutboxEventPublisher outboxEventPublisher;
+
+	private static final int RECENT_POST_COUNT = 5;
 
 	@Transactional
 	public TagResponse createTag(TagCreateRequest request) {
@@ -38,6 +55,7 @@ public class TagService {
 			.description(request.getDescription())
 			.build();
 		Tag saved = tagRepository.save(tag);
+		tagAutocompleteIndexer.tagChanged(saved.getId());
 		return convertToResponse(saved);
 	}
 
@@ -47,14 +65,25 @@ public class TagService {
 			.orElseThrow(() -> new IllegalArgumentException("태그를 찾을 수 없습니다."));
 		if (request.getName() != null) tag.setName(request.getName());
 		if (request.getDescription() != null) tag.setDescription(request.getDescription());
-		return convertToResponse(tagRepository.save(tag));
+		Tag saved = tagRepository.save(tag);
+		cacheManager.getCache(CacheNames.TAG_DETAIL).evict(tagId);
+		tagAutocompleteIndexer.tagChanged(tagId);
+		tagResolver.evict(tagId);
+		resourceVersionService.evictTag(tagId);
+		publishTagEvent(OutboxEventType.TAG_UPDATED, tagId);
+		return convertToResponse(saved);
 	}
 
 	@Transactional
 	public void deleteTag(Long tagId) {
 		Tag tag = tagRepository.findById(tagId)
 			.orElseThrow(() -> new IllegalArgumentException("태그를 찾을 수 없습니다."));
+		publishTagEvent(OutboxEventType.TAG_DELETED, tagId);
 		tagRepository.delete(tag);
+		cacheManager.getCache(CacheNames.TAG_DETAIL).evict(tagId);
+		tagAutocompleteIndexer.tagDeleted(tagId);
+		tagResolver.evict(tagId);
+		resourceVersionService.evictTag(tagId);
 	}
 
 	public List<TagListResponse> getAllTags() {
@@ -64,21 +93,54 @@ public class TagService {
 			.collect(Collectors.toList());
 	}
 
-	public TagDetailResponse getTagDetail(Long tagId) {
+	public VersionedResponse<TagDetailResponse> getTagDetail(Long tagId) {
+		// 조립된 상세 응답은 2단계 캐시에 보관하고 게시물 변경 시 무효화
+		return cacheManager.getCache(CacheNames.TAG_DETAIL).get(tagId, () -> loadTagDetail(tagId));
+	}
+
+	// 본문과 검증자를 같은 트랜잭션에서 읽어 200 응답의 ETag가 본문과 일치하도록 함
+	private VersionedResponse<TagDetailResponse> loadTagDetail(Long tagId) {
 		Tag tag = tagRepository.findById(tagId)
 			.orElseThrow(() -> new IllegalArgumentException("태그를 찾을 수 없습니다."));
-		List<Post> recentPosts = postRepository.findRecentPosts(
-			PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"))
-		);
-		return TagDetailResponse.builder()
+
+		// 태그의 최근 게시물 ID를 인덱스로 읽은 뒤 IN 쿼리 1회로 조회
+		List<Long> recentPostIds = postRepository.findRecentIdsByTagId(tagId, PageRequest.of(0, RECENT_POST_COUNT));
+		Map<Long, Post> postsById = postRepository.findByIdIn(recentPostIds).stream()
+			.collect(Collectors.toMap(Post::getId, Function.identity()));
+		List<Post> recentPosts = recentPostIds.stream()
+			.map(postsById::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+
+		ResourceVersion version = tagRepository.findVersionById(tagId)
+			.orElseThrow(() -> new IllegalArgumentException("태그를 찾을 수 없습니다."));
+
+		return new VersionedResponse<>(TagDetailResponse.builder()
 			.id(tag.getId())
 			.name(tag.getName())
 			.description(tag.getDescription())
-			.postCount(tag.getPosts() != null ? tag.getPosts().size() : 0)
-			.recentPosts(recentPosts.stream().map(this::convertToPostListResponse).collect(Collectors.toList()))
+			.postCount(tag.getPostCount())
+			.recentPosts(postListAssembler.toListResponses(recentPosts))
 			.createdAt(tag.getCreatedAt())
 			.updatedAt(tag.getUpdatedAt())
-			.build();
+			.build(), version);
+	}
+
+	/**
+	 * 태그별 공개 게시물 커서 조회
+	 * @param tagId 태그 ID
+	 * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+	 * @param size 페이지 크기
+	 */
+	public CursorPageResponse<PostListResponse> scrollPostsByTag(Long tagId, String cursor, int size) {
+		int pageSize = CursorPageResponse.normalizeSize(size);
+		PageCursor pageCursor = PageCursor.decode(cursor);
+		Pageable limit = PageRequest.of(0, pageSize + 1);
+		List<Post> posts = pageCursor == null
+			? postRepository.findPublishedByTagFirst(tagId, limit)
+			: postRepository.findPublishedByTagBefore(tagId, pageCursor.getCreatedAt(), pageCursor.getId(), limit);
+		return CursorPageResponse.of(posts, pageSize,
+			post -> new PageCursor(post.getCreatedAt(), post.getId()), postListAssembler::toListResponses);
 	}
 
 	public Page<TagListResponse> searchTags(String keyword, Pageable pageable) {
@@ -93,7 +155,7 @@ public class TagService {
 	public int getPostCount(Long tagId) {
 		Tag tag = tagRepository.findById(tagId)
 			.orElseThrow(() -> new IllegalArgumentException("태그를 찾을 수 없습니다."));
-		return tag.getPosts() != null ? tag.getPosts().size() : 0;
+		return tag.getPostCount();
 	}
 
 	public List<TagListResponse> getPopularTags(int limit) {
@@ -104,12 +166,24 @@ public class TagService {
 	}
 
 	public List<TagResponse> getTagAutoComplete(String keyword, int limit) {
+		// 메모리 접두어 색인으로 응답하고, 기동 직후 적재 전에만 DB 검색 사용
+		if (tagAutocompleteIndexer.getIndex().isLoaded()) {
+			return tagAutocompleteIndexer.getIndex().search(keyword, limit);
+		}
 		Pageable pageable = PageRequest.of(0, limit);
 		return tagRepository.searchTagsByName(keyword, pageable).getContent().stream()
 			.map(this::convertToResponse)
 			.collect(Collectors.toList());
 	}
 
+	// 게시물 상세 응답에 포함된 태그 정보가 바뀌므로 태그가 달린 게시물의 상세 캐시 무효화용 이벤트 기록
+	private void publishTagEvent(String eventType, Long tagId) {
+		Map<String, Object> payload = new HashMap<>();
+		payload.put("tagId", tagId);
+		payload.put("postIds", postRepository.findIdsByTagId(tagId));
+		outboxEventPublisher.publish(OutboxEventType.AGGREGATE_TAG, tagId, eventType, payload);
+	}
+
 	// DTO 변환 메서드
 	private TagResponse convertToResponse(Tag tag) {
 		return TagResponse.builder()
@@ -125,26 +199,8 @@ public class TagService {
 			.id(tag.getId())
 			.name(tag.getName())
 			.description(tag.getDescription())
-			.postCount(tag.getPosts() != null ? tag.getPosts().size() : 0)
+			.postCount(tag.getPostCount())
 			.createdAt(tag.getCreatedAt())
 			.build();
 	}
-
-	private PostListResponse convertToPostListResponse(Post post) {
-		String contentPreview = post.getContent().length() > 200
-			? post.getContent().substring(0, 200) + "..."
-			: post.getContent();
-		return PostListResponse.builder()
-			.id(post.getId())
-			.title(post.getTitle())
-			.contentPreview(contentPreview)
-			.viewCount(post.getViewCount())
-			.likeCount(post.getLikeCount())
-			.author(UserResponse.fromEntity(post.getAuthor()))
-			.category(null) // 필요시 category 변환 추가
-			.tags(null) // 필요시 tags 변환 추가
-			.commentCount(post.getComments() != null ? post.getComments().size() : 0)
-			.createdAt(post.getCreatedAt())
-			.build();
-	}
 }
@@ -8,6 +8,7 @@ import com.blog.dto.response.UserResponse;
 import com.blog.dto.response.UserLoginResponse;
 import com.blog.entity.User;
 import com.blog.repository.UserRepository;
+import com.blog.security.AuthenticatedPrincipalCache;
 import com.blog.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +33,7 @@ public class UserService {
 	private final PasswordEncoder passwordEncoder;
 	private final AuthenticationManager authenticationManager;
 	private final JwtTokenProvider jwtTokenProvider;
+	private final AuthenticatedPrincipalCache principalCache;
 
 	@Transactional
 	public UserResponse signUp(UserSignUpRequest request) {
@@ -117,6 +119,7 @@ public class UserService {
 		// 엔티티의 비즈니스 메서드 사용
 		user.changePassword(passwordEncoder.encode(request.getNewPassword()));
 		userRepository.save(user);
+		principalCache.evictUser(user.getUsername());
 	}
 
 	@Transactional
@@ -127,6 +130,7 @@ public class UserService {
 		// 엔티티의 비즈니스 메서드 사용
 		user.deactivate();
 		User deactivatedUser = userRepository.save(user);
+		principalCache.evictUser(user.getUsername());
 		return convertToUserResponse(deactivatedUser);
 	}
 
@@ -138,6 +142,7 @@ public class UserService {
 		// 엔티티의 비즈니스 메서드 사용
 		user.activate();
 		User activatedUser = userRepository.save(user);
+		principalCache.evictUser(user.getUsername());
 		return convertToUserResponse(activatedUser);
 	}
 
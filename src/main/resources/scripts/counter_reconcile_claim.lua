@@ -0,0 +1,26 @@
+-- 카운터 반영 1단계: 게시물별 증가분을 처리 중(inflight) 키로 옮김
+--
+-- KEYS[1]   : 처리 중 게시물 ID 집합 (SET)
+-- KEYS[2..] : 게시물마다 { post:{id}:views, post:{id}:views:inflight, post:{id}:likes, post:{id}:likes:inflight }
+-- ARGV      : 게시물 ID 목록 (KEYS[2..]와 같은 순서)
+--
+-- 증가분 키의 값을 GETDEL로 꺼내 처리 중 키에 더합니다.
+-- 이전 실행이 DB 반영 전에 중단되어 남은 처리 중 값도 그대로 합산되므로 증가분을 잃지 않습니다.
+--
+-- 반환: 게시물마다 { 처리 중 조회수, 처리 중 좋아요 수 } 를 이어 붙인 목록
+
+local result = {}
+for i, id in ipairs(ARGV) do
+	local base = 2 + (i - 1) * 4
+	for offset = 0, 2, 2 do
+		local key = KEYS[base + offset]
+		local inflight = KEYS[base + offset + 1]
+		local delta = redis.call('GETDEL', key)
+		if delta then
+			redis.call('INCRBY', inflight, delta)
+		end
+		result[#result + 1] = redis.call('GET', inflight) or '0'
+	end
+	redis.call('SADD', KEYS[1], id)
+end
+return result
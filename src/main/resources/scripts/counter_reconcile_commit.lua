@@ -0,0 +1,26 @@
+-- 카운터 반영 2단계: DB 커밋 후 처리 중 값을 DB 반영값 사본으로 교체
+--
+-- KEYS[1]   : 처리 중 게시물 ID 집합 (SET)
+-- KEYS[2..] : 게시물마다 { post:{id}:views:db, post:{id}:likes:db, post:{id}:views:inflight, post:{id}:likes:inflight }
+-- ARGV[1]   : DB 반영값 사본 TTL (초)
+-- ARGV[2..] : 게시물마다 { ID, DB 조회수, DB 좋아요 수 } (삭제된 게시물은 수를 -1로 전달, KEYS[2..]와 같은 순서)
+--
+-- 사본 갱신과 처리 중 키 삭제를 한 번에 수행하므로, 조회 측(DB 사본 + 처리 중 + 증가분)은
+-- 어느 시점에 읽어도 같은 증가분을 두 번 세거나 빠뜨리지 않습니다.
+
+local ttl = tonumber(ARGV[1])
+local post = 0
+for i = 2, #ARGV, 3 do
+	local id = ARGV[i]
+	local views = ARGV[i + 1]
+	local likes = ARGV[i + 2]
+	local base = 2 + post * 4
+	if views ~= '-1' then
+		redis.call('SET', KEYS[base], views, 'EX', ttl)
+		redis.call('SET', KEYS[base + 1], likes, 'EX', ttl)
+	end
+	redis.call('DEL', KEYS[base + 2], KEYS[base + 3])
+	redis.call('SREM', KEYS[1], id)
+	post = post + 1
+end
+return 1
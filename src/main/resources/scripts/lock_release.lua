@@ -0,0 +1,14 @@
+-- 분산 락 해제: 내가 잡은 락일 때만 삭제
+--
+-- KEYS[1] : 락 키
+-- ARGV[1] : 락을 잡을 때 저장한 토큰
+--
+-- GET 후 DEL을 따로 보내면 그 사이 TTL이 만료되어 다른 노드가 새로 잡은 락을 지울 수 있으므로
+-- 비교와 삭제를 한 번에 수행합니다.
+--
+-- 반환: 삭제했으면 1, 아니면 0
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+	return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,46 @@
+-- GCRA(Generic Cell Rate Algorithm) 기반 Rate Limit
+--
+-- KEYS[1] : TAT(이론적 도착 시각, 마이크로초)를 저장하는 키
+-- KEYS[2] : 활성 키 색인 (ZSET, 점수 = 키 만료 시각 ms) - 통계 조회용
+-- ARGV[1] : 윈도우 내 최대 요청 수 (limit)
+-- ARGV[2] : 윈도우 길이 (초)
+-- ARGV[3] : 이번 요청에 필요한 토큰 수 (0이면 상태를 바꾸지 않고 조회만 함)
+-- ARGV[4] : 추가 임대 비율 (0 ~ 1, 생략 시 0) - 남은 예산의 이 비율만큼 토큰을 미리 가져감
+--
+-- 반환: { 부여한 토큰 수, 남은 요청 수, 완전 리셋까지 남은 시간(ms), 재시도까지 남은 시간(ms) }
+-- 필요한 토큰 수보다 남은 예산이 적으면 0을 부여합니다 (부분 부여는 임대분에만 적용).
+-- 시각은 Redis 서버의 TIME을 사용하므로 애플리케이션 노드 간 시계 차이의 영향을 받지 않습니다.
+
+local limit = tonumber(ARGV[1])
+local period = tonumber(ARGV[2]) * 1000000
+local cost = tonumber(ARGV[3])
+local lease_fraction = tonumber(ARGV[4] or '0')
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+
+local emission_interval = period / limit
+local tolerance = period
+
+local tat = tonumber(redis.call('GET', KEYS[1]))
+if tat == nil or tat < now then
+	tat = now
+end
+
+local available = math.max(math.floor((now + tolerance - tat) / emission_interval), 0)
+
+if cost == 0 then
+	return { 0, available, math.ceil((tat - now) / 1000), 0 }
+end
+
+if available < cost then
+	local allow_at = tat + emission_interval * cost - tolerance
+	return { 0, available, math.ceil((tat - now) / 1000), math.ceil((allow_at - now) / 1000) }
+end
+
+local granted = math.min(math.max(cost, math.floor(available * lease_fraction)), available)
+local new_tat = tat + emission_interval * granted
+redis.call('SET', KEYS[1], string.format('%.0f', new_tat), 'PX', math.ceil((new_tat - now) / 1000))
+redis.call('ZADD', KEYS[2], string.format('%.0f', math.ceil(new_tat / 1000)), KEYS[1])
+
+return { granted, available - granted, math.ceil((new_tat - now) / 1000), 0 }
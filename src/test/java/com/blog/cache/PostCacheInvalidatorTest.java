@@ -0,0 +1,96 @@
+package com.blog.cache;
+
+import com.blog.entity.OutboxEvent;
+import com.blog.outbox.OutboxEventRecordedEvent;
+import com.blog.outbox.OutboxEventType;
+import com.blog.outbox.OutboxPayload;
+import com.blog.service.ResourceVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PostCacheInvalidator 테스트")
+class PostCacheInvalidatorTest {
+
+	private Cache postDetailCache;
+	private ResourceVersionService resourceVersionService;
+	private PostCacheInvalidator invalidator;
+
+	@BeforeEach
+	void setUp() {
+		CacheManager cacheManager = mock(CacheManager.class);
+		postDetailCache = mock(Cache.class);
+		resourceVersionService = mock(ResourceVersionService.class);
+		when(cacheManager.getCache(CacheNames.POST_DETAIL)).thenReturn(postDetailCache);
+		invalidator = new PostCacheInvalidator(cacheManager, resourceVersionService);
+	}
+
+	@Test
+	@DisplayName("게시물 수정이 커밋되면 릴레이를 기다리지 않고 상세 캐시와 검증자를 무효화")
+	void evictsPostDetailAfterCommit() {
+		// given
+		OutboxEventRecordedEvent recorded = recorded(OutboxEventType.AGGREGATE_POST, 1L,
+			OutboxEventType.POST_UPDATED, Map.of("postId", 1L));
+
+		// when
+		invalidator.onOutboxEventRecorded(recorded);
+
+		// then
+		verify(postDetailCache).evict(1L);
+		verify(resourceVersionService).evictPost(1L);
+	}
+
+	@Test
+	@DisplayName("태그가 수정되면 태그가 달린 게시물의 상세 캐시를 모두 무효화")
+	void evictsTaggedPostsOnTagUpdate() {
+		// given
+		OutboxEventRecordedEvent recorded = recorded(OutboxEventType.AGGREGATE_TAG, 5L,
+			OutboxEventType.TAG_UPDATED, Map.of("tagId", 5L, "postIds", List.of(1L, 2L)));
+
+		// when
+		invalidator.onOutboxEventRecorded(recorded);
+
+		// then
+		verify(postDetailCache).evict(1L);
+		verify(postDetailCache).evict(2L);
+		verify(postDetailCache, never()).evict(5L);
+		verify(resourceVersionService).evictPost(1L);
+		verify(resourceVersionService).evictPost(2L);
+	}
+
+	@Test
+	@DisplayName("커밋 후 무효화가 실패해도 예외를 호출자에게 전달하지 않음 (릴레이가 다시 무효화)")
+	void afterCommitFailureIsSwallowed() {
+		// given
+		doThrow(new IllegalStateException("Redis 장애")).when(postDetailCache).evict(1L);
+		OutboxEventRecordedEvent recorded = recorded(OutboxEventType.AGGREGATE_COMMENT, 10L,
+			OutboxEventType.COMMENT_CREATED, Map.of("commentId", 10L, "postId", 1L));
+
+		// when
+		invalidator.onOutboxEventRecorded(recorded);
+
+		// then
+		verify(postDetailCache).evict(1L);
+	}
+
+	private OutboxEventRecordedEvent recorded(String aggregateType, Long aggregateId, String eventType,
+		Map<String, Object> payload) {
+		OutboxEvent event = OutboxEvent.builder()
+			.aggregateType(aggregateType)
+			.aggregateId(aggregateId)
+			.eventType(eventType)
+			.build();
+		return new OutboxEventRecordedEvent(event, new OutboxPayload(payload));
+	}
+}
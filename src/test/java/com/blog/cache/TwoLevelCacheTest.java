@@ -0,0 +1,180 @@
+package com.blog.cache;
+
+import com.blog.dto.response.PostResponse;
+import com.blog.dto.response.ResourceVersion;
+import com.blog.dto.response.VersionedResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TwoLevelCache 테스트")
+class TwoLevelCacheTest {
+
+	private static final Duration TTL = Duration.ofMinutes(10);
+
+	private RedisTemplate<String, String> redisTemplate;
+	private ValueOperations<String, String> valueOperations;
+	private CacheInvalidationPublisher invalidationPublisher;
+	private TwoLevelCache cache;
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		valueOperations = mock(ValueOperations.class);
+		invalidationPublisher = mock(CacheInvalidationPublisher.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		cache = new TwoLevelCache("postDetail", Caffeine.newBuilder().maximumSize(100).build(),
+			redisTemplate, new ObjectMapper(), String.class, TTL, invalidationPublisher);
+	}
+
+	@Test
+	@DisplayName("L2에서 찾은 값은 L1에 채워 다음 조회는 Redis를 거치지 않음")
+	void remoteHitFillsLocal() {
+		// given
+		when(valueOperations.get("cache:postDetail:1")).thenReturn("\"L2 값\"");
+
+		// when
+		String first = cache.get(1L, this::load);
+		String second = cache.get(1L, this::load);
+
+		// then
+		assertThat(first).isEqualTo("L2 값");
+		assertThat(second).isEqualTo("L2 값");
+		assertThat(loads).hasValue(0);
+		verify(valueOperations, times(1)).get("cache:postDetail:1");
+		assertThat(cache.getRemoteHits()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("L1/L2 모두 없으면 로더 값을 L1과 L2(TTL)에 저장")
+	void missLoadsAndStoresBothLevels() {
+		// when
+		String value = cache.get(1L, this::load);
+
+		// then
+		assertThat(value).isEqualTo("로드 1");
+		assertThat(cache.getLocalCache().getIfPresent("1")).isEqualTo("로드 1");
+		verify(valueOperations).set("cache:postDetail:1", "\"로드 1\"", TTL);
+		assertThat(cache.getRemoteMisses()).isEqualTo(1);
+		assertThat(cache.getLoadCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("제거하면 L1/L2를 지우고 다른 노드에 알림")
+	void evictClearsBothLevelsAndPublishes() {
+		// given
+		cache.put(1L, "값");
+
+		// when
+		cache.evict(1L);
+
+		// then
+		assertThat(cache.getLocalCache().getIfPresent("1")).isNull();
+		verify(redisTemplate).delete("cache:postDetail:1");
+		verify(invalidationPublisher).publish("postDetail", "1");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	@DisplayName("전체 비우기는 L1과 이 캐시의 L2 키를 모두 지우고 다른 노드에 알림")
+	void clearRemovesRemoteEntries() {
+		// given
+		cache.put(1L, "값");
+		Cursor<String> cursor = mock(Cursor.class);
+		when(cursor.hasNext()).thenReturn(true, true, false);
+		when(cursor.next()).thenReturn("cache:postDetail:1", "cache:postDetail:2");
+		when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+		// when
+		cache.clear();
+
+		// then
+		assertThat(cache.getLocalCache().getIfPresent("1")).isNull();
+		ArgumentCaptor<ScanOptions> options = ArgumentCaptor.forClass(ScanOptions.class);
+		verify(redisTemplate).scan(options.capture());
+		assertThat(options.getValue().getPattern()).isEqualTo("cache:postDetail:*");
+		verify(redisTemplate).unlink(List.of("cache:postDetail:1", "cache:postDetail:2"));
+		verify(cursor).close();
+		verify(invalidationPublisher).publishClear("postDetail");
+	}
+
+	@Test
+	@DisplayName("다른 노드의 무효화 메시지는 L1만 비우고 다시 발행하지 않음")
+	void invalidationMessageEvictsLocalOnly() {
+		// given
+		cache.put(1L, "값");
+		cache.put(2L, "값");
+		CacheInvalidationListener listener = new CacheInvalidationListener(
+			new TwoLevelCacheManager(Map.of("postDetail", cache)));
+
+		// when
+		listener.onMessage(new DefaultMessage(CacheInvalidationPublisher.CHANNEL.getBytes(StandardCharsets.UTF_8),
+			"postDetail:1".getBytes(StandardCharsets.UTF_8)), null);
+
+		// then
+		assertThat(cache.getLocalCache().getIfPresent("1")).isNull();
+		assertThat(cache.getLocalCache().getIfPresent("2")).isEqualTo("값");
+		verify(redisTemplate, never()).delete(anyString());
+		verify(invalidationPublisher, never()).publish(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("상세 본문은 검증자와 함께 L2에 저장되고, 검증자 없는 이전 형식 항목은 캐시 미스로 처리")
+	void versionedValueRoundTrip() {
+		// given
+		ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+		TwoLevelCache versionedCache = new TwoLevelCache("postDetail", Caffeine.newBuilder().maximumSize(100).build(),
+			redisTemplate, objectMapper,
+			objectMapper.getTypeFactory().constructParametricType(VersionedResponse.class, PostResponse.class),
+			TTL, invalidationPublisher);
+		ResourceVersion version = new ResourceVersion(3L, LocalDateTime.of(2024, 1, 1, 0, 0), 2L);
+		versionedCache.put(1L, new VersionedResponse<>(PostResponse.builder().id(1L).title("제목").build(), version));
+		ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+		verify(valueOperations).set(eq("cache:postDetail:1"), json.capture(), eq(TTL));
+		when(valueOperations.get("cache:postDetail:1")).thenReturn(json.getValue());
+		when(valueOperations.get("cache:postDetail:2")).thenReturn("{\"id\":2,\"title\":\"이전 형식\"}");
+
+		// when
+		versionedCache.clearLocal();
+		VersionedResponse<PostResponse> restored = versionedCache.get(1L, () -> null);
+		VersionedResponse<PostResponse> legacy = versionedCache.get(2L, () -> null);
+
+		// then
+		assertThat(json.getValue()).doesNotContain("etag");
+		assertThat(restored.getBody().getTitle()).isEqualTo("제목");
+		assertThat(restored.getVersion().getETag()).isEqualTo(version.getETag());
+		assertThat(restored.getVersion().getLastModifiedMillis()).isEqualTo(version.getLastModifiedMillis());
+		assertThat(legacy).isNull();
+	}
+
+	private String load() {
+		return "로드 " + loads.incrementAndGet();
+	}
+}
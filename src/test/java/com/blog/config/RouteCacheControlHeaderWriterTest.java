@@ -0,0 +1,66 @@
+package com.blog.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RouteCacheControlHeaderWriter 테스트")
+class RouteCacheControlHeaderWriterTest {
+
+	private final RouteCacheControlHeaderWriter writer =
+		new RouteCacheControlHeaderWriter("no-cache, no-store, max-age=0, must-revalidate")
+			.route("/api/posts/{postId:\\d+}", "private, no-cache");
+
+	@Test
+	@DisplayName("등록된 경로의 GET 요청은 경로별 값을 쓰고 Pragma/Expires는 쓰지 않음")
+	void routeValue() {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/42");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// when
+		writer.writeHeaders(request, response);
+
+		// then
+		assertThat(response.getHeader("Cache-Control")).isEqualTo("private, no-cache");
+		assertThat(response.getHeader("Pragma")).isNull();
+		assertThat(response.getHeader("Expires")).isNull();
+	}
+
+	@Test
+	@DisplayName("패턴과 맞지 않는 경로나 GET이 아닌 요청은 기본값(저장 금지)")
+	void defaultValue() {
+		// given
+		MockHttpServletRequest listRequest = new MockHttpServletRequest("GET", "/api/posts/popular");
+		MockHttpServletResponse listResponse = new MockHttpServletResponse();
+		MockHttpServletRequest putRequest = new MockHttpServletRequest("PUT", "/api/posts/42");
+		MockHttpServletResponse putResponse = new MockHttpServletResponse();
+
+		// when
+		writer.writeHeaders(listRequest, listResponse);
+		writer.writeHeaders(putRequest, putResponse);
+
+		// then
+		assertThat(listResponse.getHeader("Cache-Control")).isEqualTo("no-cache, no-store, max-age=0, must-revalidate");
+		assertThat(listResponse.getHeader("Pragma")).isEqualTo("no-cache");
+		assertThat(putResponse.getHeader("Cache-Control")).isEqualTo("no-cache, no-store, max-age=0, must-revalidate");
+	}
+
+	@Test
+	@DisplayName("이미 지정된 Cache-Control은 덮어쓰지 않음")
+	void keepExisting() {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/42");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		response.setHeader("Cache-Control", "public, max-age=60");
+
+		// when
+		writer.writeHeaders(request, response);
+
+		// then
+		assertThat(response.getHeader("Cache-Control")).isEqualTo("public, max-age=60");
+	}
+}
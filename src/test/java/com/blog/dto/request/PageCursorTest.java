@@ -0,0 +1,43 @@
+package com.blog.dto.request;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PageCursor 테스트")
+class PageCursorTest {
+
+	@Test
+	@DisplayName("인코딩한 커서는 같은 값으로 복원된다")
+	void encodeAndDecode() {
+		// given
+		LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 10, 30, 15, 123456000);
+		PageCursor cursor = new PageCursor(createdAt, 42L);
+
+		// when
+		PageCursor decoded = PageCursor.decode(cursor.encode());
+
+		// then
+		assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+		assertThat(decoded.getId()).isEqualTo(42L);
+	}
+
+	@Test
+	@DisplayName("커서가 없으면 첫 페이지(null)로 처리한다")
+	void decodeEmpty() {
+		assertThat(PageCursor.decode(null)).isNull();
+		assertThat(PageCursor.decode(" ")).isNull();
+	}
+
+	@Test
+	@DisplayName("형식이 잘못된 커서는 IllegalArgumentException을 던진다")
+	void decodeInvalid() {
+		assertThatThrownBy(() -> PageCursor.decode("not-a-cursor"))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessage("잘못된 커서입니다.");
+	}
+}
@@ -0,0 +1,81 @@
+package com.blog.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Comment Entity Test")
+class CommentTest {
+
+	@Test
+	@DisplayName("답글 경로는 부모 경로에 자신의 ID 세그먼트를 붙인 값")
+	void assignPath() {
+		// given
+		Comment root = Comment.builder().id(1L).build();
+		root.assignPath();
+		Comment reply = Comment.builder().id(7L).parent(root).build();
+
+		// when
+		reply.assignPath();
+
+		// then
+		assertThat(root.getPath()).isEqualTo("0000000001.");
+		assertThat(reply.getPath()).isEqualTo("0000000001.0000000007.");
+		assertThat(root.getDepth()).isEqualTo(0);
+		assertThat(reply.getDepth()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("경로 사전순이 스레드 순서와 일치")
+	void pathOrderMatchesThreadOrder() {
+		// given - 9번 댓글의 답글(12번)이 10번 최상위 댓글보다 앞에 와야 함
+		Comment first = Comment.builder().id(9L).build();
+		first.assignPath();
+		Comment reply = Comment.builder().id(12L).parent(first).build();
+		reply.assignPath();
+		Comment second = Comment.builder().id(10L).build();
+		second.assignPath();
+
+		// when & then
+		assertThat(first.getPath()).isLessThan(reply.getPath());
+		assertThat(reply.getPath()).isLessThan(second.getPath());
+	}
+
+	@Test
+	@DisplayName("부모 경로가 비어 있으면 부모부터 경로를 채움")
+	void assignPathWithoutParentPath() {
+		// given
+		Comment root = Comment.builder().id(2L).build();
+		Comment parent = Comment.builder().id(3L).parent(root).build();
+		Comment reply = Comment.builder().id(4L).parent(parent).build();
+
+		// when
+		reply.assignPath();
+
+		// then
+		assertThat(root.getPath()).isEqualTo("0000000002.");
+		assertThat(parent.getPath()).isEqualTo("0000000002.0000000003.");
+		assertThat(reply.getPath()).isEqualTo("0000000002.0000000003.0000000004.");
+	}
+
+	@Test
+	@DisplayName("하위 댓글 경로는 모두 접두사와 상한 사이에 있고 다음 형제는 범위 밖")
+	void pathUpperBound() {
+		// given
+		Comment parent = Comment.builder().id(5L).build();
+		parent.assignPath();
+		Comment child = Comment.builder().id(99L).parent(parent).build();
+		child.assignPath();
+		Comment sibling = Comment.builder().id(6L).build();
+		sibling.assignPath();
+
+		// when
+		String upper = Comment.pathUpperBound(parent.getPath());
+
+		// then
+		assertThat(upper).isEqualTo("0000000005/");
+		assertThat(child.getPath()).isGreaterThan(parent.getPath()).isLessThan(upper);
+		assertThat(sibling.getPath()).isGreaterThan(upper);
+	}
+}
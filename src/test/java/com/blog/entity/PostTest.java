@@ -0,0 +1,50 @@
+package com.blog.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Post Entity Test")
+class PostTest {
+
+	@Test
+	@DisplayName("태그 교체는 빠진 태그만 제거하고 새 태그만 추가하며 남는 태그는 기존 인스턴스를 유지")
+	void replaceTagsAppliesDiff() {
+		// given
+		Tag java = tag(1L, "java");
+		Tag spring = tag(2L, "spring");
+		Tag jpa = tag(3L, "jpa");
+		Post post = Post.builder().title("제목").content("내용").build();
+		post.addTag(java);
+		post.addTag(spring);
+		post.addTag(jpa);
+
+		// when - 같은 ID의 다른 인스턴스(참조 프록시 등)로 교체 요청
+		post.replaceTags(List.of(tag(2L, "spring"), tag(3L, "jpa"), tag(4L, "redis")));
+
+		// then
+		assertThat(post.getTags()).extracting(Tag::getId).containsExactly(2L, 3L, 4L);
+		assertThat(post.getTags()).contains(spring, jpa).doesNotContain(java);
+	}
+
+	@Test
+	@DisplayName("빈 목록으로 교체하면 모든 태그 제거")
+	void replaceTagsWithEmpty() {
+		// given
+		Post post = Post.builder().title("제목").content("내용").build();
+		post.addTag(tag(1L, "java"));
+
+		// when
+		post.replaceTags(List.of());
+
+		// then
+		assertThat(post.getTags()).isEmpty();
+	}
+
+	private Tag tag(Long id, String name) {
+		return Tag.builder().id(id).name(name).build();
+	}
+}
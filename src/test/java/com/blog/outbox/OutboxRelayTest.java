@@ -0,0 +1,109 @@
+package com.blog.outbox;
+
+import com.blog.entity.OutboxEvent;
+import com.blog.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("OutboxRelay 테스트")
+class OutboxRelayTest {
+
+	private OutboxEventRepository outboxEventRepository;
+	private TransactionTemplate transactionTemplate;
+	private final List<Long> handled = new ArrayList<>();
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		outboxEventRepository = mock(OutboxEventRepository.class);
+		transactionTemplate = mock(TransactionTemplate.class);
+		doAnswer(invocation -> {
+			((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+	@Test
+	@DisplayName("한 이벤트의 핸들러가 실패해도 같은 배치의 나머지 이벤트는 처리 완료")
+	void failingHandlerDoesNotBlockBatch() {
+		// given
+		OutboxEvent poison = event(1L);
+		OutboxEvent healthy = event(2L);
+		when(outboxEventRepository.findPendingIds(anyInt(), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+		when(outboxEventRepository.findPendingByIdForUpdate(1L, 10)).thenReturn(Optional.of(poison));
+		when(outboxEventRepository.findPendingByIdForUpdate(2L, 10)).thenReturn(Optional.of(healthy));
+		when(outboxEventRepository.findById(1L)).thenReturn(Optional.of(poison));
+		OutboxRelay relay = new OutboxRelay(outboxEventRepository, List.of(handler(1L)), transactionTemplate,
+			new ObjectMapper());
+
+		// when
+		boolean more = relay.relayBatch();
+
+		// then
+		assertThat(handled).containsExactly(1L, 2L);
+		assertThat(healthy.getProcessedAt()).isNotNull();
+		assertThat(poison.getProcessedAt()).isNull();
+		assertThat(poison.getAttempts()).isEqualTo(1);
+		assertThat(poison.getLastError()).isEqualTo("처리 불가");
+		assertThat(more).isFalse();
+	}
+
+	@Test
+	@DisplayName("다른 노드가 잠갔거나 이미 처리된 이벤트는 건너뜀")
+	void skipsClaimedEvent() {
+		// given
+		when(outboxEventRepository.findPendingIds(anyInt(), any(Pageable.class))).thenReturn(List.of(3L));
+		when(outboxEventRepository.findPendingByIdForUpdate(3L, 10)).thenReturn(Optional.empty());
+		OutboxRelay relay = new OutboxRelay(outboxEventRepository, List.of(handler(null)), transactionTemplate,
+			new ObjectMapper());
+
+		// when
+		relay.relayBatch();
+
+		// then
+		assertThat(handled).isEmpty();
+	}
+
+	private OutboxEvent event(Long id) {
+		return OutboxEvent.builder()
+			.id(id)
+			.aggregateType(OutboxEventType.AGGREGATE_POST)
+			.aggregateId(id)
+			.eventType(OutboxEventType.POST_UPDATED)
+			.build();
+	}
+
+	private OutboxEventHandler handler(Long failingId) {
+		return new OutboxEventHandler() {
+			@Override
+			public boolean supports(String eventType) {
+				return true;
+			}
+
+			@Override
+			public void handle(OutboxEvent event, OutboxPayload payload) throws Exception {
+				handled.add(event.getId());
+				if (event.getId().equals(failingId)) {
+					throw new Exception("처리 불가");
+				}
+			}
+		};
+	}
+}
@@ -0,0 +1,85 @@
+package com.blog.repository;
+
+import com.blog.dto.response.ResourceVersion;
+import com.blog.entity.Category;
+import com.blog.entity.Post;
+import com.blog.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("CategoryRepository 테스트")
+class CategoryRepositoryTest {
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private Category category;
+
+	@BeforeEach
+	void setUp() {
+		User author = entityManager.persist(User.builder()
+			.username("testUser")
+			.email("test@example.com")
+			.password("encodedPassword")
+			.nickname("테스트 사용자")
+			.role(User.Role.USER)
+			.isActive(true)
+			.build());
+		category = entityManager.persist(Category.builder().name("backend").build());
+		entityManager.persist(Post.builder()
+			.title("제목")
+			.content("내용")
+			.author(author)
+			.category(category)
+			.build());
+		entityManager.flush();
+	}
+
+	@Test
+	@DisplayName("카테고리의 게시물이 바뀌었다고 표시하면 검증자가 바뀜 (최근 게시물 목록이 달라지므로)")
+	void versionChangesWhenPostsTouched() {
+		// given
+		ResourceVersion before = categoryRepository.findVersionById(category.getId()).orElseThrow();
+
+		// when - 게시물 공개 전환 트랜잭션에서 PostService가 호출
+		categoryRepository.touchPosts(List.of(category.getId()), LocalDateTime.now());
+		entityManager.clear();
+		ResourceVersion after = categoryRepository.findVersionById(category.getId()).orElseThrow();
+
+		// then
+		assertThat(after.getDerivedCount()).isEqualTo(1);
+		assertThat(after.getETag()).isNotEqualTo(before.getETag());
+		assertThat(after.getRelatedUpdatedAt()).isNotNull();
+	}
+
+	@Test
+	@DisplayName("카테고리 수정은 게시물 변경 표시를 덮어쓰지 않음")
+	void categoryEditKeepsPostsVersion() {
+		// given
+		categoryRepository.touchPosts(List.of(category.getId()), LocalDateTime.now());
+		entityManager.clear();
+		Category loaded = categoryRepository.findById(category.getId()).orElseThrow();
+
+		// when
+		loaded.setDescription("설명");
+		entityManager.flush();
+		entityManager.clear();
+
+		// then
+		assertThat(categoryRepository.findById(category.getId())).get()
+			.extracting(Category::getPostsVersion).isEqualTo(1L);
+	}
+}
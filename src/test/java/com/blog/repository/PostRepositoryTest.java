@@ -0,0 +1,132 @@
+package com.blog.repository;
+
+import com.blog.dto.response.ResourceVersion;
+import com.blog.entity.Category;
+import com.blog.entity.Comment;
+import com.blog.entity.Post;
+import com.blog.entity.Tag;
+import com.blog.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("PostRepository 테스트")
+class PostRepositoryTest {
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private User author;
+	private Post post;
+
+	@BeforeEach
+	void setUp() {
+		author = entityManager.persist(User.builder()
+			.username("testUser")
+			.email("test@example.com")
+			.password("encodedPassword")
+			.nickname("테스트 사용자")
+			.role(User.Role.USER)
+			.isActive(true)
+			.build());
+		post = entityManager.persist(Post.builder()
+			.title("제목")
+			.content("내용")
+			.author(author)
+			.commentCount(1)
+			.build());
+		entityManager.flush();
+	}
+
+	@Test
+	@DisplayName("댓글 수 증감은 0 아래로 내려가지 않음")
+	void incrementCommentCountClampsAtZero() {
+		// when
+		postRepository.incrementCommentCount(post.getId(), -3);
+		entityManager.clear();
+
+		// then
+		assertThat(postRepository.findById(post.getId())).get()
+			.extracting(Post::getCommentCount).isEqualTo(0);
+	}
+
+	@Test
+	@DisplayName("댓글 수 증가분을 그대로 더함")
+	void incrementCommentCount() {
+		// when
+		postRepository.incrementCommentCount(post.getId(), 2);
+		entityManager.clear();
+
+		// then
+		assertThat(postRepository.findById(post.getId())).get()
+			.extracting(Post::getCommentCount).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("재계산은 삭제되지 않은 댓글 수로 댓글 수를 맞춤")
+	void rebuildCommentCount() {
+		// given
+		entityManager.persist(Comment.builder().content("댓글").post(post).author(author).build());
+		entityManager.persist(Comment.builder().content("삭제된 댓글").post(post).author(author).isDeleted(true).build());
+		entityManager.persist(Comment.builder().content("댓글").post(post).author(author).build());
+		entityManager.flush();
+
+		// when
+		int updated = postRepository.rebuildCommentCount(List.of(post.getId()));
+		entityManager.clear();
+
+		// then
+		assertThat(updated).isEqualTo(1);
+		assertThat(postRepository.findById(post.getId())).get()
+			.extracting(Post::getCommentCount).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("게시물에 포함된 카테고리/태그 이름이 바뀌면 게시물 검증자도 바뀜")
+	void versionChangesWhenEmbeddedTaxonomyRenamed() {
+		// given
+		Category category = entityManager.persist(Category.builder().name("backend").build());
+		Tag tag = entityManager.persist(Tag.builder().name("java").build());
+		Post tagged = Post.builder().title("제목").content("내용").author(author).category(category).build();
+		tagged.addTag(tag);
+		entityManager.persist(tagged);
+		entityManager.flush();
+		ResourceVersion initial = postRepository.findVersionById(tagged.getId()).orElseThrow();
+
+		// when
+		tag.setName("kotlin");
+		entityManager.flush();
+		ResourceVersion afterTagRename = postRepository.findVersionById(tagged.getId()).orElseThrow();
+		category.setName("server");
+		entityManager.flush();
+		ResourceVersion afterCategoryRename = postRepository.findVersionById(tagged.getId()).orElseThrow();
+
+		// then
+		assertThat(afterTagRename.getETag()).isNotEqualTo(initial.getETag());
+		assertThat(afterCategoryRename.getETag()).isNotEqualTo(afterTagRename.getETag());
+		assertThat(afterCategoryRename.getVersion()).isEqualTo(initial.getVersion());
+	}
+
+	@Test
+	@DisplayName("카테고리/태그가 없는 게시물도 검증자를 조회")
+	void versionWithoutTaxonomy() {
+		// when
+		ResourceVersion version = postRepository.findVersionById(post.getId()).orElseThrow();
+
+		// then
+		assertThat(version.getDerivedCount()).isEqualTo(1);
+		assertThat(version.getRelatedVersion()).isZero();
+		assertThat(version.getRelatedUpdatedAt()).isNotNull();
+	}
+}
@@ -0,0 +1,118 @@
+package com.blog.repository;
+
+import com.blog.dto.response.ResourceVersion;
+import com.blog.entity.Post;
+import com.blog.entity.Tag;
+import com.blog.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@DisplayName("TagRepository 테스트")
+class TagRepositoryTest {
+
+	@Autowired
+	private TagRepository tagRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private Tag java;
+	private Tag spring;
+
+	@BeforeEach
+	void setUp() {
+		User author = entityManager.persist(User.builder()
+			.username("testUser")
+			.email("test@example.com")
+			.password("encodedPassword")
+			.nickname("테스트 사용자")
+			.role(User.Role.USER)
+			.isActive(true)
+			.build());
+		java = entityManager.persist(Tag.builder().name("java").postCount(1).build());
+		spring = entityManager.persist(Tag.builder().name("spring").postCount(5).build());
+		for (int i = 0; i < 2; i++) {
+			Post post = Post.builder().title("제목 " + i).content("내용").author(author).build();
+			post.addTag(java);
+			entityManager.persist(post);
+		}
+		entityManager.flush();
+	}
+
+	@Test
+	@DisplayName("게시물 수 증감은 0 아래로 내려가지 않음")
+	void incrementPostCountClampsAtZero() {
+		// when
+		tagRepository.incrementPostCount(List.of(java.getId(), spring.getId()), -3);
+		entityManager.clear();
+
+		// then
+		assertThat(tagRepository.findById(java.getId())).get().extracting(Tag::getPostCount).isEqualTo(0);
+		assertThat(tagRepository.findById(spring.getId())).get().extracting(Tag::getPostCount).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("재계산은 post_tags 행 수로 게시물 수를 맞춤")
+	void rebuildPostCount() {
+		// when
+		int updated = tagRepository.rebuildPostCount(List.of(java.getId(), spring.getId()));
+		entityManager.clear();
+
+		// then
+		assertThat(updated).isEqualTo(2);
+		assertThat(tagRepository.findById(java.getId())).get().extracting(Tag::getPostCount).isEqualTo(2);
+		assertThat(tagRepository.findById(spring.getId())).get().extracting(Tag::getPostCount).isEqualTo(0);
+	}
+
+	@Test
+	@DisplayName("없는 태그명만 생성하고 이미 있는 태그는 건드리지 않음")
+	void insertMissingByNames() {
+		// when
+		tagRepository.insertMissingByNames(List.of("java", "kotlin"));
+		entityManager.clear();
+
+		// then
+		assertThat(tagRepository.findByNameIn(List.of("java", "kotlin")))
+			.extracting(Tag::getName, Tag::getPostCount)
+			.containsExactlyInAnyOrder(tuple("java", 1), tuple("kotlin", 0));
+	}
+
+	@Test
+	@DisplayName("태그의 게시물이 바뀌었다고 표시하면 이전 ETag로 재검증해도 304가 아닌 200")
+	void versionChangesWhenTaggedPostTouched() {
+		// given
+		ResourceVersion before = tagRepository.findVersionById(java.getId()).orElseThrow();
+		assertThat(isNotModified(before.getETag(), before)).isTrue();
+
+		// when - 게시물 수정 트랜잭션에서 PostService가 호출
+		tagRepository.touchPosts(List.of(java.getId()), LocalDateTime.now());
+		entityManager.clear();
+		ResourceVersion after = tagRepository.findVersionById(java.getId()).orElseThrow();
+
+		// then
+		assertThat(after.getETag()).isNotEqualTo(before.getETag());
+		assertThat(isNotModified(before.getETag(), after)).isFalse();
+	}
+
+	private boolean isNotModified(String ifNoneMatch, ResourceVersion version) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tags/" + java.getId());
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+		return new ServletWebRequest(request, new MockHttpServletResponse())
+			.checkNotModified(version.getETag(), version.getLastModifiedMillis());
+	}
+}
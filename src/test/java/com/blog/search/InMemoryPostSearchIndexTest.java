@@ -0,0 +1,86 @@
+package com.blog.search;
+
+import com.blog.dto.request.PostSearchRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryPostSearchIndex Test")
+class InMemoryPostSearchIndexTest {
+
+	private InMemoryPostSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new InMemoryPostSearchIndex();
+		index.index(document(1L, "스프링 부트 시작하기", "Spring Boot 입문", 10L, List.of("spring"), true, 1));
+		index.index(document(2L, "JPA 성능 최적화", "N+1 문제와 스프링 데이터", 20L, List.of("jpa", "spring"), true, 2));
+		index.index(document(3L, "비공개 스프링 글", "초안", 10L, List.of("spring"), false, 3));
+	}
+
+	@Test
+	@DisplayName("제목/본문 키워드 검색 시 공개 게시물만 반환")
+	void searchByKeyword() {
+		Page<Long> result = index.search(request("스프링", null, null), PageRequest.of(0, 10));
+
+		assertThat(result.getContent()).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(result.getTotalElements()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("카테고리와 태그 조건으로 필터링")
+	void searchWithFilters() {
+		assertThat(index.search(request("스프링", 20L, null), PageRequest.of(0, 10)).getContent())
+			.containsExactly(2L);
+		assertThat(index.search(request("스프링", null, List.of("jpa")), PageRequest.of(0, 10)).getContent())
+			.containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("createdAt 정렬 및 페이징")
+	void searchSortedAndPaged() {
+		Page<Long> firstPage = index.search(request("스프링", null, null),
+			PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "createdAt")));
+
+		assertThat(firstPage.getContent()).containsExactly(1L);
+		assertThat(firstPage.getTotalPages()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("삭제된 문서는 검색되지 않음")
+	void deleteDocument() {
+		index.delete(1L);
+
+		assertThat(index.search(request("스프링", null, null), PageRequest.of(0, 10)).getContent())
+			.containsExactly(2L);
+	}
+
+	private PostDocument document(Long id, String title, String content, Long categoryId, List<String> tags,
+		boolean published, int day) {
+		return PostDocument.builder()
+			.id(id)
+			.title(title)
+			.content(content)
+			.categoryId(categoryId)
+			.tagNames(tags)
+			.published(published)
+			.createdAt(LocalDateTime.of(2024, 1, day, 0, 0))
+			.build();
+	}
+
+	private PostSearchRequest request(String keyword, Long categoryId, List<String> tagNames) {
+		PostSearchRequest request = new PostSearchRequest();
+		request.setKeyword(keyword);
+		request.setCategoryId(categoryId);
+		request.setTagNames(tagNames);
+		return request;
+	}
+}
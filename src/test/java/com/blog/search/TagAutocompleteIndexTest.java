@@ -0,0 +1,85 @@
+package com.blog.search;
+
+import com.blog.dto.response.TagResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TagAutocompleteIndex 테스트")
+class TagAutocompleteIndexTest {
+
+	private TagAutocompleteIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new TagAutocompleteIndex();
+		index.replaceAll(List.of(
+			entry(1L, "Spring", 30),
+			entry(2L, "Spring Boot", 50),
+			entry(3L, "SQL", 5),
+			entry(4L, "한글", 10),
+			entry(5L, "하늘", 20),
+			entry(6L, "닭갈비", 1)
+		));
+	}
+
+	@Test
+	@DisplayName("대소문자 구분 없이 접두어로 찾고 게시물 수 순으로 정렬한다")
+	void prefixRankedByPostCount() {
+		// when
+		List<TagResponse> result = index.search("sp", 10);
+
+		// then
+		assertThat(result).extracting(TagResponse::getName).containsExactly("Spring Boot", "Spring");
+	}
+
+	@Test
+	@DisplayName("입력 중인 한글 음절도 자모 단위로 매칭한다")
+	void matchesPartialHangulSyllable() {
+		// when
+		List<TagResponse> syllable = index.search("한그", 10);
+		// "한"은 "하늘"을 입력하는 중일 수도 있음 (ㅎㅏㄴ)
+		List<TagResponse> partial = index.search("한", 10);
+		List<TagResponse> compoundFinal = index.search("닭", 10);
+		List<TagResponse> typingFinal = index.search("달", 10);
+
+		// then
+		assertThat(syllable).extracting(TagResponse::getName).containsExactly("한글");
+		assertThat(partial).extracting(TagResponse::getName).containsExactly("하늘", "한글");
+		assertThat(compoundFinal).extracting(TagResponse::getName).containsExactly("닭갈비");
+		assertThat(typingFinal).extracting(TagResponse::getName).containsExactly("닭갈비");
+	}
+
+	@Test
+	@DisplayName("초성만 입력하면 초성으로 매칭한다")
+	void matchesInitials() {
+		// when
+		List<TagResponse> result = index.search("ㅎㄱ", 10);
+
+		// then
+		assertThat(result).extracting(TagResponse::getName).containsExactly("한글");
+	}
+
+	@Test
+	@DisplayName("추가/삭제가 즉시 검색 결과에 반영되고 limit를 지킨다")
+	void upsertAndRemove() {
+		// given
+		index.upsert(entry(7L, "Spring Cloud", 100));
+		index.remove(2L);
+
+		// when
+		List<TagResponse> result = index.search("spring", 1);
+
+		// then
+		assertThat(result).extracting(TagResponse::getName).containsExactly("Spring Cloud");
+		assertThat(index.size()).isEqualTo(6);
+	}
+
+	private TagAutocompleteIndex.Entry entry(Long id, String name, int postCount) {
+		return new TagAutocompleteIndex.Entry(TagResponse.builder().id(id).name(name).build(), postCount);
+	}
+}
@@ -0,0 +1,91 @@
+package com.blog.security;
+
+import com.blog.entity.User;
+import com.blog.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AuthenticatedPrincipalCache 테스트")
+class AuthenticatedPrincipalCacheTest {
+
+	private JwtTokenProvider jwtTokenProvider;
+	private JwtTokenBlacklistService blacklistService;
+	private AuthenticatedPrincipalCache principalCache;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		jwtTokenProvider = mock(JwtTokenProvider.class);
+		blacklistService = mock(JwtTokenBlacklistService.class);
+		UserRepository userRepository = mock(UserRepository.class);
+		long expiresAt = System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+		for (String username : new String[] {"alice", "bob"}) {
+			for (int i = 1; i <= 2; i++) {
+				when(jwtTokenProvider.verifyToken(username + "-token-" + i))
+					.thenReturn(new VerifiedClaims(username, 0, expiresAt));
+			}
+			when(userRepository.findByUsername(username)).thenReturn(Optional.of(user(username)));
+		}
+		principalCache = new AuthenticatedPrincipalCache(jwtTokenProvider, blacklistService, userRepository,
+			mock(RedisTemplate.class), mock(RedisMessageListenerContainer.class), 100, Duration.ofMinutes(10));
+	}
+
+	@Test
+	@DisplayName("캐시 적중이어도 블랙리스트에 오른 토큰은 인증하지 않음")
+	void cacheHitChecksBlacklist() {
+		// given
+		assertThat(principalCache.resolve("alice-token-1")).isNotNull();
+		when(blacklistService.isBlacklisted("alice-token-1")).thenReturn(true);
+
+		// when
+		AuthenticatedPrincipal principal = principalCache.resolve("alice-token-1");
+
+		// then
+		assertThat(principal).isNull();
+		verify(jwtTokenProvider, times(1)).verifyToken(anyString());
+	}
+
+	@Test
+	@DisplayName("사용자 제거는 해당 사용자의 토큰 항목만 제거")
+	void evictUserRemovesOnlyThatUser() {
+		// given
+		principalCache.resolve("alice-token-1");
+		principalCache.resolve("alice-token-2");
+		principalCache.resolve("bob-token-1");
+
+		// when
+		principalCache.evictUser("alice");
+		principalCache.resolve("alice-token-1");
+		principalCache.resolve("alice-token-2");
+		principalCache.resolve("bob-token-1");
+
+		// then - alice 토큰만 다시 검증됨
+		verify(jwtTokenProvider, times(2)).verifyToken("alice-token-1");
+		verify(jwtTokenProvider, times(2)).verifyToken("alice-token-2");
+		verify(jwtTokenProvider, times(1)).verifyToken("bob-token-1");
+	}
+
+	private User user(String username) {
+		return User.builder()
+			.id((long) username.hashCode())
+			.username(username)
+			.email(username + "@example.com")
+			.password("encoded")
+			.nickname(username)
+			.role(User.Role.USER)
+			.build();
+	}
+}
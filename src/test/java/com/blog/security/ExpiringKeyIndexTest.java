@@ -0,0 +1,154 @@
+package com.blog.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ExpiringKeyIndex 테스트")
+class ExpiringKeyIndexTest {
+
+	private static final String INDEX_KEY = "rate_limit:index:ip";
+	// 테스트 실행 시각보다 충분히 뒤의 만료 시각
+	private static final long FUTURE = 5_000_000_000_000L;
+
+	private ZSetOperations<String, String> zSetOperations;
+	private ExpiringKeyIndex index;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		zSetOperations = mock(ZSetOperations.class);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		index = new ExpiringKeyIndex(redisTemplate, INDEX_KEY);
+	}
+
+	@Test
+	@DisplayName("유효 항목 수는 현재 시각 이후 점수만 ZCOUNT로 계산")
+	void countActive() {
+		// given
+		long before = System.currentTimeMillis();
+		when(zSetOperations.count(eq(INDEX_KEY), anyDouble(), eq(Double.POSITIVE_INFINITY))).thenReturn(3L);
+
+		// when
+		long count = index.countActive();
+
+		// then
+		assertThat(count).isEqualTo(3);
+		ArgumentCaptor<Double> min = ArgumentCaptor.forClass(Double.class);
+		verify(zSetOperations).count(eq(INDEX_KEY), min.capture(), eq(Double.POSITIVE_INFINITY));
+		assertThat(min.getValue()).isBetween((double) before, (double) System.currentTimeMillis());
+	}
+
+	@Test
+	@DisplayName("파이프라인/트랜잭션 안처럼 결과가 null이면 0으로 처리")
+	void countActiveNull() {
+		// given
+		when(zSetOperations.count(eq(INDEX_KEY), anyDouble(), anyDouble())).thenReturn(null);
+		when(zSetOperations.removeRangeByScore(eq(INDEX_KEY), anyDouble(), anyDouble())).thenReturn(null);
+
+		// when & then
+		assertThat(index.countActive()).isZero();
+		assertThat(index.pruneExpired()).isZero();
+	}
+
+	@Test
+	@DisplayName("만료 정리는 0부터 현재 시각까지의 점수를 제거")
+	void pruneExpired() {
+		// given
+		long before = System.currentTimeMillis();
+		when(zSetOperations.removeRangeByScore(eq(INDEX_KEY), eq(0.0), anyDouble())).thenReturn(2L);
+
+		// when
+		long removed = index.pruneExpired();
+
+		// then
+		assertThat(removed).isEqualTo(2);
+		ArgumentCaptor<Double> max = ArgumentCaptor.forClass(Double.class);
+		verify(zSetOperations).removeRangeByScore(eq(INDEX_KEY), eq(0.0), max.capture());
+		assertThat(max.getValue()).isBetween((double) before, (double) System.currentTimeMillis());
+	}
+
+	@Test
+	@DisplayName("유효 항목은 마지막으로 읽은 점수부터 이어 읽고, 같은 점수에서 이미 읽은 항목은 다시 전달하지 않음")
+	void forEachActivePagesByScore() {
+		// given - b, c는 만료 시각이 같음
+		List<ZSetOperations.TypedTuple<String>> zset = new ArrayList<>(List.of(
+			tuple("a", 1), tuple("b", 2), tuple("c", 2), tuple("d", 3), tuple("e", 4)));
+		stubRange(zset, () -> { });
+		List<String> visited = new ArrayList<>();
+
+		// when
+		long count = index.forEachActive(2, visited::add);
+
+		// then
+		assertThat(visited).containsExactly("a", "b", "c", "d", "e");
+		assertThat(count).isEqualTo(5);
+	}
+
+	@Test
+	@DisplayName("페이지 사이에 앞쪽 항목이 만료/정리되어도 뒤쪽 유효 항목을 건너뛰지 않음")
+	void forEachActiveSurvivesExpiryBetweenPages() {
+		// given - 첫 페이지를 읽은 직후 a, b가 만료되어 정리됨
+		List<ZSetOperations.TypedTuple<String>> zset = new ArrayList<>(List.of(
+			tuple("a", 1), tuple("b", 2), tuple("c", 3), tuple("d", 4), tuple("e", 5)));
+		stubRange(zset, () -> zset.removeIf(t -> t.getScore() <= FUTURE + 2));
+		List<String> visited = new ArrayList<>();
+
+		// when
+		index.forEachActive(2, visited::add);
+
+		// then
+		assertThat(visited).containsExactly("a", "b", "c", "d", "e");
+	}
+
+	// ZRANGEBYSCORE min +inf LIMIT offset count 흉내 (조회 후 afterRead 실행)
+	private void stubRange(List<ZSetOperations.TypedTuple<String>> zset, Runnable afterRead) {
+		when(zSetOperations.rangeByScoreWithScores(eq(INDEX_KEY), anyDouble(), eq(Double.POSITIVE_INFINITY),
+			anyLong(), anyLong()))
+			.thenAnswer(invocation -> {
+				double min = invocation.getArgument(1);
+				long offset = invocation.getArgument(3);
+				long count = invocation.getArgument(4);
+				Set<ZSetOperations.TypedTuple<String>> page = zset.stream()
+					.filter(t -> t.getScore() >= min)
+					.skip(offset)
+					.limit(count)
+					.collect(Collectors.toCollection(LinkedHashSet::new));
+				afterRead.run();
+				return page;
+			});
+	}
+
+	private ZSetOperations.TypedTuple<String> tuple(String member, long millisAfterFuture) {
+		return new DefaultTypedTuple<>(member, (double) (FUTURE + millisAfterFuture));
+	}
+
+	@Test
+	@DisplayName("add는 만료 시각을 점수로 기록")
+	void add() {
+		// when
+		index.add("rate_limit:ip:api:10.0.0.1", 1_700_000_000_000L);
+
+		// then
+		verify(zSetOperations).add(INDEX_KEY, "rate_limit:ip:api:10.0.0.1", 1_700_000_000_000L);
+	}
+}
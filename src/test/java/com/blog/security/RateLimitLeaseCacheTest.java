@@ -0,0 +1,88 @@
+package com.blog.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RateLimitLeaseCache 테스트")
+class RateLimitLeaseCacheTest {
+
+	private static final String KEY = "rate_limit:ip:api:10.0.0.1";
+
+	private final RateLimitLeaseCache leaseCache = new RateLimitLeaseCache(true, 0.1, 100, Duration.ofSeconds(10));
+
+	@Test
+	@DisplayName("임대받은 토큰을 모두 쓰면 다시 Redis 조회가 필요")
+	void consumeLease() {
+		// given - Redis에서 이번 요청분 포함 3개를 부여받고 원격 예산은 90개 남음
+		leaseCache.store(KEY, new RateLimitResult(true, 1000, 90, 60_000, 0), 3);
+
+		// when
+		RateLimitResult first = leaseCache.tryAcquire(KEY);
+		RateLimitResult second = leaseCache.tryAcquire(KEY);
+		RateLimitResult third = leaseCache.tryAcquire(KEY);
+
+		// then
+		assertThat(first.isAllowed()).isTrue();
+		assertThat(first.getRemaining()).isEqualTo(91);
+		assertThat(second.getRemaining()).isEqualTo(90);
+		assertThat(third).isNull();
+	}
+
+	@Test
+	@DisplayName("거절된 키는 재시도 시각까지 로컬에서 거절")
+	void blockUntilRetry() {
+		// given
+		leaseCache.store(KEY, new RateLimitResult(false, 5, 0, 300_000, 60_000), 0);
+
+		// when
+		RateLimitResult result = leaseCache.tryAcquire(KEY);
+
+		// then
+		assertThat(result.isAllowed()).isFalse();
+		assertThat(result.getRetryAfterMillis()).isPositive().isLessThanOrEqualTo(60_000);
+	}
+
+	@Test
+	@DisplayName("추가 임대분이 없으면 저장하지 않고 기존 임대분도 제거")
+	void noLeaseWithoutExtraTokens() {
+		// given
+		leaseCache.store(KEY, new RateLimitResult(true, 1000, 90, 60_000, 0), 3);
+
+		// when
+		leaseCache.store(KEY, new RateLimitResult(true, 1000, 0, 60_000, 0), 1);
+
+		// then
+		assertThat(leaseCache.tryAcquire(KEY)).isNull();
+	}
+
+	@Test
+	@DisplayName("invalidate 후에는 Redis 조회가 필요")
+	void invalidate() {
+		// given
+		leaseCache.store(KEY, new RateLimitResult(true, 1000, 90, 60_000, 0), 5);
+
+		// when
+		leaseCache.invalidate(KEY);
+
+		// then
+		assertThat(leaseCache.tryAcquire(KEY)).isNull();
+	}
+
+	@Test
+	@DisplayName("비활성화하면 임대 비율이 0이고 로컬 판정을 하지 않음")
+	void disabled() {
+		// given
+		RateLimitLeaseCache disabled = new RateLimitLeaseCache(false, 0.1, 100, Duration.ofSeconds(10));
+
+		// when
+		disabled.store(KEY, new RateLimitResult(true, 1000, 90, 60_000, 0), 5);
+
+		// then
+		assertThat(disabled.getLeaseFraction()).isZero();
+		assertThat(disabled.tryAcquire(KEY)).isNull();
+	}
+}
@@ -0,0 +1,116 @@
+package com.blog.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RateLimitService 테스트")
+class RateLimitServiceTest {
+
+	private RedisTemplate<String, String> redisTemplate;
+	private RateLimitService rateLimitService;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		// 로컬 임대를 끄고 모든 판정이 Lua 스크립트를 거치도록 함
+		RateLimitLeaseCache leaseCache = new RateLimitLeaseCache(false, 0.1, 100, Duration.ofSeconds(10));
+		rateLimitService = new RateLimitService(redisTemplate, leaseCache);
+	}
+
+	@Test
+	@DisplayName("스크립트가 토큰을 부여하면 허용하고 남은 요청 수와 리셋 시간을 그대로 전달")
+	@SuppressWarnings("unchecked")
+	void allowed() {
+		// given
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.thenReturn(List.of(1L, 4L, 60_000L, 0L));
+
+		// when
+		RateLimitResult result = rateLimitService.checkIpRateLimit("10.0.0.1", "login");
+
+		// then
+		assertThat(result.isAllowed()).isTrue();
+		assertThat(result.getLimit()).isEqualTo(5);
+		assertThat(result.getRemaining()).isEqualTo(4);
+		assertThat(result.getResetAfterMillis()).isEqualTo(60_000L);
+
+		ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+		verify(redisTemplate).execute(any(RedisScript.class), keys.capture(), args.capture());
+		assertThat(keys.getValue()).containsExactly("rate_limit:ip:login:10.0.0.1", "rate_limit:index:ip");
+		assertThat(Arrays.asList(args.getValue())).containsExactly("5", "300", "1", "0.0");
+	}
+
+	@Test
+	@DisplayName("스크립트가 토큰을 부여하지 않으면 거절하고 재시도 시간을 전달")
+	@SuppressWarnings("unchecked")
+	void denied() {
+		// given
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.thenReturn(List.of(0L, 0L, 300_000L, 1_500L));
+
+		// when
+		RateLimitResult result = rateLimitService.checkUserRateLimit("alice", "login");
+
+		// then
+		assertThat(result.isAllowed()).isFalse();
+		assertThat(result.getRemaining()).isZero();
+		assertThat(result.getRetryAfterSeconds()).isEqualTo(2);
+		assertThat(rateLimitService.isUserRateLimitExceeded("alice", "login")).isTrue();
+	}
+
+	@Test
+	@DisplayName("조회는 비용 0으로 스크립트를 실행해 사용량과 남은 시간을 계산")
+	@SuppressWarnings("unchecked")
+	void infoUsesZeroCost() {
+		// given
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.thenReturn(List.of(0L, 70L, 20_500L, 0L));
+
+		// when
+		RateLimitService.RateLimitInfo info = rateLimitService.getRateLimitInfo("10.0.0.1", "default");
+
+		// then
+		assertThat(info.getCurrentCount()).isEqualTo(30);
+		assertThat(info.getRemaining()).isEqualTo(70);
+		assertThat(info.getTtlSeconds()).isEqualTo(21);
+		ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+		verify(redisTemplate).execute(any(RedisScript.class), anyList(), args.capture());
+		assertThat(Arrays.asList(args.getValue())).containsExactly("100", "60", "0", "0.0");
+	}
+
+	@Test
+	@DisplayName("Redis 오류나 비정상 응답이면 요청을 허용")
+	@SuppressWarnings("unchecked")
+	void failOpen() {
+		// given
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+			.thenThrow(new IllegalStateException("Redis 장애"))
+			.thenReturn(List.of(1L));
+
+		// when
+		RateLimitResult onError = rateLimitService.checkIpRateLimit("10.0.0.1", "api");
+		RateLimitResult onShortReply = rateLimitService.checkIpRateLimit("10.0.0.1", "api");
+
+		// then
+		assertThat(onError.isAllowed()).isTrue();
+		assertThat(onError.getRemaining()).isEqualTo(1000);
+		assertThat(onShortReply.isAllowed()).isTrue();
+	}
+}
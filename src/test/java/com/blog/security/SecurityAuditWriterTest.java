@@ -0,0 +1,93 @@
+package com.blog.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StreamOperations;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SecurityAuditWriter 테스트")
+class SecurityAuditWriterTest {
+
+	private RedisTemplate<String, String> redisTemplate;
+	private StreamOperations<String, Object, Object> streamOperations;
+	private SimpleMeterRegistry meterRegistry;
+	private SecurityAuditWriter writer;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		streamOperations = mock(StreamOperations.class);
+		RedisOperations<String, String> pipelineOperations = mock(RedisOperations.class);
+		when(pipelineOperations.opsForStream()).thenReturn(streamOperations);
+		when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+			((SessionCallback<?>) invocation.getArgument(0)).execute(pipelineOperations);
+			return List.of();
+		});
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		if (writer != null) {
+			writer.stop();
+		}
+	}
+
+	@Test
+	@DisplayName("큐에 넣은 이벤트를 백그라운드에서 JSON으로 스트림에 기록")
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	void writesToStream() {
+		// given
+		writer = new SecurityAuditWriter(redisTemplate, new ObjectMapper(), meterRegistry, 100, 10, 1000);
+		writer.start();
+
+		// when
+		writer.enqueue(Map.of("eventType", "LOGIN_FAILED", "ipAddress", "10.0.0.1"));
+		writer.enqueue(Map.of("eventType", "TOKEN_REVOKED", "ipAddress", "10.0.0.2"));
+
+		// then
+		ArgumentCaptor<MapRecord> records = ArgumentCaptor.forClass(MapRecord.class);
+		verify(streamOperations, timeout(5000).times(2)).add(records.capture(), any(XAddOptions.class));
+		assertThat(records.getAllValues()).allSatisfy(record ->
+			assertThat(record.getStream()).isEqualTo(SecurityAuditWriter.STREAM_KEY));
+		assertThat(records.getAllValues().get(0).getValue().get("event").toString())
+			.contains("\"eventType\":\"LOGIN_FAILED\"");
+	}
+
+	@Test
+	@DisplayName("큐가 가득 차면 이벤트를 버리고 버린 건수를 기록")
+	void dropsWhenFull() {
+		// given - 백그라운드 스레드를 시작하지 않아 큐가 비워지지 않음
+		writer = new SecurityAuditWriter(redisTemplate, new ObjectMapper(), meterRegistry, 1, 10, 1000);
+
+		// when
+		boolean first = writer.enqueue(Map.of("eventType", "LOGIN_FAILED"));
+		boolean second = writer.enqueue(Map.of("eventType", "LOGIN_FAILED"));
+
+		// then
+		assertThat(first).isTrue();
+		assertThat(second).isFalse();
+		assertThat(meterRegistry.get("security.audit.dropped").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("security.audit.queue.size").gauge().value()).isEqualTo(1);
+	}
+}
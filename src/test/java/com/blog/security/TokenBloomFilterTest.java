@@ -0,0 +1,126 @@
+package com.blog.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TokenBloomFilter 테스트")
+class TokenBloomFilterTest {
+
+	@Test
+	@DisplayName("추가한 다이제스트는 항상 포함된 것으로 판정한다")
+	void noFalseNegatives() {
+		// given
+		TokenBloomFilter filter = new TokenBloomFilter(1_000, 0.01);
+
+		// when
+		for (int i = 0; i < 1_000; i++) {
+			filter.put(TokenHasher.sha256("blacklisted-" + i));
+		}
+
+		// then
+		for (int i = 0; i < 1_000; i++) {
+			assertThat(filter.mightContain(TokenHasher.sha256("blacklisted-" + i))).isTrue();
+		}
+	}
+
+	@Test
+	@DisplayName("추가하지 않은 다이제스트의 오탐률은 목표치 근처로 유지된다")
+	void falsePositiveRate() {
+		// given
+		TokenBloomFilter filter = new TokenBloomFilter(1_000, 0.01);
+		for (int i = 0; i < 1_000; i++) {
+			filter.put(TokenHasher.sha256("blacklisted-" + i));
+		}
+
+		// when
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			if (filter.mightContain(TokenHasher.sha256("valid-" + i))) {
+				falsePositives++;
+			}
+		}
+
+		// then
+		assertThat(falsePositives).isLessThan(300);
+	}
+
+	@Test
+	@DisplayName("필터 재구성 도중 폐기된 토큰도 재구성된 필터에 포함된다")
+	@SuppressWarnings("unchecked")
+	void revokeDuringRebuild() {
+		// given
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+		ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(valueOperations.get(anyString())).thenReturn("blacklisted");
+		JwtTokenBlacklistService blacklistService = new JwtTokenBlacklistService(redisTemplate,
+			mock(RedisMessageListenerContainer.class), 1_000, 0.001);
+		long expiresAt = System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+
+		// 색인 첫 페이지를 읽는 시점에 다른 요청이 토큰을 폐기
+		when(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble(), anyLong(), anyLong()))
+			.thenAnswer(invocation -> {
+				blacklistService.addToBlacklist("revoked-during-rebuild", expiresAt);
+				return Set.of(TokenHasher.sha256Hex("revoked-before-rebuild"));
+			});
+
+		// when
+		blacklistService.rebuildFilter();
+
+		// then
+		assertThat(blacklistService.isBlacklisted("revoked-before-rebuild")).isTrue();
+		assertThat(blacklistService.isBlacklisted("revoked-during-rebuild")).isTrue();
+		assertThat(blacklistService.isBlacklisted("valid-token")).isFalse();
+	}
+
+	@Test
+	@DisplayName("시작 시 원본 토큰 키로 저장된 이전 항목을 다이제스트 키로 옮긴다")
+	@SuppressWarnings("unchecked")
+	void migrateLegacyKeys() {
+		// given
+		RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+		ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+		ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+		Cursor<String> cursor = mock(Cursor.class);
+		String legacyToken = "header.payload.signature";
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn("jwt:blacklist:" + legacyToken);
+		when(redisTemplate.getExpire("jwt:blacklist:" + legacyToken, TimeUnit.MILLISECONDS)).thenReturn(60_000L);
+		JwtTokenBlacklistService blacklistService = new JwtTokenBlacklistService(redisTemplate,
+			mock(RedisMessageListenerContainer.class), 1_000, 0.001);
+
+		// when
+		blacklistService.migrateLegacyKeys();
+
+		// then
+		String hex = TokenHasher.sha256Hex(legacyToken);
+		verify(valueOperations).set("jwt:blacklist:" + hex, "blacklisted", 60_000L, TimeUnit.MILLISECONDS);
+		verify(zSetOperations).add(eq("jwt:blacklist:index"), eq(hex), anyDouble());
+		verify(redisTemplate).delete("jwt:blacklist:" + legacyToken);
+	}
+}
@@ -0,0 +1,114 @@
+package com.blog.security.detection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SubnetLoginFailureRule 테스트")
+class SubnetLoginFailureRuleTest {
+
+	private static final long BASE_MILLIS = 1_700_000_000_000L;
+
+	private SubnetLoginFailureRule newRule() {
+		return new SubnetLoginFailureRule(Duration.ofMinutes(10), 20, 5, 1_000);
+	}
+
+	@Test
+	@DisplayName("한 대역에서 여러 사용자명으로 실패가 누적되면 탐지한다")
+	void detectsFailuresAcrossUsernames() {
+		// given
+		SubnetLoginFailureRule rule = newRule();
+
+		// when
+		Optional<SuspiciousActivityDetectedEvent> detected = Optional.empty();
+		for (int i = 0; i < 20; i++) {
+			detected = rule.evaluate(new SecurityActivity("LOGIN_FAILURE", "user" + (i % 5),
+				"10.0.0." + (i % 3 + 1), BASE_MILLIS + i * 1_000L));
+			if (i < 19) {
+				assertThat(detected).isEmpty();
+			}
+		}
+
+		// then
+		assertThat(detected).isPresent();
+		assertThat(detected.get().getSubject()).isEqualTo("10.0.0.0/24");
+		assertThat(detected.get().getCount()).isEqualTo(20);
+	}
+
+	@Test
+	@DisplayName("사용자명이 하나뿐이면 대역 규칙으로는 탐지하지 않는다")
+	void ignoresSingleUsername() {
+		// given
+		SubnetLoginFailureRule rule = newRule();
+
+		// when
+		Optional<SuspiciousActivityDetectedEvent> detected = Optional.empty();
+		for (int i = 0; i < 30; i++) {
+			detected = rule.evaluate(new SecurityActivity("LOGIN_FAILURE", "admin", "10.0.0.1",
+				BASE_MILLIS + i * 1_000L));
+		}
+
+		// then
+		assertThat(detected).isEmpty();
+	}
+
+	@Test
+	@DisplayName("윈도우를 벗어난 실패는 집계에서 빠진다")
+	void expiresOldFailures() {
+		// given
+		SubnetLoginFailureRule rule = newRule();
+
+		// when
+		Optional<SuspiciousActivityDetectedEvent> detected = Optional.empty();
+		for (int i = 0; i < 20; i++) {
+			detected = rule.evaluate(new SecurityActivity("LOGIN_FAILURE", "user" + i, "10.0.0.1",
+				BASE_MILLIS + i * 60_000L));
+		}
+
+		// then
+		assertThat(detected).isEmpty();
+		assertThat(Long.parseLong(rule.snapshot(BASE_MILLIS + 19 * 60_000L)
+			.get("10.0.0.0/24").split("/")[0])).isLessThanOrEqualTo(11);
+	}
+
+	@Test
+	@DisplayName("노드별 스냅샷 값은 실패 수와 사용자명 수를 각각 더해 합친다")
+	void mergeSnapshotValues() {
+		assertThat(newRule().mergeSnapshotValues("12/3", "8/4")).isEqualTo("20/7");
+	}
+
+	@Test
+	@DisplayName("IPv4는 /24, IPv6는 /64 대역으로 묶는다")
+	void toSubnet() {
+		assertThat(SubnetLoginFailureRule.toSubnet("192.168.10.25")).isEqualTo("192.168.10.0/24");
+		assertThat(SubnetLoginFailureRule.toSubnet("2001:db8:1:2:3:4:5:6")).isEqualTo("2001:db8:1:2::/64");
+		assertThat(SubnetLoginFailureRule.toSubnet(null)).isEqualTo("unknown");
+	}
+
+	@Test
+	@DisplayName("축약/전개 표기가 달라도 같은 /64 대역은 같은 키가 된다")
+	void toSubnetNormalizesCompressedIpv6() {
+		assertThat(SubnetLoginFailureRule.toSubnet("2001:db8::1")).isEqualTo("2001:db8:0:0::/64");
+		assertThat(SubnetLoginFailureRule.toSubnet("2001:0DB8:0000:0000:ffff::2")).isEqualTo("2001:db8:0:0::/64");
+		assertThat(SubnetLoginFailureRule.toSubnet("2001:db8:0:0:1::%eth0")).isEqualTo("2001:db8:0:0::/64");
+		assertThat(SubnetLoginFailureRule.toSubnet("::1")).isEqualTo("0:0:0:0::/64");
+	}
+
+	@Test
+	@DisplayName("IPv4 매핑 IPv6 주소는 IPv4 /24 대역으로 묶는다")
+	void toSubnetMapsIpv4MappedAddresses() {
+		assertThat(SubnetLoginFailureRule.toSubnet("::ffff:192.168.10.25")).isEqualTo("192.168.10.0/24");
+		assertThat(SubnetLoginFailureRule.toSubnet("::ffff:c0a8:a19")).isEqualTo("192.168.10.0/24");
+	}
+
+	@Test
+	@DisplayName("IP 형식이 아니면 DNS 조회 없이 입력값을 그대로 키로 쓴다")
+	void toSubnetKeepsNonLiterals() {
+		assertThat(SubnetLoginFailureRule.toSubnet("localhost")).isEqualTo("localhost");
+		assertThat(SubnetLoginFailureRule.toSubnet("999.1.1.1")).isEqualTo("999.1.1.1");
+	}
+}
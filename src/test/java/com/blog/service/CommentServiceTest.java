@@ -0,0 +1,169 @@
+package com.blog.service;
+
+import com.blog.dto.response.CommentResponse;
+import com.blog.dto.response.CursorPageResponse;
+import com.blog.entity.Comment;
+import com.blog.entity.Post;
+import com.blog.entity.User;
+import com.blog.outbox.OutboxEventPublisher;
+import com.blog.repository.CommentRepository;
+import com.blog.repository.PostRepository;
+import com.blog.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CommentService 테스트")
+class CommentServiceTest {
+
+	private CommentRepository commentRepository;
+	private CommentService commentService;
+	private User author;
+
+	@BeforeEach
+	void setUp() {
+		commentRepository = mock(CommentRepository.class);
+		commentService = new CommentService(commentRepository, mock(PostRepository.class), mock(UserRepository.class),
+			mock(OutboxEventPublisher.class), new CommentTreeAssembler());
+		author = User.builder()
+			.id(1L)
+			.username("testUser")
+			.email("test@example.com")
+			.password("encodedPassword")
+			.nickname("테스트 사용자")
+			.role(User.Role.USER)
+			.isActive(true)
+			.build();
+	}
+
+	@Test
+	@DisplayName("댓글 트리는 최상위 댓글 한 페이지와 그 하위 댓글을 경로 범위 조회 1회로 읽음")
+	void getCommentTreeLoadsPageSubtreesInOneQuery() {
+		// given
+		Comment newer = comment(20L, null);
+		Comment older = comment(10L, null);
+		Comment olderReply = comment(11L, older);
+		Comment newerReply = comment(21L, newer);
+		Comment nestedReply = comment(22L, newerReply);
+		when(commentRepository.findRootCommentsFirst(7L, PageRequest.of(0, 2))).thenReturn(List.of(newer, older));
+		when(commentRepository.findRepliesInPathRange(7L, "0000000010.", "0000000020/", 7 * 11))
+			.thenReturn(List.of(olderReply, newerReply, nestedReply));
+		when(commentRepository.countRootComments(7L)).thenReturn(3L);
+
+		// when
+		Page<CommentResponse> tree = commentService.getCommentTree(7L, 0, 2, 5);
+
+		// then
+		assertThat(tree.getContent()).extracting(CommentResponse::getId).containsExactly(20L, 10L);
+		assertThat(tree.getContent().get(0).getReplies()).extracting(CommentResponse::getId).containsExactly(21L);
+		assertThat(tree.getContent().get(0).getReplies().get(0).getReplies())
+			.extracting(CommentResponse::getId).containsExactly(22L);
+		assertThat(tree.getContent().get(1).getReplies()).extracting(CommentResponse::getId).containsExactly(11L);
+		assertThat(tree.getTotalElements()).isEqualTo(3);
+		verify(commentRepository, times(1)).findRepliesInPathRange(anyLong(), anyString(), anyString(), anyInt());
+		verify(commentRepository, never()).findByPostIdAndIsDeletedFalseOrderByCreatedAtAsc(anyLong());
+	}
+
+	@Test
+	@DisplayName("깊이 제한 아래 답글이 있으면 replies를 null로 표시")
+	void getCommentTreeMarksTruncatedNodes() {
+		// given
+		Comment root = comment(1L, null);
+		Comment reply = comment(2L, root);
+		when(commentRepository.findRootCommentsFirst(7L, PageRequest.of(0, 10))).thenReturn(List.of(root));
+		when(commentRepository.findRepliesInPathRange(7L, "0000000001.", "0000000001/", 2 * 11))
+			.thenReturn(List.of(reply));
+
+		// when
+		Page<CommentResponse> tree = commentService.getCommentTree(7L, 0, 10, 0);
+
+		// then - 깊이 0이면 최상위 댓글만, 조회는 바로 아래 단계까지
+		assertThat(tree.getContent()).extracting(CommentResponse::getId).containsExactly(1L);
+		assertThat(tree.getContent().get(0).getReplies()).isNull();
+		assertThat(tree.getTotalElements()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("경로가 백필되지 않은 최상위 댓글이 있으면 게시물 전체를 한 번에 읽어 페이지의 댓글만 반환")
+	void getCommentTreeFallsBackBeforeBackfill() {
+		// given
+		Comment legacy = comment(5L, null);
+		Comment other = comment(3L, null);
+		Comment reply = comment(6L, legacy);
+		legacy.setPath(null);
+		when(commentRepository.findRootCommentsFirst(7L, PageRequest.of(0, 1))).thenReturn(List.of(legacy));
+		when(commentRepository.findByPostIdAndIsDeletedFalseOrderByCreatedAtAsc(7L))
+			.thenReturn(List.of(other, legacy, reply));
+		when(commentRepository.countRootComments(7L)).thenReturn(2L);
+
+		// when
+		Page<CommentResponse> tree = commentService.getCommentTree(7L, 0, 1, 5);
+
+		// then
+		assertThat(tree.getContent()).extracting(CommentResponse::getId).containsExactly(5L);
+		assertThat(tree.getContent().get(0).getReplies()).extracting(CommentResponse::getId).containsExactly(6L);
+		verify(commentRepository, never()).findRepliesInPathRange(anyLong(), anyString(), anyString(), anyInt());
+	}
+
+	@Test
+	@DisplayName("경로가 백필되지 않은 댓글의 스레드는 부모 ID로 하위 댓글을 깊이 우선으로 모아 커서 페이지로 반환")
+	void getThreadFallsBackBeforeBackfill() {
+		// given
+		Post post = Post.builder().id(7L).build();
+		Comment root = legacyComment(5L, null, post);
+		Comment first = legacyComment(6L, root, post);
+		Comment second = legacyComment(7L, root, post);
+		Comment nested = legacyComment(8L, first, post);
+		Comment other = legacyComment(9L, null, post);
+		when(commentRepository.findById(5L)).thenReturn(Optional.of(root));
+		when(commentRepository.findByPostIdAndIsDeletedFalseOrderByCreatedAtAsc(7L))
+			.thenReturn(List.of(root, first, second, nested, other));
+
+		// when
+		CursorPageResponse<CommentResponse> firstPage = commentService.getThread(5L, null, 2);
+		CursorPageResponse<CommentResponse> secondPage = commentService.getThread(5L, firstPage.getNextCursor(), 2);
+
+		// then
+		assertThat(firstPage.getContent()).extracting(CommentResponse::getId).containsExactly(6L, 8L);
+		assertThat(firstPage.getContent()).extracting(CommentResponse::getDepth).containsExactly(1, 2);
+		assertThat(firstPage.isHasNext()).isTrue();
+		assertThat(secondPage.getContent()).extracting(CommentResponse::getId).containsExactly(7L);
+		assertThat(secondPage.isHasNext()).isFalse();
+		verify(commentRepository, never()).findThreadAfter(anyLong(), anyString(), anyString(), any());
+	}
+
+	private Comment legacyComment(Long id, Comment parent, Post post) {
+		Comment comment = comment(id, parent);
+		comment.setPath(null);
+		comment.setPost(post);
+		return comment;
+	}
+
+	private Comment comment(Long id, Comment parent) {
+		return Comment.builder()
+			.id(id)
+			.content("댓글 " + id)
+			.author(author)
+			.parent(parent)
+			.path((parent != null ? parent.getPath() : "") + Comment.toPathSegment(id))
+			.createdAt(LocalDateTime.now())
+			.build();
+	}
+}
@@ -0,0 +1,102 @@
+package com.blog.service;
+
+import com.blog.dto.response.CommentResponse;
+import com.blog.entity.Comment;
+import com.blog.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CommentTreeAssembler 테스트")
+class CommentTreeAssemblerTest {
+
+	private final CommentTreeAssembler assembler = new CommentTreeAssembler();
+	private final List<Comment> comments = new ArrayList<>();
+	private User author;
+
+	@BeforeEach
+	void setUp() {
+		author = User.builder()
+			.id(1L)
+			.username("testUser")
+			.email("test@example.com")
+			.password("encodedPassword")
+			.nickname("테스트 사용자")
+			.role(User.Role.USER)
+			.isActive(true)
+			.build();
+	}
+
+	@Test
+	@DisplayName("부모-자식 관계대로 작성 순 트리를 만든다")
+	void assemblesTree() {
+		// given
+		Comment root1 = comment(1L, null);
+		Comment root2 = comment(2L, null);
+		Comment reply1 = comment(3L, root1);
+		Comment reply2 = comment(4L, root1);
+		comment(5L, reply1);
+
+		// when
+		List<CommentResponse> roots = assembler.assemble(comments, 5);
+
+		// then
+		assertThat(roots).extracting(CommentResponse::getId).containsExactly(1L, 2L);
+		assertThat(roots.get(0).getReplies()).extracting(CommentResponse::getId).containsExactly(3L, 4L);
+		assertThat(roots.get(0).getReplies().get(0).getReplies()).extracting(CommentResponse::getId).containsExactly(5L);
+		assertThat(roots.get(0).getReplies().get(0).getParentId()).isEqualTo(1L);
+		assertThat(roots.get(1).getReplies()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("깊이 제한을 넘는 답글은 빼고 해당 노드의 replies를 null로 둔다")
+	void limitsDepth() {
+		// given
+		Comment root = comment(1L, null);
+		Comment reply = comment(2L, root);
+		Comment nested = comment(3L, reply);
+		comment(4L, nested);
+
+		// when
+		List<CommentResponse> roots = assembler.assemble(comments, 1);
+
+		// then
+		CommentResponse replyNode = roots.get(0).getReplies().get(0);
+		assertThat(replyNode.getId()).isEqualTo(2L);
+		assertThat(replyNode.getReplies()).isNull();
+	}
+
+	@Test
+	@DisplayName("목록에 없는(삭제된) 부모의 답글은 포함하지 않는다")
+	void skipsOrphans() {
+		// given
+		Comment deletedParent = Comment.builder().id(10L).build();
+		comment(1L, null);
+		comment(2L, deletedParent);
+
+		// when
+		List<CommentResponse> roots = assembler.assemble(comments, 5);
+
+		// then
+		assertThat(roots).extracting(CommentResponse::getId).containsExactly(1L);
+		assertThat(roots.get(0).getReplies()).isEmpty();
+	}
+
+	private Comment comment(Long id, Comment parent) {
+		Comment comment = Comment.builder()
+			.id(id)
+			.content("댓글 " + id)
+			.author(author)
+			.parent(parent)
+			.createdAt(LocalDateTime.now())
+			.build();
+		comments.add(comment);
+		return comment;
+	}
+}
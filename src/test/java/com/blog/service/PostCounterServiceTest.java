@@ -0,0 +1,169 @@
+package com.blog.service;
+
+import com.blog.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PostCounterService 테스트")
+class PostCounterServiceTest {
+
+	private RedisTemplate<String, String> redisTemplate;
+	private ValueOperations<String, String> valueOperations;
+	private SetOperations<String, String> setOperations;
+	private PostRepository postRepository;
+	private TransactionTemplate transactionTemplate;
+	private PostViewCountBuffer viewCountBuffer;
+	private PostCounterService postCounterService;
+	private String lockToken;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		valueOperations = mock(ValueOperations.class);
+		setOperations = mock(SetOperations.class);
+		postRepository = mock(PostRepository.class);
+		transactionTemplate = mock(TransactionTemplate.class);
+		viewCountBuffer = new PostViewCountBuffer();
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.opsForSet()).thenReturn(setOperations);
+		when(valueOperations.setIfAbsent(eq(PostCounterService.RECONCILE_LOCK_KEY), anyString(), any(Duration.class)))
+			.thenAnswer(invocation -> {
+				lockToken = invocation.getArgument(1);
+				return true;
+			});
+		when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+			((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+		postCounterService = new PostCounterService(redisTemplate, postRepository, viewCountBuffer,
+			transactionTemplate, mock(PostLeaderboard.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	@DisplayName("처리 중 값을 DB에 반영한 뒤 DB 값 사본으로 교체")
+	void reconcileCommitsInflight() {
+		// given
+		when(setOperations.members(PostCounterService.INFLIGHT_SET_KEY)).thenReturn(Set.of());
+		when(setOperations.pop(anyString(), anyLong())).thenReturn(List.of("1", "2"));
+		when(redisTemplate.execute(eq(PostCounterService.CLAIM_SCRIPT), anyList(), any(Object[].class)))
+			.thenReturn(List.of("5", "0", "0", "2"));
+		when(postRepository.findCountersByIdIn(any()))
+			.thenReturn(List.of(new Object[] {1L, 105, 3}, new Object[] {2L, 40, 12}));
+
+		// when
+		postCounterService.reconcile();
+
+		// then
+		verify(postRepository).incrementViewCount(1L, 5L);
+		verify(postRepository).incrementLikeCount(2L, 2L);
+		ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+		verify(redisTemplate).execute(eq(PostCounterService.COMMIT_SCRIPT), keys.capture(), args.capture());
+		assertThat(keys.getValue()).containsExactly(PostCounterService.INFLIGHT_SET_KEY,
+			"post:1:views:db", "post:1:likes:db", "post:1:views:inflight", "post:1:likes:inflight",
+			"post:2:views:db", "post:2:likes:db", "post:2:views:inflight", "post:2:likes:inflight");
+		assertThat(Arrays.asList(args.getValue()))
+			.containsExactly(String.valueOf(Duration.ofDays(1).toSeconds()), "1", "105", "3", "2", "40", "12");
+		verify(redisTemplate).execute(PostCounterService.LOCK_RELEASE_SCRIPT,
+			List.of(PostCounterService.RECONCILE_LOCK_KEY), lockToken);
+	}
+
+	@Test
+	@DisplayName("DB 반영이 실패하면 처리 중 값을 남겨 두고 락만 해제")
+	void reconcileKeepsInflightOnFailure() {
+		// given
+		when(setOperations.members(PostCounterService.INFLIGHT_SET_KEY)).thenReturn(Set.of());
+		when(setOperations.pop(anyString(), anyLong())).thenReturn(List.of("1"));
+		when(redisTemplate.execute(eq(PostCounterService.CLAIM_SCRIPT), anyList(), any(Object[].class)))
+			.thenReturn(List.of("5", "0"));
+		when(postRepository.incrementViewCount(1L, 5L)).thenThrow(new IllegalStateException("DB 장애"));
+
+		// when
+		postCounterService.reconcile();
+
+		// then
+		verify(redisTemplate, never()).execute(eq(PostCounterService.COMMIT_SCRIPT), anyList(), any(Object[].class));
+		verify(redisTemplate).execute(PostCounterService.LOCK_RELEASE_SCRIPT,
+			List.of(PostCounterService.RECONCILE_LOCK_KEY), lockToken);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	@DisplayName("이전 실행이 남긴 처리 중 게시물을 새 게시물보다 먼저 반영")
+	void reconcileRetriesLeftoverInflight() {
+		// given
+		when(setOperations.members(PostCounterService.INFLIGHT_SET_KEY)).thenReturn(new LinkedHashSet<>(List.of("7")));
+		when(setOperations.pop(anyString(), anyLong())).thenReturn(List.of("8"));
+		when(redisTemplate.execute(eq(PostCounterService.CLAIM_SCRIPT), anyList(), any(Object[].class)))
+			.thenReturn(List.of("3", "0", "1", "0"));
+		when(postRepository.findCountersByIdIn(any())).thenReturn(new ArrayList<>());
+
+		// when
+		postCounterService.reconcile();
+
+		// then
+		ArgumentCaptor<List<String>> claimKeys = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<Object[]> claimArgs = ArgumentCaptor.forClass(Object[].class);
+		verify(redisTemplate).execute(eq(PostCounterService.CLAIM_SCRIPT), claimKeys.capture(), claimArgs.capture());
+		assertThat(claimKeys.getValue()).containsExactly(PostCounterService.INFLIGHT_SET_KEY,
+			"post:7:views", "post:7:views:inflight", "post:7:likes", "post:7:likes:inflight",
+			"post:8:views", "post:8:views:inflight", "post:8:likes", "post:8:likes:inflight");
+		assertThat(Arrays.asList(claimArgs.getValue())).containsExactly("7", "8");
+		verify(postRepository).incrementViewCount(7L, 3L);
+		verify(postRepository).incrementViewCount(8L, 1L);
+	}
+
+	@Test
+	@DisplayName("다른 노드가 반영 중이면 아무것도 하지 않음")
+	void reconcileSkipsWithoutLock() {
+		// given
+		when(valueOperations.setIfAbsent(eq(PostCounterService.RECONCILE_LOCK_KEY), anyString(), any(Duration.class)))
+			.thenReturn(false);
+
+		// when
+		postCounterService.reconcile();
+
+		// then
+		verify(setOperations, never()).pop(anyString(), anyLong());
+	}
+
+	@Test
+	@DisplayName("DB 값 사본이 있으면 캐시된 DB 값 대신 사본 + 처리 중 값 + 증가분으로 계산")
+	void getCountsOverlaysLiveValues() {
+		// given - 캐시된 응답은 반영 전 DB 값(100)을 가지고 있음
+		when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList("2", "3", "150", null, null, null));
+		viewCountBuffer.increment(1L);
+
+		// when
+		PostCounterService.PostCounts counts = postCounterService.getCounts(1L, 100, 4);
+
+		// then
+		assertThat(counts.getViewCount()).isEqualTo(150 + 3 + 2 + 1);
+		assertThat(counts.getLikeCount()).isEqualTo(4);
+	}
+}
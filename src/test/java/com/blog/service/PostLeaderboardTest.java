@@ -0,0 +1,175 @@
+package com.blog.service;
+
+import com.blog.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("PostLeaderboard 테스트")
+class PostLeaderboardTest {
+
+	private RedisTemplate<String, String> redisTemplate;
+	private ValueOperations<String, String> valueOperations;
+	private ZSetOperations<String, String> zSetOperations;
+	private PostRepository postRepository;
+	private PostLeaderboard leaderboard;
+	private String lockToken;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		valueOperations = mock(ValueOperations.class);
+		zSetOperations = mock(ZSetOperations.class);
+		postRepository = mock(PostRepository.class);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+		when(valueOperations.setIfAbsent(eq(PostLeaderboard.SEED_LOCK_KEY), anyString(), any(Duration.class)))
+			.thenAnswer(invocation -> {
+				lockToken = invocation.getArgument(1);
+				return true;
+			});
+		when(valueOperations.get(PostLeaderboard.SEED_LOCK_KEY)).thenAnswer(invocation -> lockToken);
+		leaderboard = new PostLeaderboard(redisTemplate, postRepository);
+	}
+
+	@Test
+	@DisplayName("모든 배치를 반영한 뒤에만 초기화 완료를 표시")
+	void seedMarksSeededAfterSuccess() {
+		// given
+		when(postRepository.findPublishedCountersAfter(eq(0L), any(Pageable.class)))
+			.thenReturn(List.<Object[]>of(new Object[] {3L, 10, 2}));
+		when(postRepository.findPublishedCountersAfter(eq(3L), any(Pageable.class))).thenReturn(List.of());
+
+		// when
+		leaderboard.seedOnStartup();
+
+		// then
+		InOrder order = inOrder(redisTemplate, postRepository, valueOperations);
+		order.verify(redisTemplate).executePipelined(any(SessionCallback.class));
+		order.verify(postRepository).findPublishedCountersAfter(eq(3L), any(Pageable.class));
+		order.verify(valueOperations).set("leaderboard:seeded", "1");
+		verify(redisTemplate).delete(PostLeaderboard.SEED_LOCK_KEY);
+	}
+
+	@Test
+	@DisplayName("초기화 도중 실패하면 완료 표시 없이 잠금만 해제해 다음 기동에서 재시도")
+	void seedFailureLeavesUnseeded() {
+		// given
+		when(postRepository.findPublishedCountersAfter(anyLong(), any(Pageable.class)))
+			.thenThrow(new IllegalStateException("DB 장애"));
+
+		// when
+		leaderboard.seedOnStartup();
+
+		// then
+		verify(valueOperations, never()).set("leaderboard:seeded", "1");
+		verify(redisTemplate).delete(PostLeaderboard.SEED_LOCK_KEY);
+	}
+
+	@Test
+	@DisplayName("이전 시도가 남긴 진행 위치 다음부터 이어서 초기화")
+	void seedResumesFromProgress() {
+		// given
+		when(valueOperations.get(PostLeaderboard.SEED_PROGRESS_KEY)).thenReturn("500");
+		when(postRepository.findPublishedCountersAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+
+		// when
+		leaderboard.seedOnStartup();
+
+		// then
+		verify(postRepository).findPublishedCountersAfter(eq(500L), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("이미 초기화되었으면 DB를 읽지 않음")
+	void seedSkipped() {
+		// given
+		when(redisTemplate.hasKey("leaderboard:seeded")).thenReturn(true);
+
+		// when
+		leaderboard.seedOnStartup();
+
+		// then
+		verify(postRepository, never()).findPublishedCountersAfter(anyLong(), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("7일 순위는 진행 중인 오늘 버킷과 직전 7일 버킷을 합산")
+	@SuppressWarnings("unchecked")
+	void weekWindowUnionsEightBuckets() {
+		// given
+		when(zSetOperations.reverseRange(anyString(), anyLong(), anyLong())).thenReturn(Set.of("1"));
+
+		// when
+		List<Long> ids = leaderboard.top(PostLeaderboard.Metric.VIEWS, PostLeaderboard.Window.WEEK, 10,
+			Function.identity());
+
+		// then
+		ArgumentCaptor<Collection<String>> others = ArgumentCaptor.forClass(Collection.class);
+		verify(zSetOperations).unionAndStore(anyString(), others.capture(), eq("leaderboard:views:7d"));
+		assertThat(others.getValue()).hasSize(7);
+		assertThat(ids).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("걸러진 게시물이 있으면 순위를 더 내려가며 limit개를 채움")
+	void topFillsPastFilteredPosts() {
+		// given - 2개 요청 시 4개씩 읽고, 1~4위 중 3개가 비공개/삭제
+		when(zSetOperations.reverseRange("leaderboard:views:all", 0, 3)).thenReturn(ranked("1", "2", "3", "4"));
+		when(zSetOperations.reverseRange("leaderboard:views:all", 4, 7)).thenReturn(ranked("5", "6"));
+		Set<Long> hidden = Set.of(1L, 2L, 4L);
+
+		// when
+		List<Long> ids = leaderboard.top(PostLeaderboard.Metric.VIEWS, PostLeaderboard.Window.ALL, 2,
+			postIds -> postIds.stream().filter(id -> !hidden.contains(id)).collect(Collectors.toList()));
+
+		// then
+		assertThat(ids).containsExactly(3L, 5L);
+	}
+
+	@Test
+	@DisplayName("순위가 끝나면 limit보다 적게 반환하고 더 읽지 않음")
+	void topStopsWhenRankingExhausted() {
+		// given
+		when(zSetOperations.reverseRange("leaderboard:views:all", 0, 3)).thenReturn(ranked("1", "2"));
+
+		// when
+		List<Long> ids = leaderboard.top(PostLeaderboard.Metric.VIEWS, PostLeaderboard.Window.ALL, 2,
+			postIds -> postIds.stream().filter(id -> id != 1L).collect(Collectors.toList()));
+
+		// then
+		assertThat(ids).containsExactly(2L);
+		verify(zSetOperations, never()).reverseRange("leaderboard:views:all", 4, 7);
+	}
+
+	private Set<String> ranked(String... members) {
+		return new LinkedHashSet<>(List.of(members));
+	}
+}
@@ -0,0 +1,99 @@
+package com.blog.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostViewCountBuffer 테스트")
+class PostViewCountBufferTest {
+
+	private final PostViewCountBuffer buffer = new PostViewCountBuffer();
+
+	@Test
+	@DisplayName("drain은 적립된 증가분을 꺼내고 버퍼를 비움")
+	void drain() {
+		// given
+		buffer.increment(1L);
+		buffer.increment(1L);
+		buffer.increment(2L);
+
+		// when
+		Map<Long, Long> deltas = buffer.drain();
+
+		// then
+		assertThat(deltas).containsEntry(1L, 2L).containsEntry(2L, 1L);
+		assertThat(buffer.getPendingDelta(1L)).isZero();
+		assertThat(buffer.drain()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("restore는 실패한 증가분을 새 증가분과 합산")
+	void restore() {
+		// given
+		buffer.increment(1L);
+		Map<Long, Long> deltas = buffer.drain();
+		buffer.increment(1L);
+
+		// when
+		buffer.restore(deltas);
+
+		// then
+		assertThat(buffer.getPendingDelta(1L)).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("drain이 빈 항목을 제거하는 동안 들어온 증가분도 잃지 않음")
+	void concurrentIncrementAndDrain() throws InterruptedException {
+		// given
+		int writers = 4;
+		int incrementsPerWriter = 50_000;
+		ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicBoolean writing = new AtomicBoolean(true);
+		AtomicLong drained = new AtomicLong();
+
+		// when - 소수의 게시물에 조회가 드문드문 들어오도록 해 빈 항목 제거와 경합시킴
+		CountDownLatch writersDone = new CountDownLatch(writers);
+		for (int w = 0; w < writers; w++) {
+			executor.submit(() -> {
+				await(start);
+				for (int i = 0; i < incrementsPerWriter; i++) {
+					buffer.increment((long) (i % 3));
+				}
+				writersDone.countDown();
+			});
+		}
+		executor.submit(() -> {
+			await(start);
+			while (writing.get()) {
+				buffer.drain().values().forEach(drained::addAndGet);
+			}
+		});
+		start.countDown();
+		writersDone.await(30, TimeUnit.SECONDS);
+		writing.set(false);
+		executor.shutdown();
+		executor.awaitTermination(30, TimeUnit.SECONDS);
+		buffer.drain().values().forEach(drained::addAndGet);
+
+		// then
+		assertThat(drained.get()).isEqualTo((long) writers * incrementsPerWriter);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package com.blog.service;
+
+import com.blog.cache.CacheInvalidationPublisher;
+import com.blog.cache.CacheNames;
+import com.blog.dto.response.ResourceVersion;
+import com.blog.repository.CategoryRepository;
+import com.blog.repository.PostRepository;
+import com.blog.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ResourceVersionService 테스트")
+class ResourceVersionServiceTest {
+
+	private PostRepository postRepository;
+	private CacheInvalidationPublisher invalidationPublisher;
+	private ResourceVersionService resourceVersionService;
+
+	@BeforeEach
+	void setUp() {
+		postRepository = mock(PostRepository.class);
+		invalidationPublisher = mock(CacheInvalidationPublisher.class);
+		resourceVersionService = new ResourceVersionService(postRepository, mock(TagRepository.class),
+			mock(CategoryRepository.class), invalidationPublisher, mock(RedisMessageListenerContainer.class),
+			100, Duration.ofMinutes(1));
+		when(postRepository.findVersionById(1L))
+			.thenReturn(Optional.of(new ResourceVersion(3L, LocalDateTime.now(), 0L)));
+	}
+
+	@Test
+	@DisplayName("제거하면 이 노드에서 비우고 캐시 무효화 채널로 다른 노드에 알림")
+	void evictPublishes() {
+		// given
+		resourceVersionService.getPostVersion(1L);
+
+		// when
+		resourceVersionService.evictPost(1L);
+		resourceVersionService.getPostVersion(1L);
+
+		// then
+		verify(invalidationPublisher).publish(CacheNames.RESOURCE_VERSION, "post:1");
+		verify(postRepository, times(2)).findVersionById(1L);
+	}
+
+	@Test
+	@DisplayName("다른 노드의 무효화 메시지는 해당 항목만 비우고 다른 캐시 메시지는 무시")
+	void onMessageEvicts() {
+		// given
+		resourceVersionService.getPostVersion(1L);
+
+		// when
+		resourceVersionService.onMessage(message(CacheNames.POST_DETAIL + ":1"), null);
+		resourceVersionService.getPostVersion(1L);
+		resourceVersionService.onMessage(message(CacheNames.RESOURCE_VERSION + ":post:1"), null);
+		resourceVersionService.getPostVersion(1L);
+
+		// then
+		verify(postRepository, times(2)).findVersionById(1L);
+	}
+
+	private static DefaultMessage message(String body) {
+		return new DefaultMessage(CacheInvalidationPublisher.CHANNEL.getBytes(StandardCharsets.UTF_8),
+			body.getBytes(StandardCharsets.UTF_8));
+	}
+}
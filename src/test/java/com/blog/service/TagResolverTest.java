@@ -0,0 +1,113 @@
+package com.blog.service;
+
+import com.blog.entity.Tag;
+import com.blog.repository.TagRepository;
+import com.blog.search.TagAutocompleteIndexer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TagResolver 테스트")
+class TagResolverTest {
+
+	// 커밋된 tags 테이블
+	private final Map<String, Tag> committed = new ConcurrentHashMap<>();
+	// 트랜잭션(스레드)별 REPEATABLE READ 스냅샷 - 첫 일반 조회 시점에 고정
+	private final ThreadLocal<Map<String, Tag>> snapshot = new ThreadLocal<>();
+	private final AtomicLong ids = new AtomicLong();
+	private final CyclicBarrier bothMissing = new CyclicBarrier(2);
+	private TagResolver tagResolver;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		TagRepository tagRepository = mock(TagRepository.class);
+		when(tagRepository.findByNameIn(any())).thenAnswer(invocation -> {
+			if (snapshot.get() == null) {
+				snapshot.set(new HashMap<>(committed));
+			}
+			return select(snapshot.get(), invocation.getArgument(0));
+		});
+		doAnswer(invocation -> {
+			// 두 트랜잭션 모두 기존 태그가 없다고 본 뒤에 INSERT(중복 건너뜀) 실행
+			bothMissing.await(10, TimeUnit.SECONDS);
+			for (String name : (Collection<String>) invocation.getArgument(0)) {
+				committed.putIfAbsent(name, Tag.builder().id(ids.incrementAndGet()).name(name).build());
+			}
+			return null;
+		}).when(tagRepository).insertMissingByNames(any());
+		when(tagRepository.findLockedByNameIn(any()))
+			.thenAnswer(invocation -> select(committed, invocation.getArgument(0)));
+		tagResolver = new TagResolver(tagRepository, mock(TagAutocompleteIndexer.class),
+			mock(RedisMessageListenerContainer.class), 100, Duration.ofMinutes(30));
+	}
+
+	@Test
+	@DisplayName("같은 새 태그를 동시에 생성해도 둘 다 같은 태그로 변환")
+	void concurrentCreateOfSameName() throws Exception {
+		// given
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		// when
+		Future<List<Tag>> first = executor.submit(() -> tagResolver.resolve(List.of("spring")));
+		Future<List<Tag>> second = executor.submit(() -> tagResolver.resolve(List.of("spring")));
+		List<Tag> firstTags = first.get(10, TimeUnit.SECONDS);
+		List<Tag> secondTags = second.get(10, TimeUnit.SECONDS);
+		executor.shutdown();
+
+		// then
+		assertThat(committed).hasSize(1);
+		assertThat(firstTags).extracting(Tag::getId).containsExactly(committed.get("spring").getId());
+		assertThat(secondTags).extracting(Tag::getId).containsExactly(committed.get("spring").getId());
+	}
+
+	@Test
+	@DisplayName("길이를 넘거나 허용하지 않는 문자가 있는 새 태그명은 DB에 보내기 전에 거부")
+	void rejectsInvalidNames() {
+		assertThatThrownBy(() -> tagResolver.resolve(List.of("a".repeat(TagResolver.MAX_NAME_LENGTH + 1))))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> tagResolver.resolve(List.of("spring boot")))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThat(committed).isEmpty();
+	}
+
+	@Test
+	@DisplayName("허용 문자 규칙 이전에 만들어진 기존 태그는 그대로 변환")
+	void resolvesExistingLegacyNames() {
+		// given
+		Tag legacy = Tag.builder().id(ids.incrementAndGet()).name("spring-boot").build();
+		committed.put(legacy.getName(), legacy);
+
+		// when
+		List<Tag> tags = tagResolver.resolve(List.of("spring-boot"));
+
+		// then
+		assertThat(tags).extracting(Tag::getId).containsExactly(legacy.getId());
+		assertThat(committed).hasSize(1);
+	}
+
+	private static List<Tag> select(Map<String, Tag> table, Collection<String> names) {
+		return names.stream().filter(table::containsKey).map(table::get).toList();
+	}
+}